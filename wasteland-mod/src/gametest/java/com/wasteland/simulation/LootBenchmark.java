@@ -0,0 +1,447 @@
+package com.wasteland.simulation;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.wasteland.WastelandRandom;
+import com.wasteland.loot.ArtifactRegistry;
+import com.wasteland.loot.CompiledLootTable;
+import com.wasteland.loot.ItemRarity;
+import com.wasteland.loot.LootGenerator;
+import com.wasteland.loot.UniqueArtifact;
+import com.wasteland.loot.WastelandItem;
+import net.minecraft.world.item.ArmorItem;
+import net.minecraft.world.item.ItemStack;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Headless loot distribution benchmark.
+ *
+ * Generates chests at a set of depths and reports item categories, equipment rarities,
+ * randart power budgets, unique artifact frequency and throughput. Each depth is split into
+ * shards rolled in parallel, each shard from its own stream derived from the config seed,
+ * so a report does not depend on the thread count. The distribution statistics are compared
+ * with the committed baseline (loot/baseline.json); every drift beyond the configured
+ * tolerances is returned as a failure. The baseline is only ever written by a recorded run
+ * (-PlootRecordBaseline), never by hand; until one is committed the check fails. Throughput
+ * depends on the machine, so it is only reported, never checked.
+ *
+ * Items need the game bootstrapped, so unlike BalanceRunner this runs inside a
+ * GameTestServer: LootBenchmarkGameTest, started with ./gradlew lootBenchmark.
+ */
+public final class LootBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    public static final String CONFIG_PATH = "loot/benchmark.json";
+    public static final String BASELINE_PATH = "loot/baseline.json";
+    private static final String PROPERTY_PREFIX = "wasteland.lootBenchmark.";
+    private static final int POWER_BUCKET = 5; // Width of the randart power budget histogram buckets
+
+    // Logs every randart and unique it rolls
+    private static final String[] QUIET_LOGGERS = {LootGenerator.class.getName()};
+
+    private static final String[] CATEGORIES = {"weapon", "armor", "consumable", "treasure"};
+    private static final int WEAPON = 0;
+    private static final int ARMOR = 1;
+    private static final int CONSUMABLE = 2;
+    private static final int TREASURE = 3;
+
+    private LootBenchmark() {
+    }
+
+    // ===== Config and report (JSON) =====
+
+    public static class Config {
+        public long seed;
+        public int chests_per_depth;
+        public int shards;
+        public List<Integer> depths;
+        public Tolerance tolerance;
+    }
+
+    public static class Tolerance {
+        public double share;           // Absolute, for category and rarity shares
+        public double items_per_chest; // Relative
+        public double unique_rate;     // Absolute
+    }
+
+    public static class Report {
+        public long seed;
+        public int chests_per_depth;
+        public List<DepthReport> depths = new ArrayList<>();
+    }
+
+    public static class DepthReport {
+        public int depth;
+        public long chests;
+        public long items;
+        public double items_per_chest;
+        public Map<String, Double> categories = new LinkedHashMap<>(); // Share of all items
+        public Map<String, Double> rarities = new LinkedHashMap<>();   // Share of weapons and armor
+        public double unique_rate;                                     // Uniques per weapon or armor
+        public Map<String, Long> artifacts = new TreeMap<>();          // Unique artifact id -> count
+        public Map<String, Long> randart_power = new LinkedHashMap<>(); // Power budget range -> count
+        public double items_per_second;                                 // Reported only
+    }
+
+    /**
+     * The statistics a run is checked against (a report without its counts and throughput)
+     */
+    public static class Baseline {
+        public String description;
+        public long seed;
+        public int chests_per_depth;
+        public List<DepthBaseline> depths = new ArrayList<>();
+    }
+
+    public static class DepthBaseline {
+        public int depth;
+        public double items_per_chest;
+        public Map<String, Double> categories = new LinkedHashMap<>();
+        public Map<String, Double> rarities = new LinkedHashMap<>();
+        public double unique_rate;
+    }
+
+    // ===== Running =====
+
+    /**
+     * Run with the bundled config, overridden by system properties, and check against the committed baseline.
+     *
+     * wasteland.lootBenchmark.chests overrides the chests per depth and .report is the report path.
+     * If .record is set, the run's distribution statistics are written there as the new baseline
+     * instead of being checked.
+     * @return Drift failures (empty if the run matches the baseline)
+     */
+    public static List<String> runFromProperties() {
+        Config config = loadConfig();
+        config.chests_per_depth = Integer.getInteger(PROPERTY_PREFIX + "chests", config.chests_per_depth);
+        Path reportPath = Paths.get(System.getProperty(PROPERTY_PREFIX + "report", "loot-report.json"));
+        String recordPath = System.getProperty(PROPERTY_PREFIX + "record");
+
+        try {
+            Report report = run(config);
+            writeJson(report, reportPath);
+            LOGGER.info("Loot benchmark report written to {}", reportPath.toAbsolutePath());
+
+            if (recordPath != null) {
+                writeJson(toBaseline(report), Paths.get(recordPath));
+                LOGGER.info("Loot baseline recorded to {}", Paths.get(recordPath).toAbsolutePath());
+                return List.of();
+            }
+
+            Baseline baseline = loadBaseline();
+            if (baseline == null) {
+                return List.of("no loot baseline at " + BASELINE_PATH + " (record one with -PlootRecordBaseline)");
+            }
+
+            List<String> failures = compare(report, baseline, config.tolerance);
+            for (String failure : failures) {
+                LOGGER.error("Loot drift: {}", failure);
+            }
+            return failures;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generate the configured chests at every configured depth
+     */
+    public static Report run(Config config) {
+        CompiledLootTable table = LootGenerator.chestTable();
+        Map<String, String> uniqueIds = new HashMap<>();
+        for (UniqueArtifact artifact : ArtifactRegistry.getAllArtifacts()) {
+            uniqueIds.put(artifact.getDisplayName(), artifact.getId());
+        }
+
+        Report report = new Report();
+        report.seed = config.seed;
+        report.chests_per_depth = config.chests_per_depth;
+        int shards = Math.max(1, config.shards);
+
+        // Keep millions of randart and unique rolls out of the log
+        Level[] previousLevels = new Level[QUIET_LOGGERS.length];
+        for (int i = 0; i < QUIET_LOGGERS.length; i++) {
+            previousLevels[i] = LogManager.getLogger(QUIET_LOGGERS[i]).getLevel();
+            Configurator.setLevel(QUIET_LOGGERS[i], Level.WARN);
+        }
+        try {
+            for (int depth : config.depths) {
+                long start = System.nanoTime();
+                Tally total = IntStream.range(0, shards).parallel()
+                    .mapToObj(shard -> rollShard(config, depth, shard, shards, table, uniqueIds))
+                    .reduce(Tally::merge)
+                    .orElseGet(() -> new Tally(table, uniqueIds));
+                DepthReport depthReport = total.toReport(depth, System.nanoTime() - start);
+                report.depths.add(depthReport);
+                logSummary(depthReport);
+            }
+        } finally {
+            for (int i = 0; i < QUIET_LOGGERS.length; i++) {
+                Configurator.setLevel(QUIET_LOGGERS[i], previousLevels[i]);
+            }
+        }
+        return report;
+    }
+
+    private static Tally rollShard(Config config, int depth, int shard, int shards,
+                                   CompiledLootTable table, Map<String, String> uniqueIds) {
+        int chests = config.chests_per_depth / shards + (shard < config.chests_per_depth % shards ? 1 : 0);
+        WastelandRandom random = new WastelandRandom(config.seed).derive(depth).derive(shard);
+        Tally tally = new Tally(table, uniqueIds);
+
+        for (int i = 0; i < chests; i++) {
+            tally.chests++;
+            for (ItemStack stack : LootGenerator.generateChestLootDetached(depth, random)) {
+                tally.add(stack);
+            }
+        }
+        return tally;
+    }
+
+    private static void logSummary(DepthReport report) {
+        StringBuilder categories = new StringBuilder();
+        report.categories.forEach((name, share) -> categories.append(String.format(" %s %.1f%%", name, share * 100)));
+        StringBuilder rarities = new StringBuilder();
+        report.rarities.forEach((name, share) -> rarities.append(String.format(" %s %.1f%%", name, share * 100)));
+
+        LOGGER.info("Depth {}: {} chests, {} items/chest |{} |{} | uniques {}% | {} items/s",
+            report.depth, report.chests, String.format("%.2f", report.items_per_chest), categories, rarities,
+            String.format("%.3f", report.unique_rate * 100), String.format("%.0f", report.items_per_second));
+    }
+
+    // ===== Comparison =====
+
+    /**
+     * Drift of a report from a baseline beyond the tolerances (a depth missing from the baseline is a failure)
+     */
+    public static List<String> compare(Report report, Baseline baseline, Tolerance tolerance) {
+        List<String> failures = new ArrayList<>();
+        Map<Integer, DepthBaseline> baselineByDepth = new HashMap<>();
+        for (DepthBaseline depthBaseline : baseline.depths) {
+            baselineByDepth.put(depthBaseline.depth, depthBaseline);
+        }
+
+        for (DepthReport current : report.depths) {
+            DepthBaseline base = baselineByDepth.get(current.depth);
+            if (base == null) {
+                failures.add(String.format("depth %d has no baseline (re-record it)", current.depth));
+                continue;
+            }
+            int depth = current.depth;
+
+            checkShares(failures, depth, "category", current.categories, base.categories, tolerance.share);
+            checkShares(failures, depth, "rarity", current.rarities, base.rarities, tolerance.share);
+
+            double itemsDrift = base.items_per_chest > 0
+                ? Math.abs(current.items_per_chest - base.items_per_chest) / base.items_per_chest : 0;
+            if (itemsDrift > tolerance.items_per_chest) {
+                failures.add(String.format("depth %d items per chest: %.3f vs baseline %.3f (tolerance %.1f%%)",
+                    depth, current.items_per_chest, base.items_per_chest, tolerance.items_per_chest * 100));
+            }
+
+            if (Math.abs(current.unique_rate - base.unique_rate) > tolerance.unique_rate) {
+                failures.add(String.format("depth %d unique rate: %.4f vs baseline %.4f (tolerance %.4f)",
+                    depth, current.unique_rate, base.unique_rate, tolerance.unique_rate));
+            }
+        }
+        return failures;
+    }
+
+    private static void checkShares(List<String> failures, int depth, String kind,
+                                    Map<String, Double> current, Map<String, Double> baseline, double tolerance) {
+        Set<String> keys = new LinkedHashSet<>(baseline.keySet());
+        keys.addAll(current.keySet());
+        for (String key : keys) {
+            double now = current.getOrDefault(key, 0.0);
+            double before = baseline.getOrDefault(key, 0.0);
+            if (Math.abs(now - before) > tolerance) {
+                failures.add(String.format("depth %d %s %s: %.4f vs baseline %.4f (tolerance %.4f)",
+                    depth, kind, key, now, before, tolerance));
+            }
+        }
+    }
+
+    /**
+     * Distribution statistics of a report, to be committed as the baseline
+     */
+    public static Baseline toBaseline(Report report) {
+        Baseline baseline = new Baseline();
+        baseline.description = "Loot distribution baseline for LootBenchmark (distribution statistics only, "
+            + "no throughput). Re-record with ./gradlew lootBenchmark -PlootRecordBaseline after an intended loot change";
+        baseline.seed = report.seed;
+        baseline.chests_per_depth = report.chests_per_depth;
+        for (DepthReport depthReport : report.depths) {
+            DepthBaseline depth = new DepthBaseline();
+            depth.depth = depthReport.depth;
+            depth.items_per_chest = depthReport.items_per_chest;
+            depth.categories.putAll(depthReport.categories);
+            depth.rarities.putAll(depthReport.rarities);
+            depth.unique_rate = depthReport.unique_rate;
+            baseline.depths.add(depth);
+        }
+        return baseline;
+    }
+
+    // ===== Files =====
+
+    public static Config loadConfig() {
+        Config config = readResource(CONFIG_PATH, Config.class);
+        if (config == null) {
+            throw new IllegalStateException("Loot benchmark config not found: " + CONFIG_PATH);
+        }
+        return config;
+    }
+
+    /**
+     * The committed baseline (null if it is missing)
+     */
+    public static Baseline loadBaseline() {
+        return readResource(BASELINE_PATH, Baseline.class);
+    }
+
+    private static <T> T readResource(String path, Class<T> type) {
+        try (InputStream stream = LootBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+            if (stream == null) {
+                return null;
+            }
+            return GSON.fromJson(new InputStreamReader(stream, StandardCharsets.UTF_8), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a report or baseline as JSON
+     */
+    public static void writeJson(Object json, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(json, writer);
+        }
+    }
+
+    // ===== Counting =====
+
+    /**
+     * Counts for one shard of one depth (confined to one thread until merged)
+     */
+    private static final class Tally {
+        private final CompiledLootTable table;
+        private final Map<String, String> uniqueIds;
+
+        long chests;
+        long items;
+        long equipment;
+        long uniques;
+        final long[] categories = new long[CATEGORIES.length];
+        final long[] rarities = new long[ItemRarity.values().length];
+        final Map<String, Long> artifacts = new HashMap<>();
+        final Map<Integer, Long> randartPower = new TreeMap<>(); // Bucket start -> count
+
+        Tally(CompiledLootTable table, Map<String, String> uniqueIds) {
+            this.table = table;
+            this.uniqueIds = uniqueIds;
+        }
+
+        void add(ItemStack stack) {
+            items++;
+            if (!WastelandItem.isWastelandItem(stack)) {
+                categories[table.isConsumable(stack.getItem()) ? CONSUMABLE : TREASURE]++;
+                return;
+            }
+
+            categories[stack.getItem() instanceof ArmorItem ? ARMOR : WEAPON]++;
+            equipment++;
+            Probe probe = new Probe(stack);
+            rarities[probe.getRarity().ordinal()]++;
+
+            if (probe.getRarity() == ItemRarity.ARTIFACT) {
+                uniques++;
+                String name = probe.getCustomName();
+                artifacts.merge(uniqueIds.getOrDefault(name, String.valueOf(name)), 1L, Long::sum);
+            } else if (probe.getRarity() == ItemRarity.RANDART) {
+                int bucket = probe.getTotalPowerLevel() / POWER_BUCKET * POWER_BUCKET;
+                randartPower.merge(bucket, 1L, Long::sum);
+            }
+        }
+
+        Tally merge(Tally other) {
+            chests += other.chests;
+            items += other.items;
+            equipment += other.equipment;
+            uniques += other.uniques;
+            for (int i = 0; i < categories.length; i++) {
+                categories[i] += other.categories[i];
+            }
+            for (int i = 0; i < rarities.length; i++) {
+                rarities[i] += other.rarities[i];
+            }
+            other.artifacts.forEach((id, count) -> artifacts.merge(id, count, Long::sum));
+            other.randartPower.forEach((bucket, count) -> randartPower.merge(bucket, count, Long::sum));
+            return this;
+        }
+
+        DepthReport toReport(int depth, long nanos) {
+            DepthReport report = new DepthReport();
+            report.depth = depth;
+            report.chests = chests;
+            report.items = items;
+            report.items_per_chest = chests > 0 ? (double) items / chests : 0;
+            for (int i = 0; i < CATEGORIES.length; i++) {
+                report.categories.put(CATEGORIES[i], share(categories[i], items));
+            }
+            for (ItemRarity rarity : ItemRarity.values()) {
+                report.rarities.put(rarity.name().toLowerCase(), share(rarities[rarity.ordinal()], equipment));
+            }
+            report.unique_rate = share(uniques, equipment);
+            report.artifacts.putAll(artifacts);
+            randartPower.forEach((bucket, count) -> report.randart_power.put(bucket + "-" + (bucket + POWER_BUCKET - 1), count));
+            report.items_per_second = nanos > 0 ? items * 1e9 / nanos : 0;
+            return report;
+        }
+
+        private static double share(long count, long total) {
+            return total > 0 ? (double) count / total : 0;
+        }
+    }
+
+    /**
+     * Reads the common Wasteland item NBT of a generated stack
+     */
+    private static final class Probe extends WastelandItem {
+        Probe(ItemStack stack) {
+            super(stack);
+        }
+
+        @Override
+        protected String getBaseItemName() {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.wasteland.simulation;
+
+import com.wasteland.WastelandMod;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.List;
+
+/**
+ * Runs LootBenchmark on the GameTestServer, where items and registries are bootstrapped.
+ * Started by the lootBenchmark Gradle task; fails when loot drifts from the committed baseline.
+ */
+@GameTestHolder(WastelandMod.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class LootBenchmarkGameTest {
+
+    /**
+     * Generate chests at every configured depth and compare with the committed baseline
+     */
+    @GameTest(template = "forge:empty3x3x3")
+    public static void lootDistribution(GameTestHelper helper) {
+        List<String> failures = LootBenchmark.runFromProperties();
+        if (!failures.isEmpty()) {
+            helper.fail(failures.size() + " loot checks drifted from the baseline, first: " + failures.get(0));
+        }
+        helper.succeed();
+    }
+}
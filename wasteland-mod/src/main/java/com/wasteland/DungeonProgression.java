@@ -1,5 +1,6 @@
 package com.wasteland;
 
+import com.wasteland.player.PlayerStateStore;
 import com.wasteland.player.RuneInventory;
 import com.wasteland.worldgen.DungeonInstance;
 import com.wasteland.worldgen.DungeonManager;
@@ -10,8 +11,6 @@ import net.minecraft.world.entity.player.Player;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -21,13 +20,13 @@ public class DungeonProgression {
     private static final Logger LOGGER = LogManager.getLogger();
 
     // Track each player's current dungeon depth
-    private static final Map<UUID, Integer> PLAYER_DEPTHS = new HashMap<>();
+    private static final PlayerStateStore<Integer> PLAYER_DEPTHS = PlayerStateStore.sided("dungeon_depths");
 
     // Track which dungeon instance each player is currently in
-    private static final Map<UUID, UUID> PLAYER_CURRENT_DUNGEON = new HashMap<>();
+    private static final PlayerStateStore<UUID> PLAYER_CURRENT_DUNGEON = PlayerStateStore.sided("current_dungeons");
 
     // Track which floor of the current dungeon the player is on
-    private static final Map<UUID, Integer> PLAYER_DUNGEON_FLOOR = new HashMap<>();
+    private static final PlayerStateStore<Integer> PLAYER_DUNGEON_FLOOR = PlayerStateStore.sided("dungeon_floors");
 
     /**
      * Get player's current dungeon depth (0 = surface, 1+ = underground)
@@ -36,6 +35,13 @@ public class DungeonProgression {
         return PLAYER_DEPTHS.getOrDefault(playerId, 0);
     }
 
+    /**
+     * Check if a depth is tracked for the player (restored from saved data or set this session)
+     */
+    public static boolean hasDepth(UUID playerId) {
+        return PLAYER_DEPTHS.containsKey(playerId);
+    }
+
     /**
      * Set player's dungeon depth
      */
@@ -86,7 +92,10 @@ public class DungeonProgression {
         int depth = getDepth(playerId);
         VaultSelector.VaultTier tier = getTierForDepth(depth);
 
-        String vault = VaultSelector.getRandomVault(tier);
+        WastelandRandom floorRandom = getFloorRandom(playerId);
+        String vault = floorRandom != null
+            ? VaultSelector.getRandomVault(tier, floorRandom.derive("vault"))
+            : VaultSelector.getRandomVault(tier);
 
         LOGGER.info("Selected {} tier vault for depth {}: {}", tier, depth, vault);
         return vault;
@@ -133,6 +142,18 @@ public class DungeonProgression {
         return PLAYER_DUNGEON_FLOOR.getOrDefault(playerId, 0);
     }
 
+    /**
+     * Random stream for the dungeon floor the player is on, or null outside a dungeon instance
+     */
+    public static WastelandRandom getFloorRandom(UUID playerId) {
+        UUID dungeonId = getCurrentDungeon(playerId);
+        if (dungeonId == null) {
+            return null;
+        }
+        DungeonInstance dungeon = DungeonManager.getDungeon(dungeonId);
+        return dungeon != null ? dungeon.getFloorRandom(getCurrentDungeonFloor(playerId)) : null;
+    }
+
     /**
      * Descend one floor in the current dungeon
      * Returns true if rune was awarded (reached bottom of max-level dungeon)
@@ -221,36 +242,62 @@ public class DungeonProgression {
     }
 
     /**
-     * Save progression data to NBT
+     * Save one player's progression to NBT
      */
-    public static CompoundTag save(CompoundTag tag) {
-        // Save player depths
-        CompoundTag depthsTag = new CompoundTag();
-        for (Map.Entry<UUID, Integer> entry : PLAYER_DEPTHS.entrySet()) {
-            depthsTag.putInt(entry.getKey().toString(), entry.getValue());
+    public static CompoundTag save(UUID playerId, CompoundTag tag) {
+        Integer depth = PLAYER_DEPTHS.get(playerId);
+        if (depth != null) {
+            tag.putInt("Depth", depth);
         }
-        tag.put("PlayerDepths", depthsTag);
-
-        // Save current dungeons
-        CompoundTag currentDungeonsTag = new CompoundTag();
-        for (Map.Entry<UUID, UUID> entry : PLAYER_CURRENT_DUNGEON.entrySet()) {
-            currentDungeonsTag.putUUID(entry.getKey().toString(), entry.getValue());
+        UUID dungeonId = PLAYER_CURRENT_DUNGEON.get(playerId);
+        if (dungeonId != null) {
+            tag.putUUID("CurrentDungeon", dungeonId);
+        }
+        Integer floor = PLAYER_DUNGEON_FLOOR.get(playerId);
+        if (floor != null) {
+            tag.putInt("DungeonFloor", floor);
         }
-        tag.put("CurrentDungeons", currentDungeonsTag);
+        return tag;
+    }
 
-        // Save dungeon floors
-        CompoundTag floorsTag = new CompoundTag();
-        for (Map.Entry<UUID, Integer> entry : PLAYER_DUNGEON_FLOOR.entrySet()) {
-            floorsTag.putInt(entry.getKey().toString(), entry.getValue());
+    /**
+     * Load one player's progression from NBT (replaces what is in memory)
+     */
+    public static void load(UUID playerId, CompoundTag tag) {
+        unload(playerId);
+        if (tag.contains("Depth")) {
+            PLAYER_DEPTHS.put(playerId, tag.getInt("Depth"));
         }
-        tag.put("DungeonFloors", floorsTag);
+        if (tag.hasUUID("CurrentDungeon")) {
+            PLAYER_CURRENT_DUNGEON.put(playerId, tag.getUUID("CurrentDungeon"));
+        }
+        if (tag.contains("DungeonFloor")) {
+            PLAYER_DUNGEON_FLOOR.put(playerId, tag.getInt("DungeonFloor"));
+        }
+    }
 
-        LOGGER.debug("Saved progression data for {} players", PLAYER_DEPTHS.size());
-        return tag;
+    /**
+     * Drop a player's progression from memory once it has been saved (player logged out)
+     */
+    public static void unload(UUID playerId) {
+        PLAYER_DEPTHS.remove(playerId);
+        PLAYER_CURRENT_DUNGEON.remove(playerId);
+        PLAYER_DUNGEON_FLOOR.remove(playerId);
+    }
+
+    /**
+     * Players with progression data in memory
+     */
+    public static java.util.Set<UUID> getTrackedPlayers() {
+        java.util.Set<UUID> players = new java.util.HashSet<>(PLAYER_DEPTHS.keySet());
+        players.addAll(PLAYER_CURRENT_DUNGEON.keySet());
+        players.addAll(PLAYER_DUNGEON_FLOOR.keySet());
+        return players;
     }
 
     /**
-     * Load progression data from NBT
+     * Load all players' progression from the world-wide data of older saves
+     * (kept only so PlayerDataStore can migrate it into per-player files)
      */
     public static void load(CompoundTag tag) {
         clearAll();
@@ -1,6 +1,8 @@
 package com.wasteland;
 
 import com.google.gson.Gson;
+import com.wasteland.loot.ChestSite;
+import com.wasteland.loot.LootGenerator;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
@@ -14,6 +16,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Renders DCSS-style dungeon rooms in Minecraft
@@ -125,6 +129,29 @@ public class DungeonRenderer {
      * @return Safe spawn position in the center of the room
      */
     public static BlockPos renderRoomFromJson(ServerLevel level, BlockPos playerPos, String jsonPath) {
+        return renderRoomFromJson(level, playerPos, jsonPath, null);
+    }
+
+    /**
+     * Renders a room from a JSON file, rolling its monsters from a dungeon floor's random stream
+     *
+     * @param floorRandom Floor stream from DungeonInstance.getFloorRandom, or null for the shared spawn stream
+     */
+    public static BlockPos renderRoomFromJson(ServerLevel level, BlockPos playerPos, String jsonPath,
+                                              WastelandRandom floorRandom) {
+        return renderRoomFromJson(level, playerPos, jsonPath, floorRandom, 0);
+    }
+
+    /**
+     * Renders a room from a JSON file and fills its chests with loot for a dungeon depth
+     *
+     * @param floorRandom Floor stream from DungeonInstance.getFloorRandom, or null for the shared streams
+     * @param depth Dungeon depth for chest loot (0 leaves chests empty)
+     */
+    public static BlockPos renderRoomFromJson(ServerLevel level, BlockPos playerPos, String jsonPath,
+                                              WastelandRandom floorRandom, int depth) {
+        WastelandRandom spawnRandom = floorRandom != null ? floorRandom.derive("monsters") : null;
+
         LOGGER.info("═══════════════════════════════════════════════════════");
         LOGGER.info("  Wasteland Crawl - Loading Room from JSON!");
         LOGGER.info("  JSON Path: {}", jsonPath);
@@ -216,6 +243,7 @@ public class DungeonRenderer {
             }
 
             // Render features (torches, chests, portals, monsters, etc.)
+            List<ChestSite> chestSites = new ArrayList<>();
             if (roomData.features != null) {
                 for (RoomData.Feature feature : roomData.features) {
                     BlockPos featurePos = origin.offset(feature.x, feature.y, feature.z);
@@ -224,7 +252,11 @@ public class DungeonRenderer {
                     if (feature.type.equals("monster_spawn")) {
                         // Spawn monster at this position
                         if (feature.monster_tier != null) {
-                            MonsterSpawner.spawnMonster(level, featurePos, feature.monster_tier);
+                            if (spawnRandom != null) {
+                                MonsterSpawner.spawnMonster(level, featurePos, feature.monster_tier, spawnRandom);
+                            } else {
+                                MonsterSpawner.spawnMonster(level, featurePos, feature.monster_tier);
+                            }
                             LOGGER.debug("Spawned tier {} monster at {}", feature.monster_tier, featurePos);
                         }
                         // Don't place the red wool marker block in-game
@@ -239,7 +271,22 @@ public class DungeonRenderer {
                     if (feature.type.startsWith("portal_")) {
                         registerPortalFeature(featurePos, feature);
                     }
+
+                    // Collect chests to fill in one batch
+                    if (feature.type.equals("item_spawn")) {
+                        chestSites.add(new ChestSite(featurePos));
+                    }
+                }
+            }
+
+            // Roll every chest of the vault together, off the server thread
+            if (depth > 0 && !chestSites.isEmpty()) {
+                if (floorRandom != null) {
+                    LootGenerator.fillChestsAsync(level, chestSites, depth, floorRandom.derive("loot").nextLong());
+                } else {
+                    LootGenerator.fillChestsAsync(level, chestSites, depth);
                 }
+                LOGGER.info("  Filling {} chests for depth {}", chestSites.size(), depth);
             }
 
             // Add automatic lighting throughout the dungeon
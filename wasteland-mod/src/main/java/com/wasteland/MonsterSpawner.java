@@ -9,15 +9,13 @@ import net.minecraft.world.entity.monster.*;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.Random;
-
 /**
  * Spawns Minecraft monsters based on DCSS monster tiers
  * Maps wasteland creatures to Minecraft equivalents
  */
 public class MonsterSpawner {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Random RANDOM = new Random();
+    private static final WastelandRandom.Stream SPAWN_STREAM = WastelandRandom.stream("spawns");
 
     /**
      * Spawn a monster at the given position based on DCSS tier
@@ -27,6 +25,13 @@ public class MonsterSpawner {
      * @param tier DCSS monster tier (1-9, or "1", "2", etc. as string)
      */
     public static void spawnMonster(ServerLevel level, BlockPos pos, String tier) {
+        spawnMonster(level, pos, tier, SPAWN_STREAM.get());
+    }
+
+    /**
+     * Spawn a monster, picking the mob type from a specific random stream (e.g. a dungeon floor's)
+     */
+    public static void spawnMonster(ServerLevel level, BlockPos pos, String tier, WastelandRandom random) {
         int tierNum;
         try {
             tierNum = Integer.parseInt(tier);
@@ -35,61 +40,73 @@ public class MonsterSpawner {
             tierNum = 1;
         }
 
-        EntityType<? extends Mob> mobType = getMobTypeForTier(tierNum);
+        EntityType<? extends Mob> mobType = getMobTypeForTier(tierNum, random);
         spawnMobAtPosition(level, pos, mobType);
     }
 
+    // Spawn tables per tier band, built on first use (mod entity types must be registered first)
+    private static volatile WeightedTable<EntityType<? extends Mob>>[] tierTables;
+
     /**
      * Map DCSS tier to Minecraft mob type
      * Tiers follow DCSS depth progression
      * Now includes expanded Fallout-style robot roster
      */
-    private static EntityType<? extends Mob> getMobTypeForTier(int tier) {
-        // Tier 1-3: Early game (Depths 1-5) - Weak wasteland scavengers + light robots
-        if (tier <= 3) {
-            EntityType<?>[] earlyMobs = {
-                EntityType.ZOMBIE,          // Tier 1: Basic undead
-                EntityType.SKELETON,        // Tier 1: Ranged threat
-                EntityType.SPIDER,          // Tier 2: Fast melee
-                EntityType.CAVE_SPIDER,     // Tier 2: Poisonous
-                EntityType.HUSK,            // Tier 3: Wasteland zombie variant
-                ModEntities.EYEBOT.get(),   // Tier 1: Surveillance drone (ROBOT)
-                ModEntities.PROTECTRON.get(),// Tier 2: Security robot (ROBOT)
-                ModEntities.MR_HANDY.get(), // Tier 2: Utility robot (ROBOT)
-                ModEntities.SECURITY_BOT.get() // Tier 3: Improved security (ROBOT)
-            };
-            return (EntityType<? extends Mob>) earlyMobs[RANDOM.nextInt(earlyMobs.length)];
+    private static EntityType<? extends Mob> getMobTypeForTier(int tier, WastelandRandom random) {
+        WeightedTable<EntityType<? extends Mob>>[] tables = tierTables;
+        if (tables == null) {
+            tables = buildTierTables();
+            tierTables = tables;
         }
+        int band = tier <= 3 ? 0 : tier <= 6 ? 1 : 2;
+        return tables[band].sample(random);
+    }
+
+    /**
+     * Spawn weights per tier band (equal weights; tune here to make a mob rarer)
+     */
+    @SuppressWarnings("unchecked")
+    private static WeightedTable<EntityType<? extends Mob>>[] buildTierTables() {
+        // Tier 1-3: Early game (Depths 1-5) - Weak wasteland scavengers + light robots
+        WeightedTable<EntityType<? extends Mob>> early = new WeightedTable.Builder<EntityType<? extends Mob>>()
+            .add(EntityType.ZOMBIE, 1)          // Tier 1: Basic undead
+            .add(EntityType.SKELETON, 1)        // Tier 1: Ranged threat
+            .add(EntityType.SPIDER, 1)          // Tier 2: Fast melee
+            .add(EntityType.CAVE_SPIDER, 1)     // Tier 2: Poisonous
+            .add(EntityType.HUSK, 1)            // Tier 3: Wasteland zombie variant
+            .add(ModEntities.EYEBOT.get(), 1)   // Tier 1: Surveillance drone (ROBOT)
+            .add(ModEntities.PROTECTRON.get(), 1)// Tier 2: Security robot (ROBOT)
+            .add(ModEntities.MR_HANDY.get(), 1) // Tier 2: Utility robot (ROBOT)
+            .add(ModEntities.SECURITY_BOT.get(), 1) // Tier 3: Improved security (ROBOT)
+            .build();
+
         // Tier 4-6: Mid game (Depths 6-10) - Dangerous mutants + combat robots
-        else if (tier <= 6) {
-            EntityType<?>[] midMobs = {
-                EntityType.CREEPER,         // Tier 4: Explosive threat
-                EntityType.STRAY,           // Tier 4: Ranged slowness
-                EntityType.WITCH,           // Tier 5: Potion thrower
-                EntityType.ZOMBIFIED_PIGLIN,// Tier 5: Tough melee
-                EntityType.PHANTOM,         // Tier 6: Flying enemy
-                ModEntities.SENTRY_BOT.get(), // Tier 5: Heavy combat robot (ROBOT)
-                ModEntities.ASSAULTRON.get(), // Tier 4: Fast killer robot (ROBOT)
-                ModEntities.MR_GUSTY.get(),   // Tier 4: Military robot (ROBOT)
-                ModEntities.ROBOBRAIN.get(),  // Tier 5: Psionic robot (ROBOT)
-                ModEntities.EXPERIMENTAL_BOT.get() // Tier 6: Unstable prototype (ROBOT)
-            };
-            return (EntityType<? extends Mob>) midMobs[RANDOM.nextInt(midMobs.length)];
-        }
+        WeightedTable<EntityType<? extends Mob>> mid = new WeightedTable.Builder<EntityType<? extends Mob>>()
+            .add(EntityType.CREEPER, 1)         // Tier 4: Explosive threat
+            .add(EntityType.STRAY, 1)           // Tier 4: Ranged slowness
+            .add(EntityType.WITCH, 1)           // Tier 5: Potion thrower
+            .add(EntityType.ZOMBIFIED_PIGLIN, 1)// Tier 5: Tough melee
+            .add(EntityType.PHANTOM, 1)         // Tier 6: Flying enemy
+            .add(ModEntities.SENTRY_BOT.get(), 1) // Tier 5: Heavy combat robot (ROBOT)
+            .add(ModEntities.ASSAULTRON.get(), 1) // Tier 4: Fast killer robot (ROBOT)
+            .add(ModEntities.MR_GUSTY.get(), 1)   // Tier 4: Military robot (ROBOT)
+            .add(ModEntities.ROBOBRAIN.get(), 1)  // Tier 5: Psionic robot (ROBOT)
+            .add(ModEntities.EXPERIMENTAL_BOT.get(), 1) // Tier 6: Unstable prototype (ROBOT)
+            .build();
+
         // Tier 7-9: Late game (Depths 11+) - Elite wasteland horrors + boss robots
-        else {
-            EntityType<?>[] lateMobs = {
-                EntityType.WITHER_SKELETON, // Tier 7: Wither effect
-                EntityType.ENDERMAN,        // Tier 8: Teleporting threat
-                EntityType.BLAZE,           // Tier 8: Flying ranged
-                EntityType.VINDICATOR,      // Tier 9: High damage melee
-                EntityType.RAVAGER,         // Tier 9: Tank enemy
-                ModEntities.ANNIHILATOR_SENTRY_BOT.get(), // Tier 7: Elite heavy (ROBOT)
-                ModEntities.QUANTUM_ASSAULTRON.get(), // Tier 8: Phase assassin (ROBOT)
-                ModEntities.OVERLORD_BOT.get() // Tier 9: BOSS ROBOT (very rare)
-            };
-            return (EntityType<? extends Mob>) lateMobs[RANDOM.nextInt(lateMobs.length)];
-        }
+        WeightedTable<EntityType<? extends Mob>> late = new WeightedTable.Builder<EntityType<? extends Mob>>()
+            .add(EntityType.WITHER_SKELETON, 1) // Tier 7: Wither effect
+            .add(EntityType.ENDERMAN, 1)        // Tier 8: Teleporting threat
+            .add(EntityType.BLAZE, 1)           // Tier 8: Flying ranged
+            .add(EntityType.VINDICATOR, 1)      // Tier 9: High damage melee
+            .add(EntityType.RAVAGER, 1)         // Tier 9: Tank enemy
+            .add(ModEntities.ANNIHILATOR_SENTRY_BOT.get(), 1) // Tier 7: Elite heavy (ROBOT)
+            .add(ModEntities.QUANTUM_ASSAULTRON.get(), 1) // Tier 8: Phase assassin (ROBOT)
+            .add(ModEntities.OVERLORD_BOT.get(), 1) // Tier 9: BOSS ROBOT (very rare)
+            .build();
+
+        return new WeightedTable[] {early, mid, late};
     }
 
     /**
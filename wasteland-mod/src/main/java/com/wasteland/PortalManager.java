@@ -1,13 +1,15 @@
 package com.wasteland;
 
+import com.wasteland.player.CooldownService;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages portal destinations and teleportation between vaults
@@ -16,11 +18,11 @@ public class PortalManager {
     private static final Logger LOGGER = LogManager.getLogger();
 
     // Portal destination registry: portal position -> destination info
-    private static final Map<String, PortalDestination> PORTAL_REGISTRY = new HashMap<>();
+    private static final Map<String, PortalDestination> PORTAL_REGISTRY = new ConcurrentHashMap<>();
 
     // Player cooldown to prevent portal spam
-    private static final Map<UUID, Long> PLAYER_COOLDOWNS = new HashMap<>();
-    private static final long COOLDOWN_MS = 1000; // 1 second cooldown
+    private static final int COOLDOWN_KEY = CooldownService.register("portal");
+    private static final int COOLDOWN_TICKS = 20; // 1 second cooldown
 
     /**
      * Register a portal with its destination
@@ -50,27 +52,23 @@ public class PortalManager {
     /**
      * Check if player can use portal (cooldown check)
      */
-    public static boolean canUsePortal(UUID playerId) {
-        Long lastUse = PLAYER_COOLDOWNS.get(playerId);
-        if (lastUse == null) return true;
-
-        long now = System.currentTimeMillis();
-        return (now - lastUse) > COOLDOWN_MS;
+    public static boolean canUsePortal(Player player) {
+        return CooldownService.isReady(player, COOLDOWN_KEY);
     }
 
     /**
      * Mark player as having used a portal (start cooldown)
      */
-    public static void markPortalUse(UUID playerId) {
-        PLAYER_COOLDOWNS.put(playerId, System.currentTimeMillis());
+    public static void markPortalUse(Player player) {
+        CooldownService.start(player, COOLDOWN_KEY, COOLDOWN_TICKS);
     }
 
     /**
      * Teleport player through portal
      */
-    public static boolean usePortal(ServerLevel level, BlockPos portalPos, net.minecraft.world.entity.player.Player player) {
+    public static boolean usePortal(ServerLevel level, BlockPos portalPos, Player player) {
         // Check cooldown
-        if (!canUsePortal(player.getUUID())) {
+        if (!canUsePortal(player)) {
             return false;
         }
 
@@ -115,7 +113,7 @@ public class PortalManager {
                     player.teleportTo(surfacePos.getX() + 0.5, surfacePos.getY(), surfacePos.getZ() + 0.5);
 
                     // Mark portal use
-                    markPortalUse(player.getUUID());
+                    markPortalUse(player);
 
                     LOGGER.info("  Player teleported to overworld: {}", surfacePos);
                     LOGGER.info("═══════════════════════════════════════════════════════");
@@ -158,7 +156,7 @@ public class PortalManager {
                 player.teleportTo(surfacePos.getX() + 0.5, surfacePos.getY(), surfacePos.getZ() + 0.5);
 
                 // Mark portal use
-                markPortalUse(player.getUUID());
+                markPortalUse(player);
 
                 LOGGER.info("  Player teleported to overworld: {}", surfacePos);
                 LOGGER.info("═══════════════════════════════════════════════════════");
@@ -173,13 +171,15 @@ public class PortalManager {
         BlockPos newSpawn = player.blockPosition().offset(100, 0, 100);
 
         // Render destination vault
-        BlockPos safePos = DungeonRenderer.renderRoomFromJson(level, newSpawn, vaultPath);
+        BlockPos safePos = DungeonRenderer.renderRoomFromJson(level, newSpawn, vaultPath,
+            DungeonProgression.getFloorRandom(player.getUUID()),
+            DungeonProgression.getDepth(player.getUUID()));
 
         // Teleport player
         player.teleportTo(safePos.getX() + 0.5, safePos.getY(), safePos.getZ() + 0.5);
 
         // Mark portal use
-        markPortalUse(player.getUUID());
+        markPortalUse(player);
 
         LOGGER.info("  Player teleported to: {}", safePos);
         LOGGER.info("═══════════════════════════════════════════════════════");
@@ -8,14 +8,13 @@ import java.io.InputStream;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Selects random DCSS vaults for rendering
  */
 public class VaultSelector {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Random RANDOM = new Random();
+    private static final WastelandRandom.Stream VAULT_STREAM = WastelandRandom.stream("vaults");
 
     // All available wasteland vaults
     private static final String[] EARLY_VAULTS = {
@@ -67,13 +66,20 @@ public class VaultSelector {
      * Get a random vault from all available vaults
      */
     public static String getRandomVault() {
+        return getRandomVault(VAULT_STREAM.get());
+    }
+
+    /**
+     * Get a random vault from all available vaults using a specific random stream
+     */
+    public static String getRandomVault(WastelandRandom random) {
         List<String> allVaults = new ArrayList<>();
 
         for (String vault : EARLY_VAULTS) allVaults.add(vault);
         for (String vault : MID_VAULTS) allVaults.add(vault);
         for (String vault : LATE_VAULTS) allVaults.add(vault);
 
-        String vault = allVaults.get(RANDOM.nextInt(allVaults.size()));
+        String vault = allVaults.get(random.nextInt(allVaults.size()));
         LOGGER.info("Selected random vault: {}", vault);
         return "rooms/" + vault + ".json";
     }
@@ -82,6 +88,13 @@ public class VaultSelector {
      * Get a random vault from a specific tier
      */
     public static String getRandomVault(VaultTier tier) {
+        return getRandomVault(tier, VAULT_STREAM.get());
+    }
+
+    /**
+     * Get a random vault from a specific tier using a specific random stream
+     */
+    public static String getRandomVault(VaultTier tier, WastelandRandom random) {
         String[] vaults;
 
         switch (tier) {
@@ -95,10 +108,10 @@ public class VaultSelector {
                 vaults = LATE_VAULTS;
                 break;
             default:
-                return getRandomVault();
+                return getRandomVault(random);
         }
 
-        String vault = vaults[RANDOM.nextInt(vaults.length)];
+        String vault = vaults[random.nextInt(vaults.length)];
         LOGGER.info("Selected random {} tier vault: {}", tier, vault);
         return "rooms/" + vault + ".json";
     }
@@ -3,6 +3,7 @@ package com.wasteland;
 import com.wasteland.commands.StructureTestCommand;
 import com.wasteland.entity.ModEntities;
 import com.wasteland.item.ModItems;
+import com.wasteland.magic.SpellRegistry;
 import com.wasteland.magic.Spells;
 import com.wasteland.monsters.MonsterScalingSystem;
 import com.wasteland.religion.AltarManager;
@@ -20,6 +21,8 @@ import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStartingEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -52,9 +55,14 @@ public class WastelandMod {
     private void setup(final FMLCommonSetupEvent event) {
         // Register all spells
         Spells.registerSpells();
+        SpellRegistry.freeze();
 
         // Register all divine abilities
         GodAbilities.registerAbilities();
+        GodAbilities.freeze();
+
+        // Compile loot tables
+        com.wasteland.loot.LootGenerator.loadTables();
 
         LOGGER.info("Wasteland Crawl - Setup Complete!");
         LOGGER.info("  Version: 0.1.0 (Phase 2 - Proof of Concept)");
@@ -76,14 +84,25 @@ public class WastelandMod {
             LOGGER.info("Registered structure test commands");
         }
 
+        @SubscribeEvent
+        public static void onServerStarting(ServerStartingEvent event) {
+            // Seed combat, loot and dungeon random streams from the world seed
+            long worldSeed = event.getServer().overworld().getSeed();
+            WastelandRandom.setWorldSeed(worldSeed);
+            LOGGER.info("Random streams seeded from world seed {}", worldSeed);
+        }
+
         @SubscribeEvent
         public static void onPlayerJoin(PlayerEvent.PlayerLoggedInEvent event) {
             if (event.getEntity().level() instanceof ServerLevel level) {
                 // Load or initialize world data
                 com.wasteland.worldgen.WastelandSavedData.get(level);
 
-                // Initialize player progression (starts at depth 0 = surface)
-                DungeonProgression.setDepth(event.getEntity().getUUID(), 0);
+                // Initialize progression for new players (starts at depth 0 = surface);
+                // returning players keep the depth PlayerDataStore restored
+                if (!DungeonProgression.hasDepth(event.getEntity().getUUID())) {
+                    DungeonProgression.setDepth(event.getEntity().getUUID(), 0);
+                }
 
                 // TEMPORARY FIX: Give starter equipment directly to player
                 // (Right-click interaction is broken, can't open chests)
@@ -227,12 +246,15 @@ public class WastelandMod {
                 return; // Not initialized yet
             }
 
+            // Entities re-joining from a reloaded chunk keep the scaling they were saved with
+            if (MonsterScalingSystem.isScaled(entity)) return;
+
             // Apply monster scaling based on spawn location
             BlockPos spawnPos = entity.blockPosition();
-            MonsterScalingSystem.scaleMonster(entity, spawnPos, level);
+            boolean scaled = MonsterScalingSystem.scaleMonster(entity, spawnPos, level);
 
             // Log scaling for debugging (only first few)
-            if (level.getRandom().nextFloat() < 0.1f) { // 10% sample rate
+            if (scaled && level.getRandom().nextFloat() < 0.1f) { // 10% sample rate
                 LOGGER.debug(MonsterScalingSystem.getStatBreakdown(entity));
             }
         }
@@ -279,5 +301,20 @@ public class WastelandMod {
                 }
             }
         }
+
+        @SubscribeEvent
+        public static void onChunkUnload(ChunkEvent.Unload event) {
+            if (!(event.getLevel() instanceof ServerLevel level)) return;
+
+            // Drop the chunk's cached monster scaling difficulty
+            MonsterScalingSystem.forgetChunk(level, event.getChunk().getPos());
+        }
+
+        @SubscribeEvent
+        public static void onLevelUnload(LevelEvent.Unload event) {
+            if (!(event.getLevel() instanceof ServerLevel level)) return;
+
+            MonsterScalingSystem.clearDifficultyCache(level);
+        }
     }
 }
@@ -0,0 +1,191 @@
+package com.wasteland;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Seeded, splittable random streams for combat, loot and dungeon generation.
+ *
+ * Every stream is derived from the world seed plus a key (a channel name, a
+ * combat session, a dungeon floor...), so the same world replays the same fights,
+ * loot rolls and floor layouts. Streams are backed by xoshiro256** seeded through
+ * SplitMix64 and are NOT thread-safe: each owner keeps its own stream instead of
+ * sharing one synchronized java.util.Random.
+ */
+public final class WastelandRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // Root seed for all derived streams; unseeded (time based) until a world loads
+    private static volatile long worldSeed = mix64(System.nanoTime() ^ System.currentTimeMillis());
+    // Bumped whenever the world seed changes so per-thread streams re-derive
+    private static volatile int generation = 0;
+
+    private final long seed;  // Identity of this stream, used to derive children
+    private long s0, s1, s2, s3;
+
+    /**
+     * Create a stream from an explicit seed
+     */
+    public WastelandRandom(long seed) {
+        this.seed = seed;
+        long x = seed;
+        s0 = mix64(x += GOLDEN_GAMMA);
+        s1 = mix64(x += GOLDEN_GAMMA);
+        s2 = mix64(x += GOLDEN_GAMMA);
+        s3 = mix64(x + GOLDEN_GAMMA);
+    }
+
+    /**
+     * Seed this stream was created from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Child stream for a key. Does not advance this stream, so the same
+     * parent and key always give the same child.
+     */
+    public WastelandRandom derive(long key) {
+        return new WastelandRandom(deriveSeed(seed, key));
+    }
+
+    /**
+     * Child stream for a named channel ("loot", "combat", ...)
+     */
+    public WastelandRandom derive(String key) {
+        return derive(hash64(key));
+    }
+
+    /**
+     * Independent child stream seeded from this stream's next output (advances this stream)
+     */
+    public WastelandRandom split() {
+        return new WastelandRandom(mix64(nextLong()));
+    }
+
+    /**
+     * xoshiro256** step
+     */
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    // ===== World-level streams =====
+
+    /**
+     * Set the root seed (called when the server starts with the overworld seed)
+     */
+    public static void setWorldSeed(long seed) {
+        worldSeed = seed;
+        generation++;
+    }
+
+    public static long getWorldSeed() {
+        return worldSeed;
+    }
+
+    /**
+     * Fresh stream for a named channel of the current world
+     */
+    public static WastelandRandom forWorld(String channel) {
+        return new WastelandRandom(deriveSeed(worldSeed, hash64(channel)));
+    }
+
+    /**
+     * Stream for one combat, keyed by the game time it started and the player's entity id
+     */
+    public static WastelandRandom forCombat(long gameTime, int playerId) {
+        return forWorld("combat").derive(gameTime).derive(playerId);
+    }
+
+    /**
+     * Stream for a dungeon, keyed by its entrance position (BlockPos.asLong())
+     */
+    public static WastelandRandom forDungeon(long entranceKey) {
+        return forWorld("dungeon").derive(entranceKey);
+    }
+
+    /**
+     * Stream for one floor of a dungeon
+     */
+    public static WastelandRandom forFloor(long entranceKey, int floor) {
+        return forDungeon(entranceKey).derive(floor);
+    }
+
+    /**
+     * Named per-thread stream for static generators that have no owner to hold a stream
+     */
+    public static Stream stream(String channel) {
+        return new Stream(channel);
+    }
+
+    /**
+     * Lazily derived per-thread stream of a world channel. Each thread gets its own
+     * generator (derived from the thread name, so the server thread is reproducible),
+     * and it is re-derived when the world seed changes.
+     */
+    public static final class Stream {
+        private final String channel;
+        private final ThreadLocal<Slot> local = ThreadLocal.withInitial(Slot::new);
+
+        private Stream(String channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * This thread's generator for the channel
+         */
+        public WastelandRandom get() {
+            Slot slot = local.get();
+            if (slot.random == null || slot.generation != generation) {
+                slot.generation = generation;
+                slot.random = forWorld(channel).derive(Thread.currentThread().getName());
+            }
+            return slot.random;
+        }
+
+        private static final class Slot {
+            int generation;
+            WastelandRandom random;
+        }
+    }
+
+    // ===== Seed mixing =====
+
+    /**
+     * Combine a parent seed and a key into a well-distributed child seed
+     */
+    public static long deriveSeed(long parent, long key) {
+        return mix64(parent ^ mix64(key + GOLDEN_GAMMA));
+    }
+
+    /**
+     * SplitMix64 finaliser
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a key name
+     */
+    private static long hash64(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+}
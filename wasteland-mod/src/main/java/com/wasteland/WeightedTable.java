@@ -0,0 +1,171 @@
+package com.wasteland;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable weighted choice table for loot, spawn and dungeon rolls.
+ *
+ * Built once with Vose's alias method, so each sample is one random draw and two
+ * array reads (O(1), no allocation) however many entries there are. Entries with
+ * a weight of zero or less are left out.
+ */
+public final class WeightedTable<T> {
+    private static final WeightedTable<?> EMPTY = new WeightedTable<>(new Object[0], new double[0], new double[0], new int[0]);
+
+    private final Object[] items;
+    private final double[] weights;
+    private final double[] probability; // Chance of keeping column i instead of taking its alias
+    private final int[] alias;
+
+    private WeightedTable(Object[] items, double[] weights, double[] probability, int[] alias) {
+        this.items = items;
+        this.weights = weights;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> WeightedTable<T> empty() {
+        return (WeightedTable<T>) EMPTY;
+    }
+
+    /**
+     * Table of items weighted by a property of each item
+     */
+    public static <T> WeightedTable<T> of(Iterable<? extends T> items, ToDoubleFunction<? super T> weight) {
+        Builder<T> builder = new Builder<>();
+        for (T item : items) {
+            builder.add(item, weight.applyAsDouble(item));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Pick an entry (null if the table is empty)
+     */
+    @SuppressWarnings("unchecked")
+    public T sample(RandomGenerator random) {
+        int n = items.length;
+        if (n == 0) {
+            return null;
+        }
+        // One draw: the integer part picks the column, the fraction decides column vs alias
+        double roll = random.nextDouble() * n;
+        int column = Math.min((int) roll, n - 1);
+        return (T) (roll - column < probability[column] ? items[column] : items[alias[column]]);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    /**
+     * Entries in the order they were added (read-only)
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getItems() {
+        return (List<T>) List.of(items);
+    }
+
+    /**
+     * Weight an entry was added with
+     */
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * Sum of all weights
+     */
+    public double getTotalWeight() {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        return total;
+    }
+
+    /**
+     * Builder for weighted tables
+     */
+    public static class Builder<T> {
+        private final List<T> items = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+
+        public Builder<T> add(T item, double weight) {
+            if (weight > 0) {
+                items.add(item);
+                weights.add(weight);
+            }
+            return this;
+        }
+
+        /**
+         * Build the alias table (Vose's method)
+         */
+        public WeightedTable<T> build() {
+            int n = items.size();
+            if (n == 0) {
+                return empty();
+            }
+
+            double total = 0;
+            double[] weightArray = new double[n];
+            for (int i = 0; i < n; i++) {
+                weightArray[i] = weights.get(i);
+                total += weightArray[i];
+            }
+
+            // Scale so the average column holds exactly 1
+            double[] scaled = new double[n];
+            int[] small = new int[n];
+            int[] large = new int[n];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < n; i++) {
+                scaled[i] = weightArray[i] * n / total;
+                if (scaled[i] < 1.0) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+
+            // Fill each under-full column with the remainder from an over-full one
+            double[] probability = new double[n];
+            int[] alias = new int[n];
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                probability[less] = scaled[less];
+                alias[less] = more;
+                scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+                if (scaled[more] < 1.0) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // Leftovers are full columns (off from 1 only by rounding)
+            while (largeCount > 0) {
+                int column = large[--largeCount];
+                probability[column] = 1.0;
+                alias[column] = column;
+            }
+            while (smallCount > 0) {
+                int column = small[--smallCount];
+                probability[column] = 1.0;
+                alias[column] = column;
+            }
+
+            return new WeightedTable<>(items.toArray(), weightArray, probability, alias);
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package com.wasteland.character;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * DCSS aptitude system - determines how quickly races learn skills
  * Aptitude ranges: -5 (very poor) to +5 (exceptional)
@@ -10,12 +7,12 @@ import java.util.Map;
  */
 public class Aptitudes {
 
-    // Aptitude tables: Race -> Skill -> Aptitude value
-    private static final Map<Race, Map<Skill, Integer>> APTITUDE_TABLE = new HashMap<>();
+    // Aptitude table: [race ordinal][skill ordinal] -> aptitude value (unset entries are 0)
+    private static final byte[][] APTITUDE_TABLE = new byte[Race.values().length][Skill.values().length];
 
     static {
         // Initialize aptitudes for each race
-        initHumanAptitudes();
+        // Human: balanced aptitudes (all 0), so its row keeps the default
         initHillOrcAptitudes();
         initMinotaurAptitudes();
         initMerfolkAptitudes();
@@ -41,365 +38,288 @@ public class Aptitudes {
      * @return Aptitude from -5 to +5, or 0 if not defined
      */
     public static int getAptitude(Race race, Skill skill) {
-        Map<Skill, Integer> raceAptitudes = APTITUDE_TABLE.get(race);
-        if (raceAptitudes == null) return 0;
-        return raceAptitudes.getOrDefault(skill, 0);
-    }
-
-    /**
-     * Human: Balanced aptitudes (all 0)
-     */
-    private static void initHumanAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        // Humans have 0 aptitude in everything (average)
-        for (Skill skill : Skill.values()) {
-            apt.put(skill, 0);
-        }
-        APTITUDE_TABLE.put(Race.HUMAN, apt);
+        return APTITUDE_TABLE[race.ordinal()][skill.ordinal()];
     }
 
     /**
      * Hill Orc: Good at melee combat, poor at magic
      */
     private static void initHillOrcAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
+        byte[] apt = APTITUDE_TABLE[Race.HILL_ORC.ordinal()];
         // Combat bonuses
-        apt.put(Skill.FIGHTING, 2);
-        apt.put(Skill.AXES, 1);
-        apt.put(Skill.MACES_FLAILS, 1);
-        apt.put(Skill.POLEARMS, 1);
-        apt.put(Skill.ARMOUR, 2);
-        apt.put(Skill.SHIELDS, 1);
+        apt[Skill.FIGHTING.ordinal()] = 2;
+        apt[Skill.AXES.ordinal()] = 1;
+        apt[Skill.MACES_FLAILS.ordinal()] = 1;
+        apt[Skill.POLEARMS.ordinal()] = 1;
+        apt[Skill.ARMOUR.ordinal()] = 2;
+        apt[Skill.SHIELDS.ordinal()] = 1;
 
         // Magic penalties
-        apt.put(Skill.SPELLCASTING, -3);
-        apt.put(Skill.CONJURATIONS, -2);
-        apt.put(Skill.HEXES, -1);
-        apt.put(Skill.FIRE_MAGIC, 1); // Orcs like fire
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.HILL_ORC, apt);
+        apt[Skill.SPELLCASTING.ordinal()] = -3;
+        apt[Skill.CONJURATIONS.ordinal()] = -2;
+        apt[Skill.HEXES.ordinal()] = -1;
+        apt[Skill.FIRE_MAGIC.ordinal()] = 1; // Orcs like fire
     }
 
     /**
      * Minotaur: Excellent melee fighters, terrible at magic
      */
     private static void initMinotaurAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
+        byte[] apt = APTITUDE_TABLE[Race.MINOTAUR.ordinal()];
         // Excellent melee
-        apt.put(Skill.FIGHTING, 3);
-        apt.put(Skill.AXES, 2);
-        apt.put(Skill.MACES_FLAILS, 2);
-        apt.put(Skill.POLEARMS, 2);
-        apt.put(Skill.UNARMED_COMBAT, 1);
+        apt[Skill.FIGHTING.ordinal()] = 3;
+        apt[Skill.AXES.ordinal()] = 2;
+        apt[Skill.MACES_FLAILS.ordinal()] = 2;
+        apt[Skill.POLEARMS.ordinal()] = 2;
+        apt[Skill.UNARMED_COMBAT.ordinal()] = 1;
 
         // Poor at ranged and magic
-        apt.put(Skill.BOWS, -3);
-        apt.put(Skill.CROSSBOWS, -3);
-        apt.put(Skill.SPELLCASTING, -4);
-        apt.put(Skill.CONJURATIONS, -3);
-        apt.put(Skill.HEXES, -3);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.MINOTAUR, apt);
+        apt[Skill.BOWS.ordinal()] = -3;
+        apt[Skill.CROSSBOWS.ordinal()] = -3;
+        apt[Skill.SPELLCASTING.ordinal()] = -4;
+        apt[Skill.CONJURATIONS.ordinal()] = -3;
+        apt[Skill.HEXES.ordinal()] = -3;
     }
 
     /**
      * Merfolk: Versatile, good with polearms
      */
     private static void initMerfolkAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 1);
-        apt.put(Skill.POLEARMS, 3);
-        apt.put(Skill.THROWING, 2);
-        apt.put(Skill.DODGING, 2);
-        apt.put(Skill.STEALTH, 1);
-        apt.put(Skill.SPELLCASTING, 1);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.MERFOLK, apt);
+        byte[] apt = APTITUDE_TABLE[Race.MERFOLK.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 1;
+        apt[Skill.POLEARMS.ordinal()] = 3;
+        apt[Skill.THROWING.ordinal()] = 2;
+        apt[Skill.DODGING.ordinal()] = 2;
+        apt[Skill.STEALTH.ordinal()] = 1;
+        apt[Skill.SPELLCASTING.ordinal()] = 1;
     }
 
     /**
      * Gargoyle: Tough, good at earth magic
      */
     private static void initGargoyleAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 1);
-        apt.put(Skill.MACES_FLAILS, 1);
-        apt.put(Skill.ARMOUR, 1);
-        apt.put(Skill.EARTH_MAGIC, 2);
-        apt.put(Skill.DODGING, -2);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.GARGOYLE, apt);
+        byte[] apt = APTITUDE_TABLE[Race.GARGOYLE.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 1;
+        apt[Skill.MACES_FLAILS.ordinal()] = 1;
+        apt[Skill.ARMOUR.ordinal()] = 1;
+        apt[Skill.EARTH_MAGIC.ordinal()] = 2;
+        apt[Skill.DODGING.ordinal()] = -2;
     }
 
     /**
      * Draconian: Balanced with some magic affinity
      */
     private static void initDraconianAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 1);
-        apt.put(Skill.DODGING, 0);
-        apt.put(Skill.SPELLCASTING, 1);
-        apt.put(Skill.FIRE_MAGIC, 1);
-        apt.put(Skill.ICE_MAGIC, 1);
-        apt.put(Skill.POISON_MAGIC, 1);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.DRACONIAN, apt);
+        byte[] apt = APTITUDE_TABLE[Race.DRACONIAN.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 1;
+        apt[Skill.DODGING.ordinal()] = 0;
+        apt[Skill.SPELLCASTING.ordinal()] = 1;
+        apt[Skill.FIRE_MAGIC.ordinal()] = 1;
+        apt[Skill.ICE_MAGIC.ordinal()] = 1;
+        apt[Skill.POISON_MAGIC.ordinal()] = 1;
     }
 
     /**
      * Deep Elf: Excellent at all magic, poor at melee and defense
      */
     private static void initDeepElfAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
+        byte[] apt = APTITUDE_TABLE[Race.DEEP_ELF.ordinal()];
         // Magic excellence
-        apt.put(Skill.SPELLCASTING, 3);
-        apt.put(Skill.CONJURATIONS, 2);
-        apt.put(Skill.HEXES, 2);
-        apt.put(Skill.SUMMONINGS, 1);
-        apt.put(Skill.NECROMANCY, 1);
-        apt.put(Skill.TRANSLOCATIONS, 2);
-        apt.put(Skill.TRANSMUTATIONS, 1);
-        apt.put(Skill.FIRE_MAGIC, 2);
-        apt.put(Skill.ICE_MAGIC, 2);
-        apt.put(Skill.AIR_MAGIC, 2);
-        apt.put(Skill.EARTH_MAGIC, 2);
-        apt.put(Skill.POISON_MAGIC, 2);
+        apt[Skill.SPELLCASTING.ordinal()] = 3;
+        apt[Skill.CONJURATIONS.ordinal()] = 2;
+        apt[Skill.HEXES.ordinal()] = 2;
+        apt[Skill.SUMMONINGS.ordinal()] = 1;
+        apt[Skill.NECROMANCY.ordinal()] = 1;
+        apt[Skill.TRANSLOCATIONS.ordinal()] = 2;
+        apt[Skill.TRANSMUTATIONS.ordinal()] = 1;
+        apt[Skill.FIRE_MAGIC.ordinal()] = 2;
+        apt[Skill.ICE_MAGIC.ordinal()] = 2;
+        apt[Skill.AIR_MAGIC.ordinal()] = 2;
+        apt[Skill.EARTH_MAGIC.ordinal()] = 2;
+        apt[Skill.POISON_MAGIC.ordinal()] = 2;
 
         // Combat/defense weaknesses
-        apt.put(Skill.FIGHTING, -2);
-        apt.put(Skill.ARMOUR, -3);
-        apt.put(Skill.SHIELDS, -2);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.DEEP_ELF, apt);
+        apt[Skill.FIGHTING.ordinal()] = -2;
+        apt[Skill.ARMOUR.ordinal()] = -3;
+        apt[Skill.SHIELDS.ordinal()] = -2;
     }
 
     /**
      * Deep Dwarf: Hardy warriors, no healing magic
      */
     private static void initDeepDwarfAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 2);
-        apt.put(Skill.AXES, 2);
-        apt.put(Skill.MACES_FLAILS, 2);
-        apt.put(Skill.CROSSBOWS, 2);
-        apt.put(Skill.ARMOUR, 2);
-        apt.put(Skill.SHIELDS, 2);
-        apt.put(Skill.EARTH_MAGIC, 1);
-
-        apt.put(Skill.SPELLCASTING, -2);
-        apt.put(Skill.DODGING, -2);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.DEEP_DWARF, apt);
+        byte[] apt = APTITUDE_TABLE[Race.DEEP_DWARF.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 2;
+        apt[Skill.AXES.ordinal()] = 2;
+        apt[Skill.MACES_FLAILS.ordinal()] = 2;
+        apt[Skill.CROSSBOWS.ordinal()] = 2;
+        apt[Skill.ARMOUR.ordinal()] = 2;
+        apt[Skill.SHIELDS.ordinal()] = 2;
+        apt[Skill.EARTH_MAGIC.ordinal()] = 1;
+
+        apt[Skill.SPELLCASTING.ordinal()] = -2;
+        apt[Skill.DODGING.ordinal()] = -2;
     }
 
     /**
      * Troll: Massive melee power, terrible at everything else
      */
     private static void initTrollAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 2);
-        apt.put(Skill.UNARMED_COMBAT, 3);
-        apt.put(Skill.DODGING, -2);
-        apt.put(Skill.STEALTH, -4);
-        apt.put(Skill.SPELLCASTING, -5);
-        apt.put(Skill.INVOCATIONS, -3);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.TROLL, apt);
+        byte[] apt = APTITUDE_TABLE[Race.TROLL.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 2;
+        apt[Skill.UNARMED_COMBAT.ordinal()] = 3;
+        apt[Skill.DODGING.ordinal()] = -2;
+        apt[Skill.STEALTH.ordinal()] = -4;
+        apt[Skill.SPELLCASTING.ordinal()] = -5;
+        apt[Skill.INVOCATIONS.ordinal()] = -3;
     }
 
     /**
      * Ogre: Strong but clumsy
      */
     private static void initOgreAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 2);
-        apt.put(Skill.MACES_FLAILS, 2);
-        apt.put(Skill.THROWING, 1);
-        apt.put(Skill.DODGING, -2);
-        apt.put(Skill.STEALTH, -2);
-        apt.put(Skill.SPELLCASTING, -4);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.OGRE, apt);
+        byte[] apt = APTITUDE_TABLE[Race.OGRE.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 2;
+        apt[Skill.MACES_FLAILS.ordinal()] = 2;
+        apt[Skill.THROWING.ordinal()] = 1;
+        apt[Skill.DODGING.ordinal()] = -2;
+        apt[Skill.STEALTH.ordinal()] = -2;
+        apt[Skill.SPELLCASTING.ordinal()] = -4;
     }
 
     /**
      * Spriggan: Fast, stealthy, magically inclined, terrible at melee
      */
     private static void initSprigganAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.SHORT_BLADES, 2);
-        apt.put(Skill.DODGING, 3);
-        apt.put(Skill.STEALTH, 4);
-        apt.put(Skill.SPELLCASTING, 2);
-        apt.put(Skill.HEXES, 2);
-        apt.put(Skill.TRANSLOCATIONS, 3);
-
-        apt.put(Skill.FIGHTING, -2);
-        apt.put(Skill.AXES, -3);
-        apt.put(Skill.MACES_FLAILS, -4);
-        apt.put(Skill.POLEARMS, -3);
-        apt.put(Skill.ARMOUR, -3);
-        apt.put(Skill.SHIELDS, -3);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.SPRIGGAN, apt);
+        byte[] apt = APTITUDE_TABLE[Race.SPRIGGAN.ordinal()];
+        apt[Skill.SHORT_BLADES.ordinal()] = 2;
+        apt[Skill.DODGING.ordinal()] = 3;
+        apt[Skill.STEALTH.ordinal()] = 4;
+        apt[Skill.SPELLCASTING.ordinal()] = 2;
+        apt[Skill.HEXES.ordinal()] = 2;
+        apt[Skill.TRANSLOCATIONS.ordinal()] = 3;
+
+        apt[Skill.FIGHTING.ordinal()] = -2;
+        apt[Skill.AXES.ordinal()] = -3;
+        apt[Skill.MACES_FLAILS.ordinal()] = -4;
+        apt[Skill.POLEARMS.ordinal()] = -3;
+        apt[Skill.ARMOUR.ordinal()] = -3;
+        apt[Skill.SHIELDS.ordinal()] = -3;
     }
 
     /**
      * Kobold: Small and sneaky
      */
     private static void initKoboldAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.SHORT_BLADES, 2);
-        apt.put(Skill.GUNS, 2);
-        apt.put(Skill.DODGING, 2);
-        apt.put(Skill.STEALTH, 3);
-        apt.put(Skill.SHIELDS, -1);
-        apt.put(Skill.ARMOUR, -2);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.KOBOLD, apt);
+        byte[] apt = APTITUDE_TABLE[Race.KOBOLD.ordinal()];
+        apt[Skill.SHORT_BLADES.ordinal()] = 2;
+        apt[Skill.GUNS.ordinal()] = 2;
+        apt[Skill.DODGING.ordinal()] = 2;
+        apt[Skill.STEALTH.ordinal()] = 3;
+        apt[Skill.SHIELDS.ordinal()] = -1;
+        apt[Skill.ARMOUR.ordinal()] = -2;
     }
 
     /**
      * Centaur: Fast and good with ranged weapons
      */
     private static void initCentaurAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 1);
-        apt.put(Skill.BOWS, 2);
-        apt.put(Skill.THROWING, 1);
-        apt.put(Skill.DODGING, -2);
-        apt.put(Skill.ARMOUR, -2);
-        apt.put(Skill.SPELLCASTING, -2);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.CENTAUR, apt);
+        byte[] apt = APTITUDE_TABLE[Race.CENTAUR.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 1;
+        apt[Skill.BOWS.ordinal()] = 2;
+        apt[Skill.THROWING.ordinal()] = 1;
+        apt[Skill.DODGING.ordinal()] = -2;
+        apt[Skill.ARMOUR.ordinal()] = -2;
+        apt[Skill.SPELLCASTING.ordinal()] = -2;
     }
 
     /**
      * Naga: Slow but poison-specialized
      */
     private static void initNagaAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 1);
-        apt.put(Skill.POLEARMS, 1);
-        apt.put(Skill.SPELLCASTING, 1);
-        apt.put(Skill.POISON_MAGIC, 2);
-        apt.put(Skill.SHIELDS, -2);
-        apt.put(Skill.DODGING, -2);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.NAGA, apt);
+        byte[] apt = APTITUDE_TABLE[Race.NAGA.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 1;
+        apt[Skill.POLEARMS.ordinal()] = 1;
+        apt[Skill.SPELLCASTING.ordinal()] = 1;
+        apt[Skill.POISON_MAGIC.ordinal()] = 2;
+        apt[Skill.SHIELDS.ordinal()] = -2;
+        apt[Skill.DODGING.ordinal()] = -2;
     }
 
     /**
      * Vampire: Undead with some magic affinity
      */
     private static void initVampireAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 1);
-        apt.put(Skill.SHORT_BLADES, 1);
-        apt.put(Skill.UNARMED_COMBAT, 2);
-        apt.put(Skill.DODGING, 1);
-        apt.put(Skill.STEALTH, 2);
-        apt.put(Skill.SPELLCASTING, 1);
-        apt.put(Skill.NECROMANCY, 2);
-        apt.put(Skill.ICE_MAGIC, 2);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.VAMPIRE, apt);
+        byte[] apt = APTITUDE_TABLE[Race.VAMPIRE.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 1;
+        apt[Skill.SHORT_BLADES.ordinal()] = 1;
+        apt[Skill.UNARMED_COMBAT.ordinal()] = 2;
+        apt[Skill.DODGING.ordinal()] = 1;
+        apt[Skill.STEALTH.ordinal()] = 2;
+        apt[Skill.SPELLCASTING.ordinal()] = 1;
+        apt[Skill.NECROMANCY.ordinal()] = 2;
+        apt[Skill.ICE_MAGIC.ordinal()] = 2;
     }
 
     /**
      * Ghoul: Undead melee fighter
      */
     private static void initGhoulAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, 1);
-        apt.put(Skill.UNARMED_COMBAT, 1);
-        apt.put(Skill.NECROMANCY, 1);
-        apt.put(Skill.ICE_MAGIC, 1);
-        apt.put(Skill.SPELLCASTING, -2);
-        apt.put(Skill.DODGING, -1);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.GHOUL, apt);
+        byte[] apt = APTITUDE_TABLE[Race.GHOUL.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = 1;
+        apt[Skill.UNARMED_COMBAT.ordinal()] = 1;
+        apt[Skill.NECROMANCY.ordinal()] = 1;
+        apt[Skill.ICE_MAGIC.ordinal()] = 1;
+        apt[Skill.SPELLCASTING.ordinal()] = -2;
+        apt[Skill.DODGING.ordinal()] = -1;
     }
 
     /**
      * Mummy: Ancient undead, no healing
      */
     private static void initMummyAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, -1);
-        apt.put(Skill.SPELLCASTING, 1);
-        apt.put(Skill.NECROMANCY, 2);
-        apt.put(Skill.INVOCATIONS, -2);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.MUMMY, apt);
+        byte[] apt = APTITUDE_TABLE[Race.MUMMY.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = -1;
+        apt[Skill.SPELLCASTING.ordinal()] = 1;
+        apt[Skill.NECROMANCY.ordinal()] = 2;
+        apt[Skill.INVOCATIONS.ordinal()] = -2;
     }
 
     /**
      * Felid: Cat with multiple lives, poor at most combat
      */
     private static void initFelidAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.FIGHTING, -2);
-        apt.put(Skill.UNARMED_COMBAT, 2);
-        apt.put(Skill.DODGING, 3);
-        apt.put(Skill.STEALTH, 4);
-        apt.put(Skill.SPELLCASTING, 2);
-        apt.put(Skill.HEXES, 2);
-        apt.put(Skill.TRANSLOCATIONS, 2);
+        byte[] apt = APTITUDE_TABLE[Race.FELID.ordinal()];
+        apt[Skill.FIGHTING.ordinal()] = -2;
+        apt[Skill.UNARMED_COMBAT.ordinal()] = 2;
+        apt[Skill.DODGING.ordinal()] = 3;
+        apt[Skill.STEALTH.ordinal()] = 4;
+        apt[Skill.SPELLCASTING.ordinal()] = 2;
+        apt[Skill.HEXES.ordinal()] = 2;
+        apt[Skill.TRANSLOCATIONS.ordinal()] = 2;
 
         // Can't use weapons/armor
-        apt.put(Skill.SHORT_BLADES, -5);
-        apt.put(Skill.LONG_BLADES, -5);
-        apt.put(Skill.AXES, -5);
-        apt.put(Skill.MACES_FLAILS, -5);
-        apt.put(Skill.POLEARMS, -5);
-        apt.put(Skill.ARMOUR, -5);
-        apt.put(Skill.SHIELDS, -5);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.FELID, apt);
+        apt[Skill.SHORT_BLADES.ordinal()] = -5;
+        apt[Skill.LONG_BLADES.ordinal()] = -5;
+        apt[Skill.AXES.ordinal()] = -5;
+        apt[Skill.MACES_FLAILS.ordinal()] = -5;
+        apt[Skill.POLEARMS.ordinal()] = -5;
+        apt[Skill.ARMOUR.ordinal()] = -5;
+        apt[Skill.SHIELDS.ordinal()] = -5;
     }
 
     /**
      * Octopode: Eight-tentacled creature
      */
     private static void initOctopodeAptitudes() {
-        Map<Skill, Integer> apt = new HashMap<>();
-        apt.put(Skill.UNARMED_COMBAT, 1);
-        apt.put(Skill.DODGING, 1);
-        apt.put(Skill.STEALTH, 2);
-        apt.put(Skill.SPELLCASTING, 1);
-        apt.put(Skill.POISON_MAGIC, 2);
-
-        apt.put(Skill.ARMOUR, -3);
-        apt.put(Skill.SHIELDS, -3);
-
-        fillDefaults(apt);
-        APTITUDE_TABLE.put(Race.OCTOPODE, apt);
-    }
-
-    /**
-     * Fill in any missing skills with 0 aptitude
-     */
-    private static void fillDefaults(Map<Skill, Integer> aptitudes) {
-        for (Skill skill : Skill.values()) {
-            aptitudes.putIfAbsent(skill, 0);
-        }
+        byte[] apt = APTITUDE_TABLE[Race.OCTOPODE.ordinal()];
+        apt[Skill.UNARMED_COMBAT.ordinal()] = 1;
+        apt[Skill.DODGING.ordinal()] = 1;
+        apt[Skill.STEALTH.ordinal()] = 2;
+        apt[Skill.SPELLCASTING.ordinal()] = 1;
+        apt[Skill.POISON_MAGIC.ordinal()] = 2;
+
+        apt[Skill.ARMOUR.ordinal()] = -3;
+        apt[Skill.SHIELDS.ordinal()] = -3;
     }
 }
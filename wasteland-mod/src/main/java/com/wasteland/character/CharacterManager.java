@@ -1,10 +1,10 @@
 package com.wasteland.character;
 
+import com.wasteland.player.PlayerStateStore;
+import net.minecraft.nbt.CompoundTag;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -15,7 +15,7 @@ public class CharacterManager {
     private static final Logger LOGGER = LogManager.getLogger();
 
     // Track all player characters by UUID
-    private static final Map<UUID, PlayerCharacter> CHARACTERS = new HashMap<>();
+    private static final PlayerStateStore<PlayerCharacter> CHARACTERS = PlayerStateStore.shared("characters");
 
     /**
      * Get a player's character, or null if they don't have one
@@ -63,6 +63,30 @@ public class CharacterManager {
         }
     }
 
+    /**
+     * Save a player's character to NBT, or null if they don't have one
+     */
+    public static CompoundTag saveCharacter(UUID playerId) {
+        PlayerCharacter character = CHARACTERS.get(playerId);
+        return character != null ? character.saveToNBT() : null;
+    }
+
+    /**
+     * Load a player's character from NBT (replaces any character in memory)
+     */
+    public static void loadCharacter(UUID playerId, CompoundTag nbt) {
+        PlayerCharacter character = PlayerCharacter.loadFromNBT(playerId, nbt);
+        CHARACTERS.put(playerId, character);
+        LOGGER.info("Loaded character: {} ({})", character.getCharacterName(), character.getRace().getDisplayName());
+    }
+
+    /**
+     * Drop a character from memory once it has been saved (player logged out)
+     */
+    public static void unloadCharacter(UUID playerId) {
+        CHARACTERS.remove(playerId);
+    }
+
     /**
      * Clear all characters (for server reload/testing)
      */
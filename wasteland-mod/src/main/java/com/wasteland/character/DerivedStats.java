@@ -0,0 +1,170 @@
+package com.wasteland.character;
+
+import com.wasteland.loot.EquipmentManager;
+import com.wasteland.loot.PlayerEquipment;
+import com.wasteland.mutations.MutationEffects;
+import com.wasteland.mutations.MutationManager;
+import com.wasteland.mutations.PlayerMutations;
+import com.wasteland.statuseffects.PlayerStatusEffects;
+import com.wasteland.statuseffects.StatusEffectManager;
+import com.wasteland.statuseffects.StatusEffects;
+
+import java.util.UUID;
+
+/**
+ * Cached derived stats for one character: total STR/DEX/INT, max HP/MP, AC and EV.
+ *
+ * Modifiers from race, equipment, mutations and status effects are compiled into a
+ * ModifierStack, and only the source that changed is re-registered. The character marks
+ * the block dirty on skill, XL, base stat and equipment bonus changes; mutations, status
+ * effects and equipment each carry a version counter that is compared on every read,
+ * so a read with nothing changed is a few int comparisons.
+ */
+public final class DerivedStats {
+    private final PlayerCharacter character;
+    private final ModifierStack modifiers = new ModifierStack();
+    private boolean dirty = true;
+
+    // Sources and the versions the cached values were computed from
+    private PlayerMutations mutations;
+    private PlayerStatusEffects effects;
+    private PlayerEquipment equipment;
+    private int mutationsVersion;
+    private int effectsVersion;
+    private int equipmentVersion;
+
+    // Cached values
+    private int strength;
+    private int dexterity;
+    private int intelligence;
+    private int maxHP;
+    private int maxMP;
+
+    DerivedStats(PlayerCharacter character) {
+        this.character = character;
+    }
+
+    /**
+     * Force a recompute on the next read (also re-resolves the source objects)
+     */
+    void markDirty() {
+        dirty = true;
+    }
+
+    public int getStrength() {
+        ensureFresh();
+        return strength;
+    }
+
+    public int getDexterity() {
+        ensureFresh();
+        return dexterity;
+    }
+
+    public int getIntelligence() {
+        ensureFresh();
+        return intelligence;
+    }
+
+    public int getMaxHP() {
+        ensureFresh();
+        return maxHP;
+    }
+
+    public int getMaxMP() {
+        ensureFresh();
+        return maxMP;
+    }
+
+    /**
+     * AC from equipped armor
+     */
+    public int getArmorClass() {
+        ensureFresh();
+        return (int) modifiers.get(ModifierSource.EQUIPMENT, StatId.ARMOR_CLASS);
+    }
+
+    /**
+     * EV modifier from equipped armor
+     */
+    public int getEvasionModifier() {
+        ensureFresh();
+        return (int) modifiers.get(ModifierSource.EQUIPMENT, StatId.EVASION);
+    }
+
+    private void ensureFresh() {
+        if (dirty) {
+            refreshAll();
+            return;
+        }
+
+        boolean changed = false;
+        if (mutations.getVersion() != mutationsVersion) {
+            updateMutations();
+            changed = true;
+        }
+        if (effects.getVersion() != effectsVersion) {
+            updateEffects();
+            changed = true;
+        }
+        if (equipment.getVersion() != equipmentVersion) {
+            updateEquipment();
+            changed = true;
+        }
+        if (changed) {
+            recompute();
+        }
+    }
+
+    /**
+     * Re-resolve the source objects and re-register every source
+     */
+    private void refreshAll() {
+        UUID playerId = character.getPlayerId();
+        mutations = MutationManager.getMutations(playerId);
+        effects = StatusEffectManager.getEffects(playerId);
+        equipment = EquipmentManager.getInstance().getEquipment(playerId);
+        dirty = false;
+
+        modifiers.update(ModifierSource.RACE, character.getRace()::contributeModifiers);
+        updateMutations();
+        updateEffects();
+        updateEquipment(); // Armor AC/EV depend on skills and equipment bonuses, both covered by dirty
+        recompute();
+    }
+
+    // Each update records the version first so a change made meanwhile triggers another one
+
+    private void updateMutations() {
+        mutationsVersion = mutations.getVersion();
+        UUID playerId = character.getPlayerId();
+        modifiers.update(ModifierSource.MUTATIONS, c -> MutationEffects.contributeModifiers(playerId, c));
+    }
+
+    private void updateEffects() {
+        effectsVersion = effects.getVersion();
+        UUID playerId = character.getPlayerId();
+        modifiers.update(ModifierSource.STATUS_EFFECTS, c -> StatusEffects.contributeModifiers(playerId, c));
+    }
+
+    private void updateEquipment() {
+        equipmentVersion = equipment.getVersion();
+        modifiers.update(ModifierSource.EQUIPMENT, c -> c
+                .add(StatId.STRENGTH, character.getEquipmentStrength())
+                .add(StatId.DEXTERITY, character.getEquipmentDexterity())
+                .add(StatId.INTELLIGENCE, character.getEquipmentIntelligence())
+                .add(StatId.ARMOR_CLASS, equipment.getTotalAC(character))
+                .add(StatId.EVASION, equipment.getTotalEVModifier(character)));
+    }
+
+    /**
+     * Recompute the headline values from base stats and the compiled modifiers
+     */
+    private void recompute() {
+        strength = character.getBaseStrength() + modifiers.getInt(StatId.STRENGTH);
+        dexterity = character.getBaseDexterity() + modifiers.getInt(StatId.DEXTERITY);
+        intelligence = character.getBaseIntelligence() + modifiers.getInt(StatId.INTELLIGENCE);
+        maxHP = (int) (character.getBaseMaxHP() * modifiers.get(StatId.MAX_HP_MULTIPLIER));
+        maxMP = (int) (character.getBaseMaxMP() * modifiers.get(StatId.MAX_MP_MULTIPLIER));
+    }
+}
@@ -0,0 +1,15 @@
+package com.wasteland.character;
+
+/**
+ * Systems that contribute stat modifiers to a ModifierStack.
+ * God powers act through status effects, so they are covered by STATUS_EFFECTS.
+ */
+public enum ModifierSource {
+    RACE,
+    EQUIPMENT,
+    MUTATIONS,
+    STATUS_EFFECTS;
+
+    public static final ModifierSource[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+}
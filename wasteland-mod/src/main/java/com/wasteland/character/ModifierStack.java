@@ -0,0 +1,113 @@
+package com.wasteland.character;
+
+/**
+ * Per-player stat modifiers from every source, compiled into one flat array indexed by StatId.
+ *
+ * Each source writes its contribution through a Contribution (add for additive stats,
+ * multiply for multiplicative ones). Updating a source only re-folds the stats whose
+ * contribution actually changed, so reads are plain array lookups.
+ */
+public final class ModifierStack {
+
+    /**
+     * Write access to one source's contribution, reset to "no effect" before each fill
+     */
+    public static final class Contribution {
+        private final double[] values = new double[StatId.COUNT];
+
+        private void reset() {
+            for (StatId stat : StatId.VALUES) {
+                values[stat.ordinal()] = stat.getIdentity();
+            }
+        }
+
+        /**
+         * Add to an additive stat
+         */
+        public Contribution add(StatId stat, double amount) {
+            if (stat.isMultiplicative()) {
+                throw new IllegalArgumentException(stat + " is multiplicative, use multiply()");
+            }
+            values[stat.ordinal()] += amount;
+            return this;
+        }
+
+        /**
+         * Scale a multiplicative stat
+         */
+        public Contribution multiply(StatId stat, double factor) {
+            if (!stat.isMultiplicative()) {
+                throw new IllegalArgumentException(stat + " is additive, use add()");
+            }
+            values[stat.ordinal()] *= factor;
+            return this;
+        }
+    }
+
+    /**
+     * A source that can describe its modifiers
+     */
+    @FunctionalInterface
+    public interface Contributor {
+        void contribute(Contribution contribution);
+    }
+
+    private final double[][] contributions = new double[ModifierSource.COUNT][];
+    private final double[] totals = new double[StatId.COUNT];
+    private final Contribution scratch = new Contribution();
+
+    public ModifierStack() {
+        scratch.reset();
+        for (int i = 0; i < contributions.length; i++) {
+            contributions[i] = scratch.values.clone();
+        }
+        System.arraycopy(scratch.values, 0, totals, 0, totals.length);
+    }
+
+    /**
+     * Replace one source's modifiers and re-fold the stats that changed
+     */
+    public void update(ModifierSource source, Contributor contributor) {
+        scratch.reset();
+        contributor.contribute(scratch);
+
+        double[] row = contributions[source.ordinal()];
+        for (StatId stat : StatId.VALUES) {
+            int i = stat.ordinal();
+            if (row[i] != scratch.values[i]) {
+                row[i] = scratch.values[i];
+                totals[i] = fold(stat);
+            }
+        }
+    }
+
+    /**
+     * Total value of a stat across all sources
+     */
+    public double get(StatId stat) {
+        return totals[stat.ordinal()];
+    }
+
+    /**
+     * Total of an additive stat, rounded to an int
+     */
+    public int getInt(StatId stat) {
+        return (int) Math.round(totals[stat.ordinal()]);
+    }
+
+    /**
+     * One source's contribution to a stat (for tooltips and debugging)
+     */
+    public double get(ModifierSource source, StatId stat) {
+        return contributions[source.ordinal()][stat.ordinal()];
+    }
+
+    private double fold(StatId stat) {
+        int i = stat.ordinal();
+        double total = stat.getIdentity();
+        for (double[] row : contributions) {
+            total = stat.isMultiplicative() ? total * row[i] : total + row[i];
+        }
+        return total;
+    }
+}
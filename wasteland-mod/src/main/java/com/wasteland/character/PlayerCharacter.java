@@ -1,7 +1,9 @@
 package com.wasteland.character;
 
-import com.wasteland.mutations.MutationEffects;
-import com.wasteland.statuseffects.StatusEffects;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -19,9 +21,9 @@ public class PlayerCharacter {
     private Race race;
     private String characterName;
 
-    // Skills: Skill -> current level (0-27 in DCSS)
-    private final Map<Skill, Integer> skillLevels;
-    private final Map<Skill, Double> skillProgress; // XP progress toward next level (0.0-1.0)
+    // Skills: current level (0-27 in DCSS), indexed by Skill.ordinal()
+    private final int[] skillLevels = new int[Skill.values().length];
+    private final double[] skillProgress = new double[Skill.values().length]; // XP progress toward next level (0.0-1.0)
 
     // Spells: Known spells
     private final Set<Spell> knownSpells;
@@ -47,6 +49,9 @@ public class PlayerCharacter {
     private int maxMP;
     private int currentMP;
 
+    // Cached totals (STR/DEX/INT, max HP/MP, AC, EV), recomputed when a source changes
+    private final DerivedStats derivedStats = new DerivedStats(this);
+
     /**
      * Create a new character
      */
@@ -55,17 +60,9 @@ public class PlayerCharacter {
         this.race = race;
         this.characterName = characterName;
 
-        this.skillLevels = new HashMap<>();
-        this.skillProgress = new HashMap<>();
         this.knownSpells = new HashSet<>();
         this.memorizedSpells = new ArrayList<>();
 
-        // Initialize all skills to 0
-        for (Skill skill : Skill.values()) {
-            skillLevels.put(skill, 0);
-            skillProgress.put(skill, 0.0);
-        }
-
         // Starting stats (base values before race modifiers)
         this.experienceLevel = 1;
         this.totalXP = 0;
@@ -112,8 +109,7 @@ public class PlayerCharacter {
      * Get maximum HP (with mutation modifiers)
      */
     public int getMaxHP() {
-        double hpModifier = MutationEffects.getHPModifier(playerId);
-        return (int) (maxHP * hpModifier);
+        return derivedStats.getMaxHP();
     }
 
     public int getCurrentHP() {
@@ -124,8 +120,7 @@ public class PlayerCharacter {
      * Get maximum MP (with mutation modifiers)
      */
     public int getMaxMP() {
-        double mpModifier = MutationEffects.getMPModifier(playerId);
-        return (int) (maxMP * mpModifier);
+        return derivedStats.getMaxMP();
     }
 
     public int getCurrentMP() {
@@ -133,11 +128,11 @@ public class PlayerCharacter {
     }
 
     public int getSkillLevel(Skill skill) {
-        return skillLevels.getOrDefault(skill, 0);
+        return skillLevels[skill.ordinal()];
     }
 
     public double getSkillProgress(Skill skill) {
-        return skillProgress.getOrDefault(skill, 0.0);
+        return skillProgress[skill.ordinal()];
     }
 
     public Set<Spell> getKnownSpells() {
@@ -152,27 +147,21 @@ public class PlayerCharacter {
      * Get total strength (base + race + equipment + mutations + status effects)
      */
     public int getStrength() {
-        return baseStrength + race.getStrengthModifier() + equipmentStrength
-               + MutationEffects.getStrengthModifier(playerId)
-               + StatusEffects.getStrengthModifier(playerId);
+        return derivedStats.getStrength();
     }
 
     /**
      * Get total dexterity (base + race + equipment + mutations + status effects)
      */
     public int getDexterity() {
-        return baseDexterity + race.getDexterityModifier() + equipmentDexterity
-               + MutationEffects.getDexterityModifier(playerId)
-               + StatusEffects.getDexterityModifier(playerId);
+        return derivedStats.getDexterity();
     }
 
     /**
      * Get total intelligence (base + race + equipment + mutations + status effects)
      */
     public int getIntelligence() {
-        return baseIntelligence + race.getIntelligenceModifier() + equipmentIntelligence
-               + MutationEffects.getIntelligenceModifier(playerId)
-               + StatusEffects.getIntelligenceModifier(playerId);
+        return derivedStats.getIntelligence();
     }
 
     /**
@@ -196,6 +185,46 @@ public class PlayerCharacter {
         return baseIntelligence;
     }
 
+    int getEquipmentStrength() {
+        return equipmentStrength;
+    }
+
+    int getEquipmentDexterity() {
+        return equipmentDexterity;
+    }
+
+    int getEquipmentIntelligence() {
+        return equipmentIntelligence;
+    }
+
+    /**
+     * Max HP before mutation modifiers
+     */
+    int getBaseMaxHP() {
+        return maxHP;
+    }
+
+    /**
+     * Max MP before mutation modifiers
+     */
+    int getBaseMaxMP() {
+        return maxMP;
+    }
+
+    /**
+     * Get the cached derived stat block (AC/EV and totals)
+     */
+    public DerivedStats getDerivedStats() {
+        return derivedStats;
+    }
+
+    /**
+     * Drop cached derived stats, e.g. after a modifier source was replaced or removed
+     */
+    public void invalidateDerivedStats() {
+        derivedStats.markDirty();
+    }
+
     /**
      * Increase a base stat (from level-up choices or potions)
      */
@@ -234,7 +263,8 @@ public class PlayerCharacter {
      * Takes aptitude into account
      */
     public void trainSkill(Skill skill, int xp) {
-        int currentLevel = skillLevels.get(skill);
+        int index = skill.ordinal();
+        int currentLevel = skillLevels[index];
         if (currentLevel >= 27) {
             LOGGER.debug("Skill {} already at max level (27)", skill.getDisplayName());
             return;
@@ -246,21 +276,21 @@ public class PlayerCharacter {
         double effectiveXP = xp * aptitudeMultiplier;
 
         // Add to progress
-        double progress = skillProgress.get(skill);
+        double progress = skillProgress[index];
         progress += effectiveXP / 100.0; // Simplified: 100 XP per level
 
         // Level up if necessary
         while (progress >= 1.0 && currentLevel < 27) {
             progress -= 1.0;
             currentLevel++;
-            skillLevels.put(skill, currentLevel);
+            skillLevels[index] = currentLevel;
             LOGGER.info("Skill improved: {} is now level {}!", skill.getDisplayName(), currentLevel);
 
             // Update derived stats
             updateDerivedStats();
         }
 
-        skillProgress.put(skill, progress);
+        skillProgress[index] = progress;
     }
 
     /**
@@ -268,8 +298,8 @@ public class PlayerCharacter {
      */
     public void setSkillLevel(Skill skill, int level) {
         level = Math.max(0, Math.min(27, level));
-        skillLevels.put(skill, level);
-        skillProgress.put(skill, 0.0);
+        skillLevels[skill.ordinal()] = level;
+        skillProgress[skill.ordinal()] = 0.0;
         updateDerivedStats();
     }
 
@@ -387,6 +417,8 @@ public class PlayerCharacter {
         // Don't let current values exceed max
         currentHP = Math.min(currentHP, maxHP);
         currentMP = Math.min(currentMP, maxMP);
+
+        derivedStats.markDirty();
     }
 
     /**
@@ -448,6 +480,109 @@ public class PlayerCharacter {
         return currentHP > 0;
     }
 
+    // ===== Persistence =====
+
+    /**
+     * Save character to NBT (skills keyed by name so enum reordering is safe)
+     */
+    public CompoundTag saveToNBT() {
+        CompoundTag nbt = new CompoundTag();
+        nbt.putString("Race", race.name());
+        nbt.putString("Name", characterName);
+        nbt.putInt("XL", experienceLevel);
+        nbt.putInt("TotalXP", totalXP);
+        nbt.putInt("Str", baseStrength);
+        nbt.putInt("Dex", baseDexterity);
+        nbt.putInt("Int", baseIntelligence);
+        nbt.putInt("MaxHP", maxHP);
+        nbt.putInt("HP", currentHP);
+        nbt.putInt("MaxMP", maxMP);
+        nbt.putInt("MP", currentMP);
+
+        CompoundTag skillsTag = new CompoundTag();
+        for (Skill skill : Skill.values()) {
+            int i = skill.ordinal();
+            if (skillLevels[i] > 0 || skillProgress[i] > 0.0) {
+                CompoundTag skillTag = new CompoundTag();
+                skillTag.putInt("Level", skillLevels[i]);
+                skillTag.putDouble("Progress", skillProgress[i]);
+                skillsTag.put(skill.name(), skillTag);
+            }
+        }
+        nbt.put("Skills", skillsTag);
+
+        ListTag knownList = new ListTag();
+        for (Spell spell : knownSpells) {
+            knownList.add(StringTag.valueOf(spell.name()));
+        }
+        nbt.put("KnownSpells", knownList);
+
+        ListTag memorizedList = new ListTag();
+        for (Spell spell : memorizedSpells) {
+            memorizedList.add(StringTag.valueOf(spell.name()));
+        }
+        nbt.put("MemorizedSpells", memorizedList);
+
+        return nbt;
+    }
+
+    /**
+     * Restore a character saved with saveToNBT
+     */
+    public static PlayerCharacter loadFromNBT(UUID playerId, CompoundTag nbt) {
+        Race race;
+        try {
+            race = Race.valueOf(nbt.getString("Race"));
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Invalid race in character data for player {}, defaulting to Human", playerId);
+            race = Race.HUMAN;
+        }
+
+        PlayerCharacter character = new PlayerCharacter(playerId, race, nbt.getString("Name"));
+        character.experienceLevel = nbt.getInt("XL");
+        character.totalXP = nbt.getInt("TotalXP");
+        character.baseStrength = nbt.getInt("Str");
+        character.baseDexterity = nbt.getInt("Dex");
+        character.baseIntelligence = nbt.getInt("Int");
+        character.maxHP = nbt.getInt("MaxHP");
+        character.currentHP = nbt.getInt("HP");
+        character.maxMP = nbt.getInt("MaxMP");
+        character.currentMP = nbt.getInt("MP");
+
+        CompoundTag skillsTag = nbt.getCompound("Skills");
+        for (String key : skillsTag.getAllKeys()) {
+            try {
+                int i = Skill.valueOf(key).ordinal();
+                CompoundTag skillTag = skillsTag.getCompound(key);
+                character.skillLevels[i] = skillTag.getInt("Level");
+                character.skillProgress[i] = skillTag.getDouble("Progress");
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unknown skill in character data: {}", key);
+            }
+        }
+
+        ListTag knownList = nbt.getList("KnownSpells", Tag.TAG_STRING);
+        for (int i = 0; i < knownList.size(); i++) {
+            try {
+                character.knownSpells.add(Spell.valueOf(knownList.getString(i)));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unknown spell in character data: {}", knownList.getString(i));
+            }
+        }
+
+        ListTag memorizedList = nbt.getList("MemorizedSpells", Tag.TAG_STRING);
+        for (int i = 0; i < memorizedList.size(); i++) {
+            try {
+                character.memorizedSpells.add(Spell.valueOf(memorizedList.getString(i)));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unknown spell in character data: {}", memorizedList.getString(i));
+            }
+        }
+
+        character.derivedStats.markDirty();
+        return character;
+    }
+
     /**
      * Get character summary for display
      */
@@ -84,6 +84,15 @@ public enum Race {
         return intelligenceModifier;
     }
 
+    /**
+     * Register this race's stat modifiers with a character's ModifierStack
+     */
+    public void contributeModifiers(ModifierStack.Contribution contribution) {
+        contribution.add(StatId.STRENGTH, strengthModifier)
+                .add(StatId.DEXTERITY, dexterityModifier)
+                .add(StatId.INTELLIGENCE, intelligenceModifier);
+    }
+
     /**
      * Get beginner-friendly races
      */
@@ -0,0 +1,40 @@
+package com.wasteland.character;
+
+/**
+ * Stats that modifier sources (race, equipment, mutations, status effects) can affect.
+ * Indexes the flat arrays compiled by ModifierStack.
+ *
+ * Only stats that DerivedStats actually reads are listed; add one here together with its consumer.
+ */
+public enum StatId {
+    // Additive (sources sum, 0 = no effect)
+    STRENGTH(false),
+    DEXTERITY(false),
+    INTELLIGENCE(false),
+    ARMOR_CLASS(false),
+    EVASION(false),
+
+    // Multiplicative (sources multiply, 1 = no effect)
+    MAX_HP_MULTIPLIER(true),
+    MAX_MP_MULTIPLIER(true);
+
+    public static final StatId[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
+    private final boolean multiplicative;
+
+    StatId(boolean multiplicative) {
+        this.multiplicative = multiplicative;
+    }
+
+    public boolean isMultiplicative() {
+        return multiplicative;
+    }
+
+    /**
+     * Value of this stat when no source modifies it
+     */
+    public double getIdentity() {
+        return multiplicative ? 1.0 : 0.0;
+    }
+}
@@ -10,6 +10,7 @@ import com.wasteland.client.gui.SkillsScreen;
 import com.wasteland.client.gui.SpellsScreen;
 import com.wasteland.client.gui.SpellCastScreen;
 import com.wasteland.combat.CombatDetection;
+import com.wasteland.combat.CombatLog;
 import com.wasteland.magic.SpellTargeting;
 import net.minecraft.client.Minecraft;
 import net.minecraftforge.api.distmarker.Dist;
@@ -17,6 +18,8 @@ import net.minecraftforge.client.event.RegisterKeyMappingsEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
+import net.minecraftforge.fml.loading.FMLPaths;
 
 /**
  * Client-side event handler for keybinds and UI
@@ -136,5 +139,13 @@ public class ClientEvents {
             event.register(KeyBindings.CANCEL_TARGET);
             event.register(KeyBindings.USE_INTERACT);
         }
+
+        @SubscribeEvent
+        public static void onClientSetup(FMLClientSetupEvent event) {
+            // Launch with -Dwasteland.recordCombat=true to keep a replayable file per fight
+            if (Boolean.getBoolean("wasteland.recordCombat")) {
+                CombatLog.setRecordingDirectory(FMLPaths.GAMEDIR.get().resolve("wasteland").resolve("combatlogs"));
+            }
+        }
     }
 }
@@ -1,7 +1,12 @@
 package com.wasteland.client;
 
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexBuffer;
 import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.blaze3d.vertex.VertexFormat;
 import com.wasteland.WastelandMod;
 import com.wasteland.combat.CombatManager;
 import com.wasteland.combat.Combatant;
@@ -15,15 +20,31 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import org.joml.Matrix4f;
 
-import java.util.Set;
-
 /**
  * Renders the tactical grid overlay during combat.
  * Shows valid moves, enemy positions, and spell targeting.
+ *
+ * The grid lines and valid-move highlights only change between turns, so they are
+ * built into vertex buffers (relative to the grid center) when the combat's grid
+ * revision changes and drawn with one draw call per layer. Enemy highlights move
+ * with their entities and are drawn as a small immediate-mode overlay.
  */
 @Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
 public class CombatGridRenderer {
 
+    private static final float GRID_Y_OFFSET = 0.02f;      // Above the highlights
+    private static final float HIGHLIGHT_Y_OFFSET = 0.01f; // Slightly above ground to avoid z-fighting
+
+    // Scratch builder for mesh uploads (grows as needed)
+    private static final BufferBuilder MESH_BUILDER = new BufferBuilder(4096);
+
+    // Cached layers
+    private static VertexBuffer gridBuffer;
+    private static VertexBuffer movesBuffer;
+    private static BlockPos builtCenter;   // Grid center the cached meshes are relative to
+    private static int builtRevision = -1;  // CombatManager grid revision of the moves mesh
+    private static boolean hasMoves = false;
+
     /**
      * Render grid overlay after entities but before GUI
      */
@@ -34,139 +55,169 @@ public class CombatGridRenderer {
         }
 
         CombatManager combat = CombatManager.getInstance();
-        if (!combat.isInCombat()) {
-            return; // Not in combat, don't render grid
+        if (!combat.isInCombat() || combat.getGridCenter() == null) {
+            releaseBuffers(); // Not in combat, free the cached meshes
+            return;
+        }
+
+        BlockPos center = combat.getGridCenter();
+        if (!center.equals(builtCenter)) {
+            buildGridMesh();
+            builtCenter = center;
+            builtRevision = -1; // Moves mesh is relative to the center, rebuild it too
+        }
+        if (builtRevision != combat.getGridRevision()) {
+            buildMovesMesh(combat, center);
+            builtRevision = combat.getGridRevision();
         }
 
         PoseStack poseStack = event.getPoseStack();
         Vec3 cameraPos = event.getCamera().getPosition();
+        Matrix4f projection = event.getProjectionMatrix();
 
-        // Use client minecraft instance to get render buffers
-        net.minecraft.client.Minecraft minecraft = net.minecraft.client.Minecraft.getInstance();
-        MultiBufferSource.BufferSource bufferSource = minecraft.renderBuffers().bufferSource();
+        poseStack.pushPose();
+        poseStack.translate(center.getX() - cameraPos.x, center.getY() - cameraPos.y, center.getZ() - cameraPos.z);
 
         // Render valid move highlights (green)
-        renderValidMoves(poseStack, bufferSource, cameraPos, combat);
+        if (hasMoves) {
+            drawLayer(movesBuffer, RenderType.debugQuads(), poseStack, projection);
+        }
 
         // Render enemy positions (red)
-        renderEnemyPositions(poseStack, bufferSource, cameraPos, combat);
+        net.minecraft.client.Minecraft minecraft = net.minecraft.client.Minecraft.getInstance();
+        renderEnemyPositions(poseStack, minecraft.renderBuffers().bufferSource(), center, combat);
 
         // Render grid lines
-        renderGridLines(poseStack, bufferSource, cameraPos, combat);
+        drawLayer(gridBuffer, RenderType.lines(), poseStack, projection);
+
+        poseStack.popPose();
     }
 
     /**
-     * Render green highlights for valid movement positions
+     * Draw a cached mesh with the shader and state of a render type
      */
-    private static void renderValidMoves(PoseStack poseStack, MultiBufferSource bufferSource, Vec3 cameraPos, CombatManager combat) {
-        Set<BlockPos> validMoves = combat.getValidMoves();
-
-        for (BlockPos pos : validMoves) {
-            renderSquareHighlight(poseStack, bufferSource, cameraPos, pos, 0.0f, 1.0f, 0.0f, 0.3f);
-        }
+    private static void drawLayer(VertexBuffer buffer, RenderType type, PoseStack poseStack, Matrix4f projection) {
+        type.setupRenderState();
+        buffer.bind();
+        buffer.drawWithShader(poseStack.last().pose(), projection, RenderSystem.getShader());
+        VertexBuffer.unbind();
+        type.clearRenderState();
     }
 
     /**
-     * Render red highlights for enemy positions
+     * Build the white grid lines around the combat area (shared cell edges drawn once)
      */
-    private static void renderEnemyPositions(PoseStack poseStack, MultiBufferSource bufferSource, Vec3 cameraPos, CombatManager combat) {
-        for (Combatant combatant : combat.getCombatants()) {
-            if (!combatant.isPlayer() && combatant.isAlive()) {
-                BlockPos pos = combatant.getEntity().blockPosition();
-                renderSquareHighlight(poseStack, bufferSource, cameraPos, pos, 1.0f, 0.0f, 0.0f, 0.4f);
-            }
+    private static void buildGridMesh() {
+        int radius = CombatManager.GRID_RADIUS;
+        float min = -radius;
+        float max = radius + 1;
+
+        MESH_BUILDER.begin(VertexFormat.Mode.LINES, DefaultVertexFormat.POSITION_COLOR_NORMAL);
+        for (int i = -radius; i <= radius + 1; i++) {
+            drawLine(MESH_BUILDER, i, min, i, max, 1.0f, 1.0f, 1.0f, 0.15f); // Along Z
+            drawLine(MESH_BUILDER, min, i, max, i, 1.0f, 1.0f, 1.0f, 0.15f); // Along X
         }
+
+        if (gridBuffer == null) {
+            gridBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+        }
+        gridBuffer.bind();
+        gridBuffer.upload(MESH_BUILDER.end());
+        VertexBuffer.unbind();
     }
 
     /**
-     * Render grid lines around combat area
+     * Build the green highlights for valid movement positions
      */
-    private static void renderGridLines(PoseStack poseStack, MultiBufferSource bufferSource, Vec3 cameraPos, CombatManager combat) {
-        BlockPos center = combat.getGridCenter();
-        if (center == null) {
+    private static void buildMovesMesh(CombatManager combat, BlockPos center) {
+        hasMoves = !combat.getValidMoves().isEmpty();
+        if (!hasMoves) {
             return;
         }
 
-        int radius = CombatManager.GRID_RADIUS;
+        MESH_BUILDER.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_COLOR);
+        for (BlockPos pos : combat.getValidMoves()) {
+            drawQuad(MESH_BUILDER,
+                pos.getX() - center.getX(), pos.getY() - center.getY() + HIGHLIGHT_Y_OFFSET, pos.getZ() - center.getZ(),
+                0.0f, 1.0f, 0.0f, 0.3f);
+        }
 
-        // Render grid lines in white with low alpha
-        for (int x = center.getX() - radius; x <= center.getX() + radius; x++) {
-            for (int z = center.getZ() - radius; z <= center.getZ() + radius; z++) {
-                BlockPos pos = new BlockPos(x, center.getY(), z);
-                renderGridOutline(poseStack, bufferSource, cameraPos, pos, 1.0f, 1.0f, 1.0f, 0.15f);
-            }
+        if (movesBuffer == null) {
+            movesBuffer = new VertexBuffer(VertexBuffer.Usage.DYNAMIC);
         }
+        movesBuffer.bind();
+        movesBuffer.upload(MESH_BUILDER.end());
+        VertexBuffer.unbind();
     }
 
     /**
-     * Render a filled square highlight at a block position
+     * Free the cached meshes once combat is over
      */
-    private static void renderSquareHighlight(PoseStack poseStack, MultiBufferSource bufferSource,
-                                             Vec3 cameraPos, BlockPos pos,
-                                             float r, float g, float b, float alpha) {
-        poseStack.pushPose();
-
-        // Translate to block position relative to camera
-        poseStack.translate(
-            pos.getX() - cameraPos.x,
-            pos.getY() - cameraPos.y + 0.01, // Slightly above ground to avoid z-fighting
-            pos.getZ() - cameraPos.z
-        );
-
-        Matrix4f matrix = poseStack.last().pose();
-        VertexConsumer builder = bufferSource.getBuffer(RenderType.debugLineStrip(1.0));
-
-        // Draw filled quad
-        drawQuad(builder, matrix, 0, 0, 1, 1, r, g, b, alpha);
-
-        poseStack.popPose();
+    private static void releaseBuffers() {
+        if (gridBuffer != null) {
+            gridBuffer.close();
+            gridBuffer = null;
+        }
+        if (movesBuffer != null) {
+            movesBuffer.close();
+            movesBuffer = null;
+        }
+        builtCenter = null;
+        builtRevision = -1;
+        hasMoves = false;
     }
 
     /**
-     * Render an outline around a grid square
+     * Render red highlights for enemy positions (dynamic overlay, relative to the grid center)
      */
-    private static void renderGridOutline(PoseStack poseStack, MultiBufferSource bufferSource,
-                                         Vec3 cameraPos, BlockPos pos,
-                                         float r, float g, float b, float alpha) {
-        poseStack.pushPose();
-
-        poseStack.translate(
-            pos.getX() - cameraPos.x,
-            pos.getY() - cameraPos.y + 0.02,
-            pos.getZ() - cameraPos.z
-        );
-
+    private static void renderEnemyPositions(PoseStack poseStack, MultiBufferSource bufferSource, BlockPos center,
+                                             CombatManager combat) {
         Matrix4f matrix = poseStack.last().pose();
-        VertexConsumer builder = bufferSource.getBuffer(RenderType.lines());
+        VertexConsumer builder = bufferSource.getBuffer(RenderType.debugQuads());
 
-        // Draw outline (4 lines forming a square)
-        drawLine(builder, matrix, 0, 0, 1, 0, r, g, b, alpha); // Bottom
-        drawLine(builder, matrix, 1, 0, 1, 1, r, g, b, alpha); // Right
-        drawLine(builder, matrix, 1, 1, 0, 1, r, g, b, alpha); // Top
-        drawLine(builder, matrix, 0, 1, 0, 0, r, g, b, alpha); // Left
+        for (Combatant combatant : combat.getCombatants()) {
+            if (!combatant.isPlayer() && combatant.isAlive()) {
+                BlockPos pos = combatant.getEntity().blockPosition();
+                drawQuad(builder, matrix,
+                    pos.getX() - center.getX(), pos.getY() - center.getY() + HIGHLIGHT_Y_OFFSET, pos.getZ() - center.getZ(),
+                    1.0f, 0.0f, 0.0f, 0.4f);
+            }
+        }
+    }
 
-        poseStack.popPose();
+    /**
+     * Draw a filled 1x1 square into a mesh
+     */
+    private static void drawQuad(BufferBuilder builder, float x, float y, float z,
+                                 float r, float g, float b, float alpha) {
+        builder.vertex(x, y, z).color(r, g, b, alpha).endVertex();
+        builder.vertex(x + 1, y, z).color(r, g, b, alpha).endVertex();
+        builder.vertex(x + 1, y, z + 1).color(r, g, b, alpha).endVertex();
+        builder.vertex(x, y, z + 1).color(r, g, b, alpha).endVertex();
     }
 
     /**
-     * Draw a quad (filled rectangle)
+     * Draw a filled 1x1 square through a pose matrix
      */
-    private static void drawQuad(VertexConsumer builder, Matrix4f matrix,
-                                 float x1, float z1, float x2, float z2,
+    private static void drawQuad(VertexConsumer builder, Matrix4f matrix, float x, float y, float z,
                                  float r, float g, float b, float alpha) {
-        builder.vertex(matrix, x1, 0, z1).color(r, g, b, alpha).endVertex();
-        builder.vertex(matrix, x2, 0, z1).color(r, g, b, alpha).endVertex();
-        builder.vertex(matrix, x2, 0, z2).color(r, g, b, alpha).endVertex();
-        builder.vertex(matrix, x1, 0, z2).color(r, g, b, alpha).endVertex();
+        builder.vertex(matrix, x, y, z).color(r, g, b, alpha).endVertex();
+        builder.vertex(matrix, x + 1, y, z).color(r, g, b, alpha).endVertex();
+        builder.vertex(matrix, x + 1, y, z + 1).color(r, g, b, alpha).endVertex();
+        builder.vertex(matrix, x, y, z + 1).color(r, g, b, alpha).endVertex();
     }
 
     /**
-     * Draw a line
+     * Draw a horizontal grid line into a mesh (normal = line direction, as the lines shader expects)
      */
-    private static void drawLine(VertexConsumer builder, Matrix4f matrix,
-                                 float x1, float z1, float x2, float z2,
+    private static void drawLine(BufferBuilder builder, float x1, float z1, float x2, float z2,
                                  float r, float g, float b, float alpha) {
-        builder.vertex(matrix, x1, 0, z1).color(r, g, b, alpha).normal(0, 1, 0).endVertex();
-        builder.vertex(matrix, x2, 0, z2).color(r, g, b, alpha).normal(0, 1, 0).endVertex();
+        float dx = x2 - x1;
+        float dz = z2 - z1;
+        float length = (float) Math.sqrt(dx * dx + dz * dz);
+        dx /= length;
+        dz /= length;
+        builder.vertex(x1, GRID_Y_OFFSET, z1).color(r, g, b, alpha).normal(dx, 0, dz).endVertex();
+        builder.vertex(x2, GRID_Y_OFFSET, z2).color(r, g, b, alpha).normal(dx, 0, dz).endVertex();
     }
 }
@@ -0,0 +1,83 @@
+package com.wasteland.client;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.wasteland.WastelandMod;
+import com.wasteland.combat.CombatManager;
+import com.wasteland.combat.Projectile;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.RenderLevelStageEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.joml.Matrix4f;
+
+import java.util.List;
+
+/**
+ * Draws combat projectiles as highlighted paths over the tactical grid.
+ * Projectiles are never spawned as entities; this is their only visual.
+ */
+@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+public class ProjectileRenderer {
+
+    private static final float PATH_Y_OFFSET = 0.015f; // Between the highlights and the grid lines
+    private static final float TRAIL_ALPHA = 0.25f;
+    private static final float HEAD_ALPHA = 0.7f;
+
+    @SubscribeEvent
+    public static void onRenderLevel(RenderLevelStageEvent event) {
+        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_ENTITIES) {
+            return;
+        }
+
+        CombatManager combat = CombatManager.getInstance();
+        List<Projectile> projectiles = combat.getProjectiles();
+        BlockPos center = combat.getGridCenter();
+        if (projectiles.isEmpty() || center == null) {
+            return;
+        }
+
+        PoseStack poseStack = event.getPoseStack();
+        Vec3 cameraPos = event.getCamera().getPosition();
+
+        poseStack.pushPose();
+        poseStack.translate(center.getX() - cameraPos.x, center.getY() - cameraPos.y, center.getZ() - cameraPos.z);
+
+        MultiBufferSource.BufferSource bufferSource = Minecraft.getInstance().renderBuffers().bufferSource();
+        VertexConsumer builder = bufferSource.getBuffer(RenderType.debugQuads());
+        Matrix4f matrix = poseStack.last().pose();
+
+        for (Projectile projectile : projectiles) {
+            float r = ((projectile.getColor() >> 16) & 0xFF) / 255.0f;
+            float g = ((projectile.getColor() >> 8) & 0xFF) / 255.0f;
+            float b = (projectile.getColor() & 0xFF) / 255.0f;
+
+            int length = projectile.getPathLength();
+            for (int i = 0; i < length; i++) {
+                boolean head = i == length - 1 && !projectile.isFinished();
+                drawCell(builder, matrix,
+                    projectile.getPathX(i) - center.getX(), PATH_Y_OFFSET, projectile.getPathZ(i) - center.getZ(),
+                    r, g, b, head ? HEAD_ALPHA : TRAIL_ALPHA);
+            }
+        }
+
+        bufferSource.endBatch(RenderType.debugQuads());
+        poseStack.popPose();
+    }
+
+    /**
+     * Draw a filled 1x1 square through a pose matrix
+     */
+    private static void drawCell(VertexConsumer builder, Matrix4f matrix, float x, float y, float z,
+                                 float r, float g, float b, float alpha) {
+        builder.vertex(matrix, x, y, z).color(r, g, b, alpha).endVertex();
+        builder.vertex(matrix, x + 1, y, z).color(r, g, b, alpha).endVertex();
+        builder.vertex(matrix, x + 1, y, z + 1).color(r, g, b, alpha).endVertex();
+        builder.vertex(matrix, x, y, z + 1).color(r, g, b, alpha).endVertex();
+    }
+}
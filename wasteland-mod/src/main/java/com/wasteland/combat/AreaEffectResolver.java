@@ -0,0 +1,474 @@
+package com.wasteland.combat;
+
+import com.wasteland.WastelandMod;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Resolves area-of-effect damage (spell blasts) and robot self-destructs in batches.
+ *
+ * Effects submitted during a tick are queued per level and resolved at the end of that
+ * level's tick. Overlapping effects are grouped into clusters and each cluster makes one
+ * entity query; every entity then takes its strongest hit once, and particle bursts and
+ * sounds at the same spot are merged. Effects set off by that damage (a robot dying in a
+ * fireball and self-destructing) form the next wave of the same tick, up to
+ * MAX_WAVES_PER_TICK; anything left over carries to the next tick.
+ *
+ * Explosions (see explode) are only scheduled here: each one still runs as a vanilla
+ * explosion, with its exposure checks, falloff, block damage and client packet.
+ */
+@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class AreaEffectResolver {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MAX_WAVES_PER_TICK = 8;
+    private static final int MAX_BURST_COUNT = 200; // Cap for merged particle bursts
+
+    // Effects waiting for the end of their level's tick (server thread only)
+    private static final Map<ServerLevel, List<AreaEffect>> PENDING = new IdentityHashMap<>();
+    private static final Map<ServerLevel, List<Blast>> PENDING_BLASTS = new IdentityHashMap<>();
+
+    private AreaEffectResolver() {}
+
+    /**
+     * One area effect: damage with linear falloff from the center, plus optional fire,
+     * knockback, sound and particles
+     */
+    public static final class AreaEffect {
+        final Vec3 center;
+        final double radius;
+        final float damage;
+        final double edgeFactor;
+        final DamageSource damageSource;
+        final Entity excluded;
+        final int fireSeconds;
+        final double knockback;
+        final SoundEvent sound;
+        final SoundSource soundSource;
+        final float soundVolume;
+        final List<ParticleBurst> particles;
+        final String name;
+
+        private AreaEffect(Builder builder) {
+            this.center = builder.center;
+            this.radius = builder.radius;
+            this.damage = builder.damage;
+            this.edgeFactor = builder.edgeFactor;
+            this.damageSource = builder.damageSource;
+            this.excluded = builder.excluded;
+            this.fireSeconds = builder.fireSeconds;
+            this.knockback = builder.knockback;
+            this.sound = builder.sound;
+            this.soundSource = builder.soundSource;
+            this.soundVolume = builder.soundVolume;
+            this.particles = List.copyOf(builder.particles);
+            this.name = builder.name;
+        }
+
+        AABB getBounds() {
+            return new AABB(center, center).inflate(radius);
+        }
+
+        /**
+         * Strength at a distance: 1 at the center down to edgeFactor at the radius
+         */
+        double getFactor(double distance) {
+            return 1.0 - (distance / radius) * (1.0 - edgeFactor);
+        }
+
+        /**
+         * Builder for area effects
+         */
+        public static class Builder {
+            private final Vec3 center;
+            private final double radius;
+            private float damage = 0;
+            private double edgeFactor = 0.5;
+            private DamageSource damageSource;
+            private Entity excluded;
+            private int fireSeconds = 0;
+            private double knockback = 0;
+            private SoundEvent sound;
+            private SoundSource soundSource = SoundSource.HOSTILE;
+            private float soundVolume = 4.0F;
+            private final List<ParticleBurst> particles = new ArrayList<>();
+            private String name = "Area effect";
+
+            public Builder(Vec3 center, double radius) {
+                this.center = center;
+                this.radius = radius;
+            }
+
+            public Builder damage(float damage, DamageSource source) {
+                this.damage = damage;
+                this.damageSource = source;
+                return this;
+            }
+
+            /**
+             * Damage multiplier at the edge of the radius (default 0.5)
+             */
+            public Builder edgeFactor(double edgeFactor) {
+                this.edgeFactor = edgeFactor;
+                return this;
+            }
+
+            /**
+             * Entity that is never hit (the caster, or the exploding robot itself)
+             */
+            public Builder exclude(Entity entity) {
+                this.excluded = entity;
+                return this;
+            }
+
+            public Builder fire(int seconds) {
+                this.fireSeconds = seconds;
+                return this;
+            }
+
+            /**
+             * Push away from the center, scaled by the same falloff as damage
+             */
+            public Builder knockback(double strength) {
+                this.knockback = strength;
+                return this;
+            }
+
+            public Builder sound(SoundEvent sound, SoundSource source, float volume) {
+                this.sound = sound;
+                this.soundSource = source;
+                this.soundVolume = volume;
+                return this;
+            }
+
+            /**
+             * Particle burst around the center (spread is the per-axis offset, in blocks)
+             */
+            public Builder particles(ParticleOptions type, int count, double spread, double speed) {
+                this.particles.add(new ParticleBurst(type, count, spread, speed));
+                return this;
+            }
+
+            public Builder name(String name) {
+                this.name = name;
+                return this;
+            }
+
+            public AreaEffect build() {
+                if (damage > 0 && damageSource == null) {
+                    throw new IllegalStateException(name + " deals damage but has no damage source");
+                }
+                return new AreaEffect(this);
+            }
+        }
+    }
+
+    /**
+     * A particle burst centered on an effect
+     */
+    private static final class ParticleBurst {
+        final ParticleOptions type;
+        final int count;
+        final double spread;
+        final double speed;
+
+        ParticleBurst(ParticleOptions type, int count, double spread, double speed) {
+            this.type = type;
+            this.count = count;
+            this.spread = spread;
+            this.speed = speed;
+        }
+    }
+
+    /**
+     * A vanilla explosion waiting for its wave (position taken when it was queued)
+     */
+    private static final class Blast {
+        final Entity source;
+        final Vec3 center;
+        final float power;
+
+        Blast(Entity source, Vec3 center, float power) {
+            this.source = source;
+            this.center = center;
+            this.power = power;
+        }
+    }
+
+    /**
+     * Effects whose bounds overlap, resolved with one entity query
+     */
+    private static final class Cluster {
+        AABB bounds;
+        final List<AreaEffect> effects = new ArrayList<>();
+
+        Cluster(AreaEffect effect, AABB bounds) {
+            this.bounds = bounds;
+            this.effects.add(effect);
+        }
+
+        void add(AreaEffect effect, AABB effectBounds) {
+            bounds = bounds.minmax(effectBounds);
+            effects.add(effect);
+        }
+
+        void merge(Cluster other) {
+            bounds = bounds.minmax(other.bounds);
+            effects.addAll(other.effects);
+        }
+    }
+
+    /**
+     * Everything one entity takes in a wave
+     */
+    private static final class Hit {
+        float damage = 0;
+        DamageSource source;
+        int fireSeconds = 0;
+        Vec3 push = Vec3.ZERO;
+    }
+
+    // ===== Submission =====
+
+    /**
+     * Queue an effect for the end of this tick (ignored on the client)
+     */
+    public static void submit(Level level, AreaEffect effect) {
+        if (level instanceof ServerLevel serverLevel) {
+            PENDING.computeIfAbsent(serverLevel, l -> new ArrayList<>()).add(effect);
+        }
+    }
+
+    /**
+     * Queue a mob explosion centered on an entity for this tick's waves (ignored on the client).
+     * It runs as level.explode with ExplosionInteraction.MOB, so damage, line of sight and
+     * block breaking are vanilla; batching only decides when chained explosions go off.
+     */
+    public static void explode(Entity source, float power) {
+        if (source.level() instanceof ServerLevel serverLevel) {
+            PENDING_BLASTS.computeIfAbsent(serverLevel, l -> new ArrayList<>())
+                .add(new Blast(source, source.position(), power));
+        }
+    }
+
+    // ===== Event handlers =====
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && event.level instanceof ServerLevel level) {
+            resolve(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        PENDING.remove(event.getLevel());
+        PENDING_BLASTS.remove(event.getLevel());
+    }
+
+    // ===== Resolution =====
+
+    /**
+     * Resolve queued effects for a level, wave by wave
+     */
+    private static void resolve(ServerLevel level) {
+        for (int wave = 0; wave < MAX_WAVES_PER_TICK; wave++) {
+            // Take the queues first, so effects triggered by this wave start a new one
+            List<AreaEffect> batch = PENDING.remove(level);
+            List<Blast> blasts = PENDING_BLASTS.remove(level);
+            if (batch == null && blasts == null) {
+                return;
+            }
+            if (batch != null) {
+                resolveWave(level, batch);
+            }
+            if (blasts != null) {
+                for (Blast blast : blasts) {
+                    level.explode(blast.source, blast.center.x, blast.center.y, blast.center.z,
+                                  blast.power, Level.ExplosionInteraction.MOB);
+                }
+            }
+        }
+        if (PENDING.containsKey(level) || PENDING_BLASTS.containsKey(level)) {
+            LOGGER.debug("Area effect chain still running after {} waves, continuing next tick", MAX_WAVES_PER_TICK);
+        }
+    }
+
+    private static void resolveWave(ServerLevel level, List<AreaEffect> batch) {
+        List<Cluster> clusters = cluster(batch);
+        Map<LivingEntity, Hit> hits = new LinkedHashMap<>();
+
+        for (Cluster cluster : clusters) {
+            List<LivingEntity> entities = level.getEntitiesOfClass(LivingEntity.class, cluster.bounds, LivingEntity::isAlive);
+
+            for (AreaEffect effect : cluster.effects) {
+                for (LivingEntity entity : entities) {
+                    if (entity == effect.excluded) {
+                        continue;
+                    }
+
+                    double distance = entity.position().distanceTo(effect.center);
+                    if (distance > effect.radius) {
+                        continue;
+                    }
+
+                    double factor = effect.getFactor(distance);
+                    Hit hit = hits.computeIfAbsent(entity, e -> new Hit());
+
+                    // Strongest hit wins (overlapping blasts don't stack, as with damage immunity frames)
+                    float damage = (float) (effect.damage * factor);
+                    if (damage > hit.damage) {
+                        hit.damage = damage;
+                        hit.source = effect.damageSource;
+                    }
+                    hit.fireSeconds = Math.max(hit.fireSeconds, effect.fireSeconds);
+                    if (effect.knockback > 0 && distance > 1.0E-4) {
+                        Vec3 away = entity.position().subtract(effect.center).normalize();
+                        hit.push = hit.push.add(away.scale(effect.knockback * factor));
+                    }
+                }
+            }
+
+            playEffects(level, cluster);
+        }
+
+        // Apply in one pass; deaths here may queue the next wave
+        for (Map.Entry<LivingEntity, Hit> entry : hits.entrySet()) {
+            LivingEntity entity = entry.getKey();
+            Hit hit = entry.getValue();
+
+            if (hit.damage > 0) {
+                entity.hurt(hit.source, hit.damage);
+            }
+            if (hit.fireSeconds > 0) {
+                entity.setSecondsOnFire(hit.fireSeconds);
+            }
+            if (hit.push != Vec3.ZERO) {
+                entity.setDeltaMovement(entity.getDeltaMovement().add(hit.push));
+                entity.hurtMarked = true; // Sync the new velocity to players
+            }
+        }
+
+        LOGGER.debug("Resolved {} area effects in {} clusters, hit {} entities",
+                    batch.size(), clusters.size(), hits.size());
+    }
+
+    /**
+     * Group effects whose bounds overlap
+     */
+    private static List<Cluster> cluster(List<AreaEffect> batch) {
+        List<Cluster> clusters = new ArrayList<>();
+
+        for (AreaEffect effect : batch) {
+            AABB bounds = effect.getBounds();
+            Cluster target = null;
+
+            Iterator<Cluster> iterator = clusters.iterator();
+            while (iterator.hasNext()) {
+                Cluster cluster = iterator.next();
+                if (!cluster.bounds.intersects(bounds)) {
+                    continue;
+                }
+                if (target == null) {
+                    target = cluster;
+                    target.add(effect, bounds);
+                } else {
+                    // The effect bridges two clusters
+                    target.merge(cluster);
+                    iterator.remove();
+                }
+            }
+
+            if (target == null) {
+                clusters.add(new Cluster(effect, bounds));
+            }
+        }
+
+        return clusters;
+    }
+
+    /**
+     * Play a cluster's sounds and particles, merging repeats at the same block
+     */
+    private static void playEffects(ServerLevel level, Cluster cluster) {
+        Map<SoundEvent, AreaEffect> sounds = new LinkedHashMap<>();
+        Map<BurstKey, double[]> bursts = new LinkedHashMap<>(); // count, spread, speed
+
+        for (AreaEffect effect : cluster.effects) {
+            if (effect.sound != null) {
+                AreaEffect loudest = sounds.get(effect.sound);
+                if (loudest == null || effect.soundVolume > loudest.soundVolume) {
+                    sounds.put(effect.sound, effect);
+                }
+            }
+
+            for (ParticleBurst burst : effect.particles) {
+                double[] merged = bursts.computeIfAbsent(
+                    new BurstKey(burst.type, BlockPos.containing(effect.center), effect.center), k -> new double[3]);
+                merged[0] = Math.min(MAX_BURST_COUNT, merged[0] + burst.count);
+                merged[1] = Math.max(merged[1], burst.spread);
+                merged[2] = Math.max(merged[2], burst.speed);
+            }
+        }
+
+        for (AreaEffect effect : sounds.values()) {
+            float pitch = (1.0F + (level.random.nextFloat() - level.random.nextFloat()) * 0.2F) * 0.7F;
+            level.playSound(null, effect.center.x, effect.center.y, effect.center.z,
+                           effect.sound, effect.soundSource, effect.soundVolume, pitch);
+        }
+
+        for (Map.Entry<BurstKey, double[]> entry : bursts.entrySet()) {
+            BurstKey key = entry.getKey();
+            double[] burst = entry.getValue();
+            level.sendParticles(key.type, key.center.x, key.center.y + 0.5, key.center.z,
+                               (int) burst[0], burst[1], burst[1], burst[1], burst[2]);
+        }
+    }
+
+    /**
+     * Particle type at a block; the first effect's exact center is kept for display
+     */
+    private static final class BurstKey {
+        final ParticleOptions type;
+        final BlockPos block;
+        final Vec3 center;
+
+        BurstKey(ParticleOptions type, BlockPos block, Vec3 center) {
+            this.type = type;
+            this.block = block;
+            this.center = center;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BurstKey other && type == other.type && block.equals(other.block);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, block);
+        }
+    }
+}
@@ -142,28 +142,16 @@ public class CombatDetection {
      * Detect all hostile entities within detection radius
      */
     private static List<LivingEntity> detectNearbyEnemies(Player player, Level level) {
-        List<LivingEntity> enemies = new ArrayList<>();
+        // O(1) check against the incrementally tracked hostiles around the player
+        if (!HostileProximityTracker.hasNearbyHostiles(player)) {
+            return new ArrayList<>();
+        }
 
         double radius = CombatManager.DETECTION_RADIUS;
 
-        // Create bounding box around player
+        // Create bounding box around player and keep tracked hostiles inside it
         AABB searchBox = player.getBoundingBox().inflate(radius);
-
-        // Find all living entities in range
-        List<LivingEntity> nearbyEntities = level.getEntitiesOfClass(
-            LivingEntity.class,
-            searchBox,
-            entity -> entity != player // Exclude player
-        );
-
-        // Filter for hostile mobs
-        for (LivingEntity entity : nearbyEntities) {
-            if (isHostile(entity, player)) {
-                enemies.add(entity);
-            }
-        }
-
-        return enemies;
+        return HostileProximityTracker.getNearbyHostiles(player, searchBox);
     }
 
     /**
@@ -184,18 +172,9 @@ public class CombatDetection {
             return true;
         }
 
-        // Check mob type - consider most mobs hostile in dungeons
+        // Check mob type - most mobs in dungeons are hostile, passive animals are not
         // TODO: Add whitelist for friendly NPCs, merchants, etc.
-        String mobType = entity.getType().toString();
-
-        // Don't attack passive animals
-        if (mobType.contains("cow") || mobType.contains("sheep") ||
-            mobType.contains("chicken") || mobType.contains("pig")) {
-            return false;
-        }
-
-        // Most other mobs in dungeons are hostile
-        return true;
+        return HostileProximityTracker.isHostileType(entity.getType());
     }
 
     /**
@@ -216,13 +195,11 @@ public class CombatDetection {
         double radius = 10.0;
         AABB searchBox = target.getBoundingBox().inflate(radius);
 
-        List<LivingEntity> nearby = level.getEntitiesOfClass(
-            LivingEntity.class,
-            searchBox,
-            entity -> entity != player && entity != target && isHostile(entity, player)
-        );
-
-        enemies.addAll(nearby);
+        for (LivingEntity entity : HostileProximityTracker.getNearbyHostiles(player, searchBox)) {
+            if (entity != target) {
+                enemies.add(entity);
+            }
+        }
 
         System.out.println("Manually triggered combat with " + enemies.size() + " enemies");
         combat.startCombat(player, enemies, level);
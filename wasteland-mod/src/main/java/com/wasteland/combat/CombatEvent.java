@@ -0,0 +1,135 @@
+package com.wasteland.combat;
+
+/**
+ * A single structured combat log entry.
+ * Stores raw data (who, what, how much, when); the display text is only
+ * built when the log is actually shown.
+ */
+public final class CombatEvent {
+
+    /**
+     * Kind of combat event
+     */
+    public enum Type {
+        COMBAT_START,
+        COMBATANT_JOINED,
+        PLAYER_ATTACK,
+        ENEMY_ATTACK,
+        HP_CHANGE,
+        MOVE,
+        MOVE_BLOCKED,
+        PLAYER_DEFEATED,
+        MESSAGE
+    }
+
+    private final Type type;
+    private final long tick;
+    private final int actorId;
+    private final String actorName;
+    private final int targetId;
+    private final String targetName;
+    private final float amount;
+    private final float before;
+    private final float after;
+    private final String detail;
+
+    public CombatEvent(Type type, long tick, int actorId, String actorName, int targetId, String targetName,
+                       float amount, float before, float after, String detail) {
+        this.type = type;
+        this.tick = tick;
+        this.actorId = actorId;
+        this.actorName = actorName;
+        this.targetId = targetId;
+        this.targetName = targetName;
+        this.amount = amount;
+        this.before = before;
+        this.after = after;
+        this.detail = detail;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Game time the event happened at
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Entity id of the acting combatant (-1 if none)
+     */
+    public int getActorId() {
+        return actorId;
+    }
+
+    public String getActorName() {
+        return actorName;
+    }
+
+    /**
+     * Entity id of the affected combatant (-1 if none)
+     */
+    public int getTargetId() {
+        return targetId;
+    }
+
+    public String getTargetName() {
+        return targetName;
+    }
+
+    /**
+     * Damage dealt (attacks only)
+     */
+    public float getAmount() {
+        return amount;
+    }
+
+    /**
+     * HP before the event (HP changes only)
+     */
+    public float getBefore() {
+        return before;
+    }
+
+    /**
+     * HP after the event (HP changes only)
+     */
+    public float getAfter() {
+        return after;
+    }
+
+    /**
+     * Extra text (weapon name, free-form message)
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    /**
+     * Build the DCSS-style display line for this event
+     */
+    public String format() {
+        return switch (type) {
+            case COMBAT_START -> "Combat started!";
+            case COMBATANT_JOINED -> "  • " + actorName;
+            case PLAYER_ATTACK -> String.format("You attack %s with %s for %d damage!",
+                targetName, detail, (int) amount);
+            case ENEMY_ATTACK -> String.format("%s attacks you for %.1f damage!", actorName, amount);
+            case HP_CHANGE -> targetName == null
+                ? String.format("Your HP: %.1f -> %.1f", before, after)
+                : String.format("%s: %.1f -> %.1f HP", targetName, before, after);
+            case MOVE -> actorName + " moves closer";
+            case MOVE_BLOCKED -> actorName + " cannot move";
+            case PLAYER_DEFEATED -> "You have been defeated!";
+            case MESSAGE -> detail;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "[" + tick + "] " + format();
+    }
+}
@@ -0,0 +1,80 @@
+package com.wasteland.combat;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+
+import java.util.BitSet;
+
+/**
+ * Passability snapshot of the combat grid, taken when combat starts.
+ *
+ * One bit per cell of the (2 * radius + 1)^2 square around the grid center, at the
+ * center's height: set if the block there is open. The world around a fight is frozen,
+ * so movement checks and projectile paths read the bits instead of querying block states.
+ */
+public final class CombatGrid {
+    private final int centerX;
+    private final int centerY;
+    private final int centerZ;
+    private final int radius;
+    private final int size;
+    private final BitSet open;
+
+    private CombatGrid(BlockPos center, int radius, BitSet open) {
+        this.centerX = center.getX();
+        this.centerY = center.getY();
+        this.centerZ = center.getZ();
+        this.radius = radius;
+        this.size = radius * 2 + 1;
+        this.open = open;
+    }
+
+    /**
+     * Record which cells around a center are open
+     */
+    public static CombatGrid capture(Level level, BlockPos center, int radius) {
+        int size = radius * 2 + 1;
+        BitSet open = new BitSet(size * size);
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (int dz = -radius; dz <= radius; dz++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                pos.set(center.getX() + dx, center.getY(), center.getZ() + dz);
+                if (!level.getBlockState(pos).isSolidRender(level, pos)) {
+                    open.set((dz + radius) * size + (dx + radius));
+                }
+            }
+        }
+
+        return new CombatGrid(center, radius, open);
+    }
+
+    /**
+     * Check if a world column is inside the grid
+     */
+    public boolean contains(int x, int z) {
+        return Math.abs(x - centerX) <= radius && Math.abs(z - centerZ) <= radius;
+    }
+
+    /**
+     * Check if a position is covered by the snapshot (inside the grid, at the grid's height)
+     */
+    public boolean contains(BlockPos pos) {
+        return pos.getY() == centerY && contains(pos.getX(), pos.getZ());
+    }
+
+    /**
+     * Check if a cell is open (false outside the grid)
+     */
+    public boolean isOpen(int x, int z) {
+        return contains(x, z) && open.get((z - centerZ + radius) * size + (x - centerX + radius));
+    }
+
+    public int getCenterY() {
+        return centerY;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+}
@@ -1,54 +1,138 @@
 package com.wasteland.combat;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.nio.file.Path;
 
 /**
  * Combat message log - DCSS style combat messages
  * Stores recent combat events for display in UI
+ *
+ * One log per combat session. Events live in a fixed-capacity ring buffer
+ * (oldest overwritten first) and are only turned into text when displayed;
+ * the text is cached per slot so redrawing the UI allocates nothing.
+ * Optionally every event is also appended to a file (see {@link CombatLogFile}).
  */
 public class CombatLog {
-    private static final List<String> messages = new ArrayList<>();
-    private static final int MAX_MESSAGES = 20; // Keep last 20 messages
+    public static final int DEFAULT_CAPACITY = 20; // Keep last 20 messages
+
+    // Where to write fight recordings, null = disabled
+    private static Path recordingDirectory = null;
+
+    private final CombatEvent[] events;
+    private final String[] formatted;
+    private int next = 0; // Slot the next event is written to
+    private int size = 0;
+    private CombatLogFile file;
+
+    public CombatLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CombatLog(int capacity) {
+        this(capacity, true);
+    }
+
+    CombatLog(int capacity, boolean record) {
+        this.events = new CombatEvent[capacity];
+        this.formatted = new String[capacity];
+        if (record && recordingDirectory != null) {
+            this.file = CombatLogFile.create(recordingDirectory);
+        }
+    }
 
     /**
-     * Add a new combat message to the log
-     * Most recent messages appear first
+     * Enable (directory) or disable (null) on-disk recording for new logs
      */
-    public static void addMessage(String message) {
-        messages.add(0, message); // Add to beginning
-        if (messages.size() > MAX_MESSAGES) {
-            messages.remove(MAX_MESSAGES); // Remove oldest
+    public static void setRecordingDirectory(Path directory) {
+        recordingDirectory = directory;
+    }
+
+    /**
+     * Check if new logs are recorded to disk
+     */
+    public static boolean isRecording() {
+        return recordingDirectory != null;
+    }
+
+    /**
+     * Add a new combat event to the log
+     */
+    public void add(CombatEvent event) {
+        events[next] = event;
+        formatted[next] = null;
+        next = (next + 1) % events.length;
+        if (size < events.length) {
+            size++;
+        }
+        if (file != null) {
+            file.append(event);
         }
     }
 
     /**
-     * Get all messages (most recent first)
+     * Add a free-form text message to the log
      */
-    public static List<String> getMessages() {
-        return new ArrayList<>(messages); // Return copy
+    public void addMessage(long tick, String message) {
+        add(new CombatEvent(CombatEvent.Type.MESSAGE, tick, -1, null, -1, null, 0, 0, 0, message));
     }
 
     /**
-     * Get last N messages
+     * Get an event (0 = most recent)
      */
-    public static List<String> getRecentMessages(int count) {
-        int size = Math.min(count, messages.size());
-        return new ArrayList<>(messages.subList(0, size));
+    public CombatEvent get(int index) {
+        return events[slot(index)];
     }
 
     /**
-     * Clear all messages (when combat ends)
+     * Get the display text of an event (0 = most recent)
      */
-    public static void clear() {
-        messages.clear();
+    public String getMessage(int index) {
+        int slot = slot(index);
+        String text = formatted[slot];
+        if (text == null) {
+            text = events[slot].format();
+            formatted[slot] = text;
+        }
+        return text;
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Combat log index " + index + " (size " + size + ")");
+        }
+        return Math.floorMod(next - 1 - index, events.length);
     }
 
     /**
      * Get message count
      */
-    public static int size() {
-        return messages.size();
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the maximum number of events kept in memory
+     */
+    public int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Clear all messages
+     */
+    public void clear() {
+        java.util.Arrays.fill(events, null);
+        java.util.Arrays.fill(formatted, null);
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * Finish the on-disk recording (if any). The in-memory events stay readable.
+     */
+    public void close() {
+        if (file != null) {
+            file.close();
+            file = null;
+        }
     }
 }
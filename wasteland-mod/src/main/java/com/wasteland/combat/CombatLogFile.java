@@ -0,0 +1,182 @@
+package com.wasteland.combat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only on-disk recording of one fight.
+ * One tab-separated line per {@link CombatEvent}, so files can be attached
+ * to bug reports, grepped, or read back with {@link #replay} to rebuild the fight.
+ */
+public class CombatLogFile {
+    private static final String HEADER = "#wasteland-combat-log v1";
+
+    private final Path path;
+    private BufferedWriter writer;
+
+    private CombatLogFile(Path path, BufferedWriter writer) {
+        this.path = path;
+        this.writer = writer;
+    }
+
+    /**
+     * Start a new recording in the given directory (null if the file can't be created)
+     */
+    public static CombatLogFile create(Path directory) {
+        String name = "combat-" + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date()) + ".tsv";
+        Path path = directory.resolve(name);
+        try {
+            Files.createDirectories(directory);
+            BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            writer.write(HEADER);
+            writer.newLine();
+            return new CombatLogFile(path, writer);
+        } catch (IOException e) {
+            System.err.println("[CombatLog] Could not create combat recording " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Path of this recording
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Append one event
+     */
+    public void append(CombatEvent event) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(Long.toString(event.getTick()));
+            writer.write('\t');
+            writer.write(event.getType().name());
+            writer.write('\t');
+            writer.write(Integer.toString(event.getActorId()));
+            writer.write('\t');
+            writer.write(escape(event.getActorName()));
+            writer.write('\t');
+            writer.write(Integer.toString(event.getTargetId()));
+            writer.write('\t');
+            writer.write(escape(event.getTargetName()));
+            writer.write('\t');
+            writer.write(Float.toString(event.getAmount()));
+            writer.write('\t');
+            writer.write(Float.toString(event.getBefore()));
+            writer.write('\t');
+            writer.write(Float.toString(event.getAfter()));
+            writer.write('\t');
+            writer.write(escape(event.getDetail()));
+            writer.newLine();
+        } catch (IOException e) {
+            System.err.println("[CombatLog] Failed writing combat recording, stopping: " + e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * Flush and close the recording
+     */
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("[CombatLog] Failed closing combat recording: " + e.getMessage());
+        }
+        writer = null;
+    }
+
+    /**
+     * Feed every recorded event, in order, to the consumer
+     */
+    public static void replay(Path path, Consumer<CombatEvent> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] f = line.split("\t", -1);
+                if (f.length != 10) {
+                    throw new IOException("Malformed combat log line: " + line);
+                }
+                consumer.accept(new CombatEvent(
+                    CombatEvent.Type.valueOf(f[1]),
+                    Long.parseLong(f[0]),
+                    Integer.parseInt(f[2]),
+                    unescape(f[3]),
+                    Integer.parseInt(f[4]),
+                    unescape(f[5]),
+                    Float.parseFloat(f[6]),
+                    Float.parseFloat(f[7]),
+                    Float.parseFloat(f[8]),
+                    unescape(f[9])
+                ));
+            }
+        }
+    }
+
+    /**
+     * Read a whole recording into memory
+     */
+    public static List<CombatEvent> read(Path path) throws IOException {
+        List<CombatEvent> events = new ArrayList<>();
+        replay(path, events::add);
+        return events;
+    }
+
+    /**
+     * Rebuild a log containing every event of the recording
+     */
+    public static CombatLog replayInto(Path path) throws IOException {
+        List<CombatEvent> events = read(path);
+        CombatLog log = new CombatLog(Math.max(CombatLog.DEFAULT_CAPACITY, events.size()), false);
+        for (CombatEvent event : events) {
+            log.add(event);
+        }
+        return log;
+    }
+
+    // Names and messages are free text: keep tabs/newlines out of the columns, "\0" marks null
+    private static String escape(String s) {
+        if (s == null) {
+            return "\\0";
+        }
+        return s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+
+    private static String unescape(String s) {
+        if (s.equals("\\0")) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char n = s.charAt(++i);
+                out.append(n == 't' ? '\t' : n == 'n' ? '\n' : n);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
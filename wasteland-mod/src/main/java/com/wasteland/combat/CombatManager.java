@@ -1,5 +1,6 @@
 package com.wasteland.combat;
 
+import com.wasteland.WastelandRandom;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
@@ -19,18 +20,41 @@ public class CombatManager {
     // Combat state
     private CombatState state = CombatState.EXPLORATION;
     private Player player;
-    private List<Combatant> combatants = new ArrayList<>();
+    private final List<Combatant> combatants = new ArrayList<>();
+    private final List<Combatant> combatantsView = Collections.unmodifiableList(combatants);
     private int currentTurnIndex = 0;
     private int turnCounter = 0;
 
     // Grid state
     private BlockPos gridCenter;
-    private Set<BlockPos> validMoves = new HashSet<>();
+    private final Set<BlockPos> validMoves = new HashSet<>();
+    private final Set<BlockPos> validMovesView = Collections.unmodifiableSet(validMoves);
+
+    // Bumped whenever the grid or valid moves change, so renderers can cache their meshes
+    private int gridRevision = 0;
+
+    // Passability snapshot of the grid and the projectiles crossing it
+    private CombatGrid grid;
+    private ProjectileEngine projectiles;
 
     // Target selection
     private Combatant selectedTarget = null;
 
-    // World freezing is now handled by WorldFreezingHandler (no state needed here)
+    // Delayed actions (enemy turns) for the current combat
+    private CombatScheduler.Session schedule;
+
+    // Event log of the current (or last finished) combat, created when combat starts
+    // so no recording file is opened before there is a fight to record
+    private CombatLog log = null;
+
+    // Shown before the first combat (never recorded)
+    private static final CombatLog EMPTY_LOG = new CombatLog(CombatLog.DEFAULT_CAPACITY, false);
+
+    // Random stream of the current combat (seed is recorded in the COMBAT_START event)
+    private WastelandRandom random;
+
+    // Region frozen by this combat (see WorldFreezingHandler)
+    private WorldFreezingHandler.Zone freezeZone;
 
     // Configuration
     public static final double DETECTION_RADIUS = 15.0;
@@ -74,9 +98,16 @@ public class CombatManager {
         this.turnCounter = 0;
         this.currentTurnIndex = 0;
         this.gridCenter = player.blockPosition();
-
-        // Clear combat log for new combat
-        CombatLog.clear();
+        this.grid = CombatGrid.capture(level, gridCenter, GRID_RADIUS);
+        this.projectiles = new ProjectileEngine(grid);
+        this.schedule = CombatScheduler.forLevel(level).openSession();
+        this.random = WastelandRandom.forCombat(level.getGameTime(), player.getId());
+
+        // Fresh combat log for new combat
+        if (log != null) {
+            log.close();
+        }
+        log = new CombatLog();
 
         // Create combatants list
         combatants.clear();
@@ -99,35 +130,41 @@ public class CombatManager {
         updateValidMoves();
 
         // Log combat start
-        CombatLog.addMessage("═════════════════════════");
-        CombatLog.addMessage("Combat started!");
+        long tick = level.getGameTime();
+        log.addMessage(tick, "═════════════════════════");
+        log.add(new CombatEvent(CombatEvent.Type.COMBAT_START, tick,
+            player.getId(), null, -1, null, 0, 0, 0, Long.toHexString(random.getSeed())));
         for (LivingEntity enemy : enemies) {
-            CombatLog.addMessage("  • " + enemy.getName().getString());
+            log.add(new CombatEvent(CombatEvent.Type.COMBATANT_JOINED, tick,
+                enemy.getId(), enemy.getName().getString(), -1, null, 0, 0, 0, null));
         }
-        CombatLog.addMessage("═════════════════════════");
+        log.addMessage(tick, "═════════════════════════");
 
         System.out.println("Combat started! Turn 1, Player's turn");
     }
 
     /**
-     * Freeze all non-combatant entities using event interception
+     * Freeze non-combatant entities around the fight using event interception
      */
     private void freezeWorld(Level level) {
-        // Get all combatant UUIDs
-        Set<UUID> combatantUUIDs = new HashSet<>();
-        for (Combatant c : combatants) {
-            combatantUUIDs.add(c.getEntity().getUUID());
+        // Get all combatant entity ids
+        int[] combatantIds = new int[combatants.size()];
+        for (int i = 0; i < combatantIds.length; i++) {
+            combatantIds[i] = combatants.get(i).getEntity().getId();
         }
 
-        // Activate world freezing via event handler
-        WorldFreezingHandler.freeze(combatantUUIDs);
+        // Activate freezing for this fight's region via event handler
+        freezeZone = WorldFreezingHandler.freeze(level, gridCenter, combatantIds);
     }
 
     /**
-     * Unfreeze the world
+     * Unfreeze this fight's region
      */
     private void unfreezeWorld(Level level) {
-        WorldFreezingHandler.unfreeze();
+        if (freezeZone != null) {
+            WorldFreezingHandler.unfreeze(freezeZone);
+            freezeZone = null;
+        }
     }
 
     /**
@@ -135,6 +172,7 @@ public class CombatManager {
      */
     private void updateValidMoves() {
         validMoves.clear();
+        gridRevision++;
 
         BlockPos playerPos = player.blockPosition();
 
@@ -160,8 +198,12 @@ public class CombatManager {
     private boolean isValidMovePosition(BlockPos pos) {
         Level level = player.level();
 
-        // Check if block is solid
-        if (level.getBlockState(pos).isSolidRender(level, pos)) {
+        // Check if block is solid (from the snapshot when the grid covers it)
+        if (grid != null && grid.contains(pos)) {
+            if (!grid.isOpen(pos.getX(), pos.getZ())) {
+                return false;
+            }
+        } else if (level.getBlockState(pos).isSolidRender(level, pos)) {
             return false;
         }
 
@@ -199,6 +241,9 @@ public class CombatManager {
      * End current turn and advance to next combatant
      */
     public void endTurn() {
+        // Projectiles in flight move between turns
+        projectiles.advanceTurn(combatants);
+
         currentTurnIndex++;
 
         // Check if round is complete
@@ -235,10 +280,10 @@ public class CombatManager {
         System.out.println("=== Enemy Turn: " + enemy.getName() + " ===");
 
         // Execute AI and get delay
-        int delayTicks = EnemyAI.executeTurn(enemy, player, combatants, player.level());
+        int delayTicks = EnemyAI.executeTurn(enemy, player, combatants, player.level(), log, random);
 
         // Schedule next turn after delay
-        CombatScheduler.scheduleAfterDelay(() -> {
+        schedule.scheduleAfterDelay(() -> {
             System.out.println("Enemy turn complete, advancing");
             endTurn();
         }, delayTicks);
@@ -254,25 +299,41 @@ public class CombatManager {
 
         System.out.println("Combat ended!");
 
-        // Cancel any pending scheduled actions
-        CombatScheduler.cancelAll();
+        // Cancel any pending scheduled actions for this combat
+        if (schedule != null) {
+            schedule.cancel();
+            schedule = null;
+        }
 
         unfreezeWorld(level);
 
         state = CombatState.EXPLORATION;
         combatants.clear();
+        projectiles.clear();
+        grid = null;
         validMoves.clear();
+        gridRevision++;
         currentTurnIndex = 0;
         turnCounter = 0;
         player = null;
 
         // Note: Don't clear combat log here - let player read final messages
-        // Log will be cleared when next combat starts
+        // Log will be replaced when next combat starts
+        if (log != null) {
+            log.close();
+        }
 
         // Set cooldown to prevent immediate re-trigger
         com.wasteland.combat.CombatDetection.setCombatCooldown();
     }
 
+    /**
+     * Get the log of the current (or last finished) combat
+     */
+    public CombatLog getCombatLog() {
+        return log != null ? log : EMPTY_LOG;
+    }
+
     /**
      * Get the player in combat
      */
@@ -281,10 +342,10 @@ public class CombatManager {
     }
 
     /**
-     * Get all combatants
+     * Get all combatants (read-only view, not a copy)
      */
     public List<Combatant> getCombatants() {
-        return new ArrayList<>(combatants);
+        return combatantsView;
     }
 
     /**
@@ -312,10 +373,55 @@ public class CombatManager {
     }
 
     /**
-     * Get valid move positions
+     * Get valid move positions (read-only view, not a copy)
      */
     public Set<BlockPos> getValidMoves() {
-        return new HashSet<>(validMoves);
+        return validMovesView;
+    }
+
+    /**
+     * Revision of the grid state; changes whenever the valid moves or grid center change
+     */
+    public int getGridRevision() {
+        return gridRevision;
+    }
+
+    /**
+     * Get the passability snapshot of the current combat (null outside combat)
+     */
+    public CombatGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Get projectiles in flight or finished this turn (read-only view, empty outside combat)
+     */
+    public List<Projectile> getProjectiles() {
+        return projectiles != null ? projectiles.getProjectiles() : Collections.emptyList();
+    }
+
+    /**
+     * Fire a projectile across the grid; it moves for this turn right away
+     * @return false if not in combat
+     */
+    public boolean launchProjectile(Projectile projectile) {
+        if (!isInCombat()) {
+            return false;
+        }
+        projectiles.launch(projectile, combatants);
+        return true;
+    }
+
+    /**
+     * Find the combatant wrapping an entity (null if it isn't in this combat)
+     */
+    public Combatant getCombatant(LivingEntity entity) {
+        for (Combatant c : combatants) {
+            if (c.getEntity() == entity) {
+                return c;
+            }
+        }
+        return null;
     }
 
     /**
@@ -422,19 +528,14 @@ public class CombatManager {
             weaponName = weapon.getWeaponType().getDisplayName();
         } else {
             // Unarmed combat
-            int baseDamage = 3;
-            int strength = character.getStrength();
-            int strBonus = Math.max(0, (strength - 8) / 2);
             int unarmedSkill = character.getSkillLevel(com.wasteland.character.Skill.UNARMED_COMBAT);
-            int skillBonus = unarmedSkill / 3;
-            totalDamage = baseDamage + strBonus + skillBonus;
+            totalDamage = CombatMath.unarmedDamage(character.getStrength(), unarmedSkill);
             usedSkill = com.wasteland.character.Skill.UNARMED_COMBAT;
             weaponName = "Unarmed";
         }
 
         // Add variance (80-120%)
-        double variance = 0.8 + (Math.random() * 0.4);
-        int finalDamage = Math.max(1, (int)(totalDamage * variance));
+        int finalDamage = CombatMath.playerHitDamage(totalDamage, random.nextDouble());
 
         // Apply damage
         LivingEntity targetEntity = target.getEntity();
@@ -442,21 +543,20 @@ public class CombatManager {
         targetEntity.hurt(player.level().damageSources().playerAttack(player), finalDamage);
         float newHP = targetEntity.getHealth();
 
-        String attackMsg = String.format("You attack %s with %s for %d damage!",
-            target.getName(), weaponName, finalDamage);
-        System.out.println(attackMsg);
-        CombatLog.addMessage(attackMsg);
-
-        String hpMsg = String.format("%s: %.1f -> %.1f HP", target.getName(), oldHP, newHP);
-        System.out.println(hpMsg);
-        CombatLog.addMessage(hpMsg);
+        long tick = player.level().getGameTime();
+        CombatEvent attack = new CombatEvent(CombatEvent.Type.PLAYER_ATTACK, tick,
+            player.getId(), null, targetEntity.getId(), target.getName(), finalDamage, 0, 0, weaponName);
+        CombatEvent hpChange = new CombatEvent(CombatEvent.Type.HP_CHANGE, tick,
+            player.getId(), null, targetEntity.getId(), target.getName(), finalDamage, oldHP, newHP, null);
+        log.add(attack);
+        log.add(hpChange);
 
         // Check if target died
         if (!target.isAlive()) {
             System.out.println(target.getName() + " has been defeated!");
 
             // Grant weapon skill XP for killing an enemy
-            int xpGain = 5 + ((int)targetEntity.getMaxHealth() / 2); // Scale with enemy HP
+            int xpGain = CombatMath.killXp(targetEntity.getMaxHealth()); // Scale with enemy HP
             character.trainSkill(usedSkill, xpGain);
 
             // Also grant fighting skill XP (half amount)
@@ -0,0 +1,92 @@
+package com.wasteland.combat;
+
+/**
+ * Pure combat formulas, free of entities and Minecraft state.
+ * Used by the live combat code (CombatManager, EnemyAI, WastelandWeapon,
+ * RobotEntity) and by the headless combat simulator, so both always agree.
+ */
+public final class CombatMath {
+
+    // Attack rolls vary between 80% and 120% of the base damage
+    public static final double VARIANCE_MIN = 0.8;
+    public static final double VARIANCE_RANGE = 0.4;
+
+    public static final int UNARMED_BASE_DAMAGE = 3;
+
+    private CombatMath() {}
+
+    /**
+     * +1 per 2 points of a primary stat above 8
+     */
+    public static int statBonus(int stat) {
+        return Math.max(0, (stat - 8) / 2);
+    }
+
+    /**
+     * Weapon damage before variance
+     * @param slaying Total slaying (weapon bonus + artifact SLAYING property)
+     */
+    public static int weaponDamage(int baseDamage, int enchantment, int slaying, int strength, int skillLevel) {
+        int damage = baseDamage + enchantment + slaying;
+
+        // Strength bonus: +1 damage per 2 STR above 8
+        damage += statBonus(strength);
+
+        // Weapon skill bonus: +1 damage per 3 skill levels
+        damage += skillLevel / 3;
+
+        return Math.max(1, damage); // Minimum 1 damage
+    }
+
+    /**
+     * Unarmed damage before variance
+     */
+    public static int unarmedDamage(int strength, int unarmedSkill) {
+        return UNARMED_BASE_DAMAGE + statBonus(strength) + unarmedSkill / 3;
+    }
+
+    /**
+     * Variance multiplier for a uniform roll in [0, 1)
+     */
+    public static double variance(double roll) {
+        return VARIANCE_MIN + roll * VARIANCE_RANGE;
+    }
+
+    /**
+     * Final damage of a player attack (whole points, at least 1)
+     */
+    public static int playerHitDamage(int totalDamage, double roll) {
+        return Math.max(1, (int) (totalDamage * variance(roll)));
+    }
+
+    /**
+     * Final damage of an enemy attack (at least 1)
+     */
+    public static float enemyHitDamage(float baseDamage, double roll) {
+        return Math.max(1.0f, baseDamage * (float) variance(roll));
+    }
+
+    /**
+     * Reduce damage by a resistance fraction (0.25 = 25% resistance)
+     */
+    public static float applyResistance(float damage, double resistance) {
+        return (float) (damage * (1.0 - resistance));
+    }
+
+    /**
+     * Damage left after armor, mirroring vanilla CombatRules.getDamageAfterAbsorb
+     * (applied by LivingEntity.hurt in the live game)
+     */
+    public static float armorAbsorb(float damage, float armor, float toughness) {
+        float f = 2.0F + toughness / 4.0F;
+        float f1 = Math.min(Math.max(armor - damage / f, armor * 0.2F), 20.0F);
+        return damage * (1.0F - f1 / 25.0F);
+    }
+
+    /**
+     * Weapon skill XP for killing an enemy (scales with enemy HP)
+     */
+    public static int killXp(float enemyMaxHealth) {
+        return 5 + ((int) enemyMaxHealth / 2);
+    }
+}
@@ -1,99 +1,271 @@
 package com.wasteland.combat;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.world.level.Level;
 import net.minecraftforge.api.distmarker.Dist;
-import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import com.wasteland.WastelandMod;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
 /**
  * Schedules combat actions with delays
  * Allows enemy turns to be visible before advancing to next turn
+ *
+ * Backed by a hashed timing wheel: scheduling and cancelling are O(1) and
+ * each tick only walks the bucket that is due. There is one scheduler per
+ * logical side; tasks are grouped into {@link Session}s so that ending one
+ * combat only cancels that combat's tasks.
  */
-@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
-@OnlyIn(Dist.CLIENT)
+@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class CombatScheduler {
 
-    private static class ScheduledTask {
+    // Must be a power of two. Combat delays are 10-20 ticks, so almost every
+    // task fires on its first pass over its bucket.
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final CombatScheduler CLIENT = new CombatScheduler();
+    private static final CombatScheduler SERVER = new CombatScheduler();
+
+    /**
+     * A scheduled task, linked into both its wheel bucket and its session
+     */
+    private static final class ScheduledTask {
         final Runnable task;
-        int ticksRemaining;
+        final long deadline;
+        final Session session;
+        int bucket = -1; // -1 = not linked into the wheel
+        boolean cancelled = false;
+
+        ScheduledTask bucketPrev, bucketNext;
+        ScheduledTask sessionPrev, sessionNext;
 
-        ScheduledTask(Runnable task, int delay) {
+        ScheduledTask(Runnable task, long deadline, Session session) {
             this.task = task;
-            this.ticksRemaining = delay;
+            this.deadline = deadline;
+            this.session = session;
+        }
+    }
+
+    /**
+     * Cancellation token grouping the tasks of one combat
+     */
+    public final class Session {
+        private ScheduledTask head;
+        private int pending = 0;
+        private boolean closed = false;
+
+        private Session() {}
+
+        /**
+         * Schedule a task to run after a delay
+         * @param task The runnable to execute
+         * @param delayTicks Number of ticks to wait (20 = 1 second)
+         */
+        public void scheduleAfterDelay(Runnable task, int delayTicks) {
+            if (closed) {
+                return;
+            }
+            ScheduledTask scheduled = new ScheduledTask(task, currentTick + Math.max(1, delayTicks), this);
+            link(scheduled);
+            scheduled.sessionNext = head;
+            if (head != null) {
+                head.sessionPrev = scheduled;
+            }
+            head = scheduled;
+            pending++;
+        }
+
+        /**
+         * Cancel every pending task in this session. Tasks scheduled
+         * afterwards are ignored.
+         */
+        public void cancel() {
+            closed = true;
+            for (ScheduledTask t = head; t != null; t = t.sessionNext) {
+                t.cancelled = true;
+                unlink(t);
+            }
+            head = null;
+            pending = 0;
+        }
+
+        /**
+         * Check if any tasks are pending
+         */
+        public boolean hasPendingTasks() {
+            return pending > 0;
+        }
+
+        /**
+         * Get number of pending tasks
+         */
+        public int getPendingCount() {
+            return pending;
+        }
+
+        private void remove(ScheduledTask t) {
+            if (t.sessionPrev != null) {
+                t.sessionPrev.sessionNext = t.sessionNext;
+            } else {
+                head = t.sessionNext;
+            }
+            if (t.sessionNext != null) {
+                t.sessionNext.sessionPrev = t.sessionPrev;
+            }
+            t.sessionPrev = t.sessionNext = null;
+            pending--;
         }
     }
 
-    private static final List<ScheduledTask> tasks = new ArrayList<>();
+    private final ScheduledTask[] buckets = new ScheduledTask[WHEEL_SIZE];
+    private long currentTick = 0;
+    private int pendingCount = 0;
+
+    private CombatScheduler() {}
 
     /**
-     * Schedule a task to run after a delay
-     * @param task The runnable to execute
-     * @param delayTicks Number of ticks to wait (20 = 1 second)
+     * Get the scheduler for the logical client
      */
-    public static void scheduleAfterDelay(Runnable task, int delayTicks) {
-        tasks.add(new ScheduledTask(task, delayTicks));
-        System.out.println("[Scheduler] Scheduled task with " + delayTicks + " tick delay");
+    public static CombatScheduler client() {
+        return CLIENT;
     }
 
     /**
-     * Cancel all pending tasks
+     * Get the scheduler for the logical server
      */
-    public static void cancelAll() {
-        tasks.clear();
-        System.out.println("[Scheduler] Cancelled all tasks");
+    public static CombatScheduler server() {
+        return SERVER;
     }
 
     /**
-     * Tick all scheduled tasks
+     * Get the scheduler for the logical side the level belongs to
      */
-    @SubscribeEvent
-    public static void onClientTick(TickEvent.ClientTickEvent event) {
-        if (event.phase != TickEvent.Phase.END) {
+    public static CombatScheduler forLevel(Level level) {
+        return level.isClientSide ? CLIENT : SERVER;
+    }
+
+    /**
+     * Open a new session (one per combat)
+     */
+    public Session openSession() {
+        return new Session();
+    }
+
+    /**
+     * Check if any tasks are pending on this side
+     */
+    public boolean hasPendingTasks() {
+        return pendingCount > 0;
+    }
+
+    /**
+     * Get number of pending tasks on this side
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    private void link(ScheduledTask t) {
+        int index = (int) (t.deadline & WHEEL_MASK);
+        t.bucket = index;
+        t.bucketNext = buckets[index];
+        if (buckets[index] != null) {
+            buckets[index].bucketPrev = t;
+        }
+        buckets[index] = t;
+        pendingCount++;
+    }
+
+    private void unlink(ScheduledTask t) {
+        if (t.bucket < 0) {
             return;
         }
+        if (t.bucketPrev != null) {
+            t.bucketPrev.bucketNext = t.bucketNext;
+        } else {
+            buckets[t.bucket] = t.bucketNext;
+        }
+        if (t.bucketNext != null) {
+            t.bucketNext.bucketPrev = t.bucketPrev;
+        }
+        t.bucketPrev = t.bucketNext = null;
+        t.bucket = -1;
+        pendingCount--;
+    }
 
-        Minecraft minecraft = Minecraft.getInstance();
-        if (minecraft.player == null || minecraft.level == null) {
+    /**
+     * Advance the wheel by one tick and run the tasks that are due
+     */
+    private void tick() {
+        currentTick++;
+        int index = (int) (currentTick & WHEEL_MASK);
+        if (buckets[index] == null) {
             return;
         }
 
-        // Tick down all tasks
-        Iterator<ScheduledTask> iterator = tasks.iterator();
-        while (iterator.hasNext()) {
-            ScheduledTask task = iterator.next();
-            task.ticksRemaining--;
+        // Detach due tasks first so tasks may schedule or cancel freely while running
+        ScheduledTask due = null;
+        ScheduledTask t = buckets[index];
+        while (t != null) {
+            ScheduledTask next = t.bucketNext;
+            if (t.deadline <= currentTick) {
+                unlink(t);
+                t.session.remove(t);
+                t.bucketNext = due;
+                due = t;
+            }
+            t = next;
+        }
 
-            if (task.ticksRemaining <= 0) {
-                // Task is ready, execute it
+        while (due != null) {
+            ScheduledTask next = due.bucketNext;
+            due.bucketNext = null;
+            if (!due.cancelled && !due.session.closed) {
                 try {
-                    task.task.run();
+                    due.task.run();
                 } catch (Exception e) {
                     System.err.println("[Scheduler] Error executing task: " + e.getMessage());
                     e.printStackTrace();
                 }
-                iterator.remove();
             }
+            due = next;
         }
     }
 
     /**
-     * Check if any tasks are pending
+     * Tick server-side scheduled tasks
      */
-    public static boolean hasPendingTasks() {
-        return !tasks.isEmpty();
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+        SERVER.tick();
     }
 
     /**
-     * Get number of pending tasks
+     * Client-side ticking, kept in its own class so the dedicated server never loads Minecraft
      */
-    public static int getPendingCount() {
-        return tasks.size();
+    @Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+    public static class ClientTicker {
+
+        /**
+         * Tick client-side scheduled tasks
+         */
+        @SubscribeEvent
+        public static void onClientTick(TickEvent.ClientTickEvent event) {
+            if (event.phase != TickEvent.Phase.END) {
+                return;
+            }
+
+            Minecraft minecraft = Minecraft.getInstance();
+            if (minecraft.player == null || minecraft.level == null) {
+                return;
+            }
+
+            CLIENT.tick();
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.wasteland.combat;
 
+import com.wasteland.WastelandRandom;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
@@ -19,7 +20,8 @@ public class EnemyAI {
      * Execute enemy turn and return delay in ticks before next action
      * @return number of ticks to delay before ending turn
      */
-    public static int executeTurn(Combatant enemy, Player player, List<Combatant> allCombatants, Level level) {
+    public static int executeTurn(Combatant enemy, Player player, List<Combatant> allCombatants, Level level,
+                                  CombatLog log, WastelandRandom random) {
         LivingEntity entity = enemy.getEntity();
         BlockPos enemyPos = entity.blockPosition();
         BlockPos playerPos = player.blockPosition();
@@ -31,26 +33,25 @@ public class EnemyAI {
 
         // If in melee range (adjacent), attack
         if (distance <= 1.5) {
-            return attackPlayer(enemy, player);
+            return attackPlayer(enemy, player, log, random);
         }
 
         // Otherwise, move toward player
-        return moveTowardPlayer(enemy, player, allCombatants, level);
+        return moveTowardPlayer(enemy, player, allCombatants, level, log);
     }
 
     /**
      * Enemy attacks the player
      * @return delay in ticks (20 = 1 second)
      */
-    private static int attackPlayer(Combatant attacker, Player target) {
+    private static int attackPlayer(Combatant attacker, Player target, CombatLog log, WastelandRandom random) {
         LivingEntity entity = attacker.getEntity();
 
         // Calculate damage (simple for now, can be enhanced later)
         float baseDamage = (float) entity.getAttributeValue(net.minecraft.world.entity.ai.attributes.Attributes.ATTACK_DAMAGE);
 
         // Add some variance (80-120%)
-        double variance = 0.8 + (Math.random() * 0.4);
-        float finalDamage = Math.max(1.0f, baseDamage * (float)variance);
+        float finalDamage = CombatMath.enemyHitDamage(baseDamage, random.nextDouble());
 
         // Apply damage
         float oldHP = target.getHealth();
@@ -59,18 +60,19 @@ public class EnemyAI {
         float newHP = target.getHealth();
 
         // Log attack
-        String message = String.format("%s attacks you for %.1f damage!",
-            attacker.getName(), finalDamage);
-        System.out.println("[Combat] " + message);
-        CombatLog.addMessage(message);
+        long tick = target.level().getGameTime();
+        CombatEvent attack = new CombatEvent(CombatEvent.Type.ENEMY_ATTACK, tick,
+            entity.getId(), attacker.getName(), target.getId(), null, finalDamage, 0, 0, null);
+        log.add(attack);
 
         // Show HP change
         if (newHP > 0) {
-            String hpMessage = String.format("Your HP: %.1f -> %.1f", oldHP, newHP);
-            System.out.println("[Combat] " + hpMessage);
-            CombatLog.addMessage(hpMessage);
+            CombatEvent hpChange = new CombatEvent(CombatEvent.Type.HP_CHANGE, tick,
+                entity.getId(), attacker.getName(), target.getId(), null, finalDamage, oldHP, newHP, null);
+            log.add(hpChange);
         } else {
-            CombatLog.addMessage("You have been defeated!");
+            log.add(new CombatEvent(CombatEvent.Type.PLAYER_DEFEATED, tick,
+                entity.getId(), attacker.getName(), target.getId(), null, 0, oldHP, newHP, null));
         }
 
         // Return 20 ticks (1 second) delay to show the attack
@@ -81,7 +83,8 @@ public class EnemyAI {
      * Move enemy one step toward player
      * @return delay in ticks (10 = 0.5 seconds)
      */
-    private static int moveTowardPlayer(Combatant mover, Player target, List<Combatant> allCombatants, Level level) {
+    private static int moveTowardPlayer(Combatant mover, Player target, List<Combatant> allCombatants, Level level,
+                                        CombatLog log) {
         BlockPos currentPos = mover.getEntity().blockPosition();
         BlockPos targetPos = target.blockPosition();
 
@@ -93,17 +96,17 @@ public class EnemyAI {
             LivingEntity entity = mover.getEntity();
             entity.teleportTo(bestMove.getX() + 0.5, bestMove.getY(), bestMove.getZ() + 0.5);
 
-            String message = mover.getName() + " moves closer";
-            System.out.println("[Combat] " + message);
-            CombatLog.addMessage(message);
+            CombatEvent move = new CombatEvent(CombatEvent.Type.MOVE, level.getGameTime(),
+                entity.getId(), mover.getName(), -1, null, 0, 0, 0, null);
+            log.add(move);
 
             // Return 10 ticks (0.5 seconds) delay for movement
             return 10;
         } else {
             // Can't move, just pass turn
-            String message = mover.getName() + " cannot move";
-            System.out.println("[Combat] " + message);
-            CombatLog.addMessage(message);
+            CombatEvent blocked = new CombatEvent(CombatEvent.Type.MOVE_BLOCKED, level.getGameTime(),
+                mover.getEntity().getId(), mover.getName(), -1, null, 0, 0, 0, null);
+            log.add(blocked);
             return 10;
         }
     }
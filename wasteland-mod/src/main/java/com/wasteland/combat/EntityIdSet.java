@@ -0,0 +1,93 @@
+package com.wasteland.combat;
+
+import java.util.Arrays;
+
+/**
+ * Small open-addressing set of entity ids (linear probing, no boxing).
+ * Used on per-tick hot paths where a HashSet<UUID> lookup would hash a UUID
+ * and chase pointers for every ticking entity.
+ */
+public final class EntityIdSet {
+    private static final int EMPTY = -1; // Entity ids are never negative
+
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    public EntityIdSet() {
+        this(8);
+    }
+
+    public EntityIdSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1; // Load factor <= 0.5
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Add an entity id
+     * @return true if it was not already present
+     */
+    public boolean add(int id) {
+        if ((size + 1) * 2 > slots.length) {
+            grow();
+        }
+        int i = index(id);
+        while (slots[i] != EMPTY) {
+            if (slots[i] == id) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * Check whether an entity id is in the set
+     */
+    public boolean contains(int id) {
+        int i = index(id);
+        int slot;
+        while ((slot = slots[i]) != EMPTY) {
+            if (slot == id) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+    }
+
+    private int index(int id) {
+        int h = id * 0x9E3779B9; // Fibonacci hashing spreads sequential ids
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void grow() {
+        int[] old = slots;
+        slots = new int[old.length * 2];
+        Arrays.fill(slots, EMPTY);
+        mask = slots.length - 1;
+        size = 0;
+        for (int id : old) {
+            if (id != EMPTY) {
+                add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.wasteland.combat;
+
+import com.wasteland.WastelandMod;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks which hostile mobs are near each player, updated incrementally from
+ * entity join/leave and section-change events instead of periodic AABB sweeps.
+ *
+ * Hostile mobs are bucketed by the 16³ section they are in. Each player keeps a
+ * candidate set of hostiles in the sections around theirs (SECTION_REACH), so
+ * "is anything hostile nearby?" is an O(1) check and the exact distance test only
+ * runs over those few candidates. Levels are indexed separately on each side
+ * (client and server levels are only touched from their own threads).
+ *
+ * Listeners are told whenever a mob enters or leaves a player's candidate set,
+ * so other per-player indexes (spell targets) can follow it without their own sweeps.
+ */
+@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class HostileProximityTracker {
+
+    // Sections around the player's own that can hold a mob within DETECTION_RADIUS of its bounding box
+    private static final int SECTION_REACH = (int) Math.ceil((CombatManager.DETECTION_RADIUS + 2.0) / SectionPos.SECTION_SIZE);
+
+    // Passive animals that never trigger combat; every other Mob type counts as hostile in the wasteland
+    private static final EntityType<?>[] PASSIVE_TYPES = {
+        EntityType.COW, EntityType.SHEEP, EntityType.CHICKEN, EntityType.PIG
+    };
+
+    // Hostility per EntityType, indexed by registry id (built once the registry is frozen)
+    private static BitSet passiveTypes;
+
+    private static final Map<Level, LevelIndex> CLIENT_LEVELS = new HashMap<>();
+    private static final Map<Level, LevelIndex> SERVER_LEVELS = new HashMap<>();
+
+    private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Notified on the level's own thread when a player's candidate set changes
+     */
+    public interface Listener {
+        void onEnter(Player player, Mob mob);
+
+        void onLeave(Player player, Mob mob);
+
+        /**
+         * The player left the level and is no longer tracked
+         */
+        default void onUntracked(Player player) {}
+    }
+
+    /**
+     * Hostile mobs of one level, bucketed by section, plus the players tracking them
+     */
+    private static final class LevelIndex {
+        final Long2ObjectMap<List<Mob>> sections = new Long2ObjectOpenHashMap<>();
+        final Reference2LongMap<Mob> mobSections = new Reference2LongOpenHashMap<>();  // Section each mob is filed under
+        final Map<Player, TrackedPlayer> players = new HashMap<>();
+    }
+
+    /**
+     * A player's current section and the hostile mobs in sections around it
+     */
+    private static final class TrackedPlayer {
+        final Player player;
+        long section;
+        final Set<Mob> nearby = new ReferenceOpenHashSet<>();
+
+        TrackedPlayer(Player player, long section) {
+            this.player = player;
+            this.section = section;
+        }
+    }
+
+    // ===== Queries =====
+
+    /**
+     * Check whether a mob's type is hostile (precomputed per EntityType)
+     */
+    public static boolean isHostileType(EntityType<?> type) {
+        if (passiveTypes == null) {
+            BitSet bits = new BitSet();
+            for (EntityType<?> passive : PASSIVE_TYPES) {
+                bits.set(BuiltInRegistries.ENTITY_TYPE.getId(passive));
+            }
+            passiveTypes = bits;
+        }
+        return !passiveTypes.get(BuiltInRegistries.ENTITY_TYPE.getId(type));
+    }
+
+    /**
+     * O(1) check: are any hostile mobs in the sections around the player?
+     * A true result still needs getNearbyHostiles for the exact radius.
+     */
+    public static boolean hasNearbyHostiles(Player player) {
+        TrackedPlayer tracked = getTracked(player);
+        return tracked != null && !tracked.nearby.isEmpty();
+    }
+
+    /**
+     * Living hostile mobs whose bounding box intersects the given search box.
+     * The box must lie within the player's tracked sections (e.g. the player's box inflated by DETECTION_RADIUS).
+     */
+    public static List<LivingEntity> getNearbyHostiles(Player player, AABB searchBox) {
+        List<LivingEntity> result = new ArrayList<>();
+        TrackedPlayer tracked = getTracked(player);
+        if (tracked == null) {
+            return result;
+        }
+        for (Mob mob : tracked.nearby) {
+            if (mob.isAlive() && mob.getBoundingBox().intersects(searchBox)) {
+                result.add(mob);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Hostile mobs in the sections around the player (read-only live view, empty if untracked)
+     */
+    public static Set<Mob> getCandidates(Player player) {
+        TrackedPlayer tracked = getTracked(player);
+        return tracked != null ? Collections.unmodifiableSet(tracked.nearby) : Collections.emptySet();
+    }
+
+    public static void addListener(Listener listener) {
+        LISTENERS.add(listener);
+    }
+
+    private static TrackedPlayer getTracked(Player player) {
+        LevelIndex index = levels(player.level()).get(player.level());
+        return index != null ? index.players.get(player) : null;
+    }
+
+    // ===== Event handlers =====
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        Entity entity = event.getEntity();
+        Level level = event.getLevel();
+        if (entity instanceof Player player) {
+            LevelIndex index = levels(level).computeIfAbsent(level, l -> new LevelIndex());
+            TrackedPlayer tracked = new TrackedPlayer(player, SectionPos.asLong(player.blockPosition()));
+            index.players.put(player, tracked);
+            collectNearby(index, tracked);
+        } else if (entity instanceof Mob mob && isHostileType(mob.getType())) {
+            LevelIndex index = levels(level).computeIfAbsent(level, l -> new LevelIndex());
+            long section = SectionPos.asLong(mob.blockPosition());
+            index.sections.computeIfAbsent(section, s -> new ArrayList<>()).add(mob);
+            index.mobSections.put(mob, section);
+            for (TrackedPlayer tracked : index.players.values()) {
+                if (isWithinReach(tracked.section, section) && tracked.nearby.add(mob)) {
+                    fireEnter(tracked.player, mob);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        Entity entity = event.getEntity();
+        LevelIndex index = levels(event.getLevel()).get(event.getLevel());
+        if (index == null) {
+            return;
+        }
+        if (entity instanceof Player player) {
+            if (index.players.remove(player) != null) {
+                for (Listener listener : LISTENERS) {
+                    listener.onUntracked(player);
+                }
+            }
+        } else if (entity instanceof Mob mob && index.mobSections.containsKey(mob)) {
+            removeFromSection(index, index.mobSections.removeLong(mob), mob);
+            for (TrackedPlayer tracked : index.players.values()) {
+                if (tracked.nearby.remove(mob)) {
+                    fireLeave(tracked.player, mob);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        Entity entity = event.getEntity();
+        if (!(entity instanceof Player) && !(entity instanceof Mob)) {
+            return;
+        }
+        LevelIndex index = levels(entity.level()).get(entity.level());
+        if (index == null) {
+            return;
+        }
+
+        long newSection = event.getPackedNewPos();
+
+        if (entity instanceof Player player) {
+            TrackedPlayer tracked = index.players.get(player);
+            if (tracked != null) {
+                Set<Mob> previous = LISTENERS.isEmpty() ? null : new ReferenceOpenHashSet<>(tracked.nearby);
+                tracked.section = newSection;
+                tracked.nearby.clear();
+                collectNearby(index, tracked);
+                if (previous != null) {
+                    fireDifference(player, previous, tracked.nearby);
+                }
+            }
+        } else if (index.mobSections.containsKey(entity)) {
+            Mob mob = (Mob) entity;
+            long oldSection = index.mobSections.put(mob, newSection);
+            removeFromSection(index, oldSection, mob);
+            index.sections.computeIfAbsent(newSection, s -> new ArrayList<>()).add(mob);
+            for (TrackedPlayer tracked : index.players.values()) {
+                boolean wasNear = isWithinReach(tracked.section, oldSection);
+                boolean isNear = isWithinReach(tracked.section, newSection);
+                if (wasNear && !isNear) {
+                    tracked.nearby.remove(mob);
+                    fireLeave(tracked.player, mob);
+                } else if (isNear && !wasNear) {
+                    tracked.nearby.add(mob);
+                    fireEnter(tracked.player, mob);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            levels(level).remove(level);
+        }
+    }
+
+    // ===== Index maintenance =====
+
+    private static Map<Level, LevelIndex> levels(Level level) {
+        return level.isClientSide ? CLIENT_LEVELS : SERVER_LEVELS;
+    }
+
+    /**
+     * Rebuild a player's candidate set from the sections around it
+     */
+    private static void collectNearby(LevelIndex index, TrackedPlayer tracked) {
+        int sx = SectionPos.x(tracked.section);
+        int sy = SectionPos.y(tracked.section);
+        int sz = SectionPos.z(tracked.section);
+        for (int dx = -SECTION_REACH; dx <= SECTION_REACH; dx++) {
+            for (int dy = -SECTION_REACH; dy <= SECTION_REACH; dy++) {
+                for (int dz = -SECTION_REACH; dz <= SECTION_REACH; dz++) {
+                    List<Mob> mobs = index.sections.get(SectionPos.asLong(sx + dx, sy + dy, sz + dz));
+                    if (mobs != null) {
+                        tracked.nearby.addAll(mobs);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void fireEnter(Player player, Mob mob) {
+        for (Listener listener : LISTENERS) {
+            listener.onEnter(player, mob);
+        }
+    }
+
+    private static void fireLeave(Player player, Mob mob) {
+        for (Listener listener : LISTENERS) {
+            listener.onLeave(player, mob);
+        }
+    }
+
+    /**
+     * Tell listeners about mobs that left or entered a player's candidate set after it was rebuilt
+     */
+    private static void fireDifference(Player player, Set<Mob> previous, Set<Mob> current) {
+        for (Mob mob : previous) {
+            if (!current.contains(mob)) {
+                fireLeave(player, mob);
+            }
+        }
+        for (Mob mob : current) {
+            if (!previous.contains(mob)) {
+                fireEnter(player, mob);
+            }
+        }
+    }
+
+    private static void removeFromSection(LevelIndex index, long section, Mob mob) {
+        List<Mob> mobs = index.sections.get(section);
+        if (mobs != null && mobs.remove(mob) && mobs.isEmpty()) {
+            index.sections.remove(section);
+        }
+    }
+
+    private static boolean isWithinReach(long a, long b) {
+        return Math.abs(SectionPos.x(a) - SectionPos.x(b)) <= SECTION_REACH
+            && Math.abs(SectionPos.y(a) - SectionPos.y(b)) <= SECTION_REACH
+            && Math.abs(SectionPos.z(a) - SectionPos.z(b)) <= SECTION_REACH;
+    }
+}
@@ -0,0 +1,292 @@
+package com.wasteland.combat;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+/**
+ * A bolt or beam travelling across the combat grid.
+ *
+ * Plain data: no Entity is spawned, the ProjectileEngine moves it a few cells per turn
+ * along a Bresenham line and the client draws its path over the grid. What happens on
+ * a hit is up to the HitHandler given by whoever fired it.
+ */
+public final class Projectile {
+
+    /**
+     * Called when a projectile enters a cell holding a combatant
+     */
+    @FunctionalInterface
+    public interface HitHandler {
+        void onHit(Projectile projectile, Combatant target);
+    }
+
+    private final String name;
+    private final Combatant owner;
+    private final int speed;
+    private final int range;
+    private final boolean piercing;
+    private final int color;
+    private final HitHandler onHit;
+
+    // Bresenham state: current cell, per-axis distance and direction, running error
+    private int x;
+    private int z;
+    private final int dx;
+    private final int dz;
+    private int sx;
+    private int sz;
+    private int err;
+
+    private int travelled = 0;
+    private int bouncesLeft;
+    private boolean finished = false;
+    private final EntityIdSet hitIds = new EntityIdSet(4);
+    private final LongArrayList path = new LongArrayList();
+
+    private Projectile(Builder builder) {
+        this.name = builder.name;
+        this.owner = builder.owner;
+        this.speed = builder.speed;
+        this.range = builder.range;
+        this.piercing = builder.piercing;
+        this.bouncesLeft = builder.bounces;
+        this.color = builder.color;
+        this.onHit = builder.onHit;
+
+        this.x = builder.fromX;
+        this.z = builder.fromZ;
+        this.dx = Math.abs(builder.toX - builder.fromX);
+        this.dz = Math.abs(builder.toZ - builder.fromZ);
+        this.sx = Integer.signum(builder.toX - builder.fromX);
+        this.sz = Integer.signum(builder.toZ - builder.fromZ);
+        this.err = dx - dz;
+        if (owner != null) {
+            hitIds.add(owner.getEntity().getId()); // Never hits whoever fired it
+        }
+    }
+
+    // ===== Stepping (used by ProjectileEngine) =====
+
+    /**
+     * Next cell along the line, as a packed column key
+     */
+    long peekNext() {
+        int nx = x;
+        int nz = z;
+        int e2 = err * 2;
+        if (e2 > -dz) {
+            nx += sx;
+        }
+        if (e2 < dx) {
+            nz += sz;
+        }
+        return ProjectileEngine.cellKey(nx, nz);
+    }
+
+    /**
+     * Move one cell along the line
+     */
+    void advance() {
+        int e2 = err * 2;
+        if (e2 > -dz) {
+            err -= dz;
+            x += sx;
+        }
+        if (e2 < dx) {
+            err += dx;
+            z += sz;
+        }
+        travelled++;
+        path.add(ProjectileEngine.cellKey(x, z));
+    }
+
+    /**
+     * Reflect off a wall, flipping the blocked axes and restarting the line from here
+     * @return false if no bounces are left
+     */
+    boolean bounce(CombatGrid grid) {
+        if (bouncesLeft <= 0) {
+            return false;
+        }
+        bouncesLeft--;
+
+        long next = peekNext();
+        boolean movesX = ProjectileEngine.cellX(next) != x;
+        boolean movesZ = ProjectileEngine.cellZ(next) != z;
+
+        if (movesX && movesZ) {
+            // Diagonal: flip whichever side is walled off, or both in a corner
+            boolean openX = grid.isOpen(x + sx, z);
+            boolean openZ = grid.isOpen(x, z + sz);
+            if (openX == openZ) {
+                sx = -sx;
+                sz = -sz;
+            } else if (openX) {
+                sz = -sz;
+            } else {
+                sx = -sx;
+            }
+        } else if (movesX) {
+            sx = -sx;
+        } else {
+            sz = -sz;
+        }
+        err = dx - dz;
+        return true;
+    }
+
+    /**
+     * Record a hit on a combatant (false if it was already hit by this projectile)
+     */
+    boolean markHit(Combatant target) {
+        return hitIds.add(target.getEntity().getId());
+    }
+
+    void hit(Combatant target) {
+        if (onHit != null) {
+            onHit.onHit(this, target);
+        }
+    }
+
+    void finish() {
+        finished = true;
+    }
+
+    boolean hasRangeLeft() {
+        return travelled < range;
+    }
+
+    // ===== Accessors =====
+
+    public String getName() {
+        return name;
+    }
+
+    public Combatant getOwner() {
+        return owner;
+    }
+
+    /**
+     * Cells moved per turn
+     */
+    public int getSpeed() {
+        return speed;
+    }
+
+    public boolean isPiercing() {
+        return piercing;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Render color (0xRRGGBB)
+     */
+    public int getColor() {
+        return color;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * Number of cells travelled so far
+     */
+    public int getPathLength() {
+        return path.size();
+    }
+
+    public int getPathX(int index) {
+        return ProjectileEngine.cellX(path.getLong(index));
+    }
+
+    public int getPathZ(int index) {
+        return ProjectileEngine.cellZ(path.getLong(index));
+    }
+
+    /**
+     * Builder for projectiles
+     */
+    public static class Builder {
+        private final String name;
+        private final int fromX;
+        private final int fromZ;
+        private final int toX;
+        private final int toZ;
+        private Combatant owner;
+        private int speed = 4;
+        private int range = 12;
+        private boolean piercing = false;
+        private int bounces = 0;
+        private int color = 0xFFFFFF;
+        private HitHandler onHit;
+
+        /**
+         * Line from one cell through another (it keeps going past the target until its range runs out)
+         */
+        public Builder(String name, int fromX, int fromZ, int toX, int toZ) {
+            if (fromX == toX && fromZ == toZ) {
+                throw new IllegalArgumentException(name + " needs a target cell different from its origin");
+            }
+            this.name = name;
+            this.fromX = fromX;
+            this.fromZ = fromZ;
+            this.toX = toX;
+            this.toZ = toZ;
+        }
+
+        public Builder owner(Combatant owner) {
+            this.owner = owner;
+            return this;
+        }
+
+        /**
+         * Cells moved per turn; anything at or above the range resolves on the turn it is fired
+         */
+        public Builder speed(int speed) {
+            this.speed = Math.max(1, speed);
+            return this;
+        }
+
+        public Builder range(int range) {
+            this.range = range;
+            return this;
+        }
+
+        /**
+         * Keep going through combatants instead of stopping at the first one hit
+         */
+        public Builder piercing() {
+            this.piercing = true;
+            return this;
+        }
+
+        /**
+         * Number of times it reflects off walls before stopping
+         */
+        public Builder bounces(int bounces) {
+            this.bounces = bounces;
+            return this;
+        }
+
+        public Builder color(int color) {
+            this.color = color;
+            return this;
+        }
+
+        public Builder onHit(HitHandler onHit) {
+            this.onHit = onHit;
+            return this;
+        }
+
+        public Projectile build() {
+            return new Projectile(this);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.wasteland.combat;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Moves the projectiles of one combat across its grid, turn by turn.
+ *
+ * Each projectile advances up to its speed in cells when it is fired and again at the
+ * end of every turn, following its Bresenham line over the CombatGrid snapshot. Walls
+ * stop it or bounce it; combatants are hit and stop it unless it pierces. Finished
+ * projectiles stay listed until the next turn so the client can still draw their path.
+ */
+public final class ProjectileEngine {
+    private final CombatGrid grid;
+    private final List<Projectile> projectiles = new ArrayList<>();
+    private final List<Projectile> projectilesView = Collections.unmodifiableList(projectiles);
+
+    public ProjectileEngine(CombatGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Fire a projectile and move it for the current turn
+     */
+    public void launch(Projectile projectile, List<Combatant> combatants) {
+        projectiles.add(projectile);
+        step(projectile, occupants(combatants));
+    }
+
+    /**
+     * Drop projectiles that finished last turn and move the rest
+     */
+    public void advanceTurn(List<Combatant> combatants) {
+        projectiles.removeIf(Projectile::isFinished);
+        if (projectiles.isEmpty()) {
+            return;
+        }
+
+        Long2ObjectMap<Combatant> occupants = occupants(combatants);
+        // Copy: hit handlers may fire new projectiles
+        for (Projectile projectile : new ArrayList<>(projectiles)) {
+            step(projectile, occupants);
+        }
+    }
+
+    /**
+     * Projectiles in flight or finished this turn (read-only view, not a copy)
+     */
+    public List<Projectile> getProjectiles() {
+        return projectilesView;
+    }
+
+    public boolean hasActiveProjectiles() {
+        for (Projectile projectile : projectiles) {
+            if (!projectile.isFinished()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        projectiles.clear();
+    }
+
+    /**
+     * Move a projectile up to its speed in cells
+     */
+    private void step(Projectile projectile, Long2ObjectMap<Combatant> occupants) {
+        int moves = projectile.getSpeed();
+
+        while (moves > 0 && !projectile.isFinished()) {
+            if (!projectile.hasRangeLeft()) {
+                projectile.finish();
+                break;
+            }
+
+            long next = projectile.peekNext();
+            int nx = cellX(next);
+            int nz = cellZ(next);
+
+            if (!grid.contains(nx, nz)) {
+                projectile.finish(); // Left the fight
+                break;
+            }
+            if (!grid.isOpen(nx, nz)) {
+                if (!projectile.bounce(grid)) {
+                    projectile.finish();
+                }
+                continue; // Bounces are limited, so this always ends
+            }
+
+            projectile.advance();
+            moves--;
+
+            Combatant target = occupants.get(next);
+            if (target != null && target.isAlive() && projectile.markHit(target)) {
+                projectile.hit(target);
+                if (!projectile.isPiercing()) {
+                    projectile.finish();
+                }
+            }
+        }
+    }
+
+    /**
+     * Living combatants by the column they stand in
+     */
+    private static Long2ObjectMap<Combatant> occupants(List<Combatant> combatants) {
+        Long2ObjectMap<Combatant> occupants = new Long2ObjectOpenHashMap<>(combatants.size());
+        for (Combatant combatant : combatants) {
+            if (combatant.isAlive()) {
+                occupants.put(cellKey(combatant.getEntity().getBlockX(), combatant.getEntity().getBlockZ()), combatant);
+            }
+        }
+        return occupants;
+    }
+
+    // ===== Packed column keys =====
+
+    static long cellKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    static int cellX(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int cellZ(long key) {
+        return (int) key;
+    }
+}
@@ -1,82 +1,180 @@
 package com.wasteland.combat;
 
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.event.entity.living.LivingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import com.wasteland.WastelandMod;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Freezes non-combatant entities during turn-based combat using event interception.
  * This is cleaner than using NoAI flags as it doesn't modify entity state.
+ *
+ * Each combat session freezes its own region (a box around the fight) in its
+ * dimension; entities elsewhere keep ticking. Zones are keyed by dimension rather
+ * than Level instance so a fight started on the client also freezes the matching
+ * integrated-server entities (entity ids are shared between the two sides).
  */
 @Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class WorldFreezingHandler {
 
-    private static boolean combatActive = false;
-    private static final Set<UUID> combatantUUIDs = new HashSet<>();
+    public static final int DEFAULT_RADIUS = 32;          // Horizontal blocks frozen around a fight
+    public static final int DEFAULT_VERTICAL_RADIUS = 16; // Vertical blocks frozen around a fight
 
     /**
-     * Activate world freezing for combat
-     * @param combatants UUIDs of entities participating in combat (these will NOT be frozen)
+     * Frozen region of one combat session. Immutable once created.
      */
-    public static void freeze(Set<UUID> combatants) {
-        combatActive = true;
-        combatantUUIDs.clear();
-        combatantUUIDs.addAll(combatants);
-        System.out.println("[WorldFreeze] World frozen. " + combatants.size() + " combatants active.");
+    public static final class Zone {
+        private final ResourceKey<Level> dimension;
+        private final double minX, minY, minZ, maxX, maxY, maxZ;
+        private final EntityIdSet combatants;
+
+        private Zone(ResourceKey<Level> dimension, BlockPos center, int radius, int verticalRadius,
+                     EntityIdSet combatants) {
+            this.dimension = dimension;
+            this.minX = center.getX() - radius;
+            this.minY = center.getY() - verticalRadius;
+            this.minZ = center.getZ() - radius;
+            this.maxX = center.getX() + radius + 1;
+            this.maxY = center.getY() + verticalRadius + 1;
+            this.maxZ = center.getZ() + radius + 1;
+            this.combatants = combatants;
+        }
+
+        public ResourceKey<Level> getDimension() {
+            return dimension;
+        }
+
+        public int getCombatantCount() {
+            return combatants.size();
+        }
+
+        private boolean contains(double x, double y, double z) {
+            return x >= minX && x < maxX && z >= minZ && z < maxZ && y >= minY && y < maxY;
+        }
+    }
+
+    // Active zones, replaced copy-on-write; read by both client and server tick threads
+    private static volatile Zone[] zones = new Zone[0];
+
+    /**
+     * Freeze the region around a fight
+     * @param combatantIds Entity ids of combatants (these will NOT be frozen)
+     * @return Zone handle to pass to unfreeze when the fight ends
+     */
+    public static Zone freeze(Level level, BlockPos center, int[] combatantIds) {
+        return freeze(level, center, DEFAULT_RADIUS, DEFAULT_VERTICAL_RADIUS, combatantIds);
     }
 
     /**
-     * Deactivate world freezing
+     * Freeze a custom-sized region around a fight
      */
-    public static void unfreeze() {
-        combatActive = false;
-        combatantUUIDs.clear();
-        System.out.println("[WorldFreeze] World unfrozen.");
+    public static synchronized Zone freeze(Level level, BlockPos center, int radius, int verticalRadius,
+                                           int[] combatantIds) {
+        EntityIdSet combatants = new EntityIdSet(combatantIds.length);
+        for (int id : combatantIds) {
+            combatants.add(id);
+        }
+
+        Zone zone = new Zone(level.dimension(), center, radius, verticalRadius, combatants);
+        Zone[] updated = Arrays.copyOf(zones, zones.length + 1);
+        updated[updated.length - 1] = zone;
+        zones = updated;
+
+        System.out.println("[WorldFreeze] Region frozen around " + center + " (radius " + radius + "). "
+            + combatantIds.length + " combatants active.");
+        return zone;
     }
 
     /**
-     * Check if world is currently frozen
+     * Release one session's frozen region
+     */
+    public static synchronized void unfreeze(Zone zone) {
+        List<Zone> remaining = new ArrayList<>(Arrays.asList(zones));
+        if (remaining.remove(zone)) {
+            zones = remaining.toArray(new Zone[0]);
+            System.out.println("[WorldFreeze] Region unfrozen. " + zones.length + " frozen regions remain.");
+        }
+    }
+
+    /**
+     * Check if any region is currently frozen
      */
     public static boolean isFrozen() {
-        return combatActive;
+        return zones.length > 0;
     }
 
     /**
-     * Intercept entity tick events and cancel them for non-combatants
+     * Check if an entity is currently frozen (inside a zone of its dimension and not a combatant)
+     */
+    public static boolean isFrozen(LivingEntity entity) {
+        return isFrozen(zones, entity);
+    }
+
+    /**
+     * Intercept entity tick events and cancel them for non-combatants inside a frozen region
      */
     @SubscribeEvent
     public static void onEntityTick(LivingEvent.LivingTickEvent event) {
-        if (!combatActive) {
-            return; // World not frozen, allow all ticks
+        Zone[] active = zones;
+        if (active.length == 0) {
+            return; // Nothing frozen, allow all ticks
         }
 
         LivingEntity entity = event.getEntity();
-        UUID entityUUID = entity.getUUID();
-
-        // Allow combatants to tick normally
-        if (combatantUUIDs.contains(entityUUID)) {
+        if (!isFrozen(active, entity)) {
             return;
         }
 
-        // Freeze all non-combatants by cancelling their tick
+        // Freeze non-combatant by cancelling its tick
         event.setCanceled(true);
 
-        // Also zero out any movement they might have accumulated
-        if (!entity.getDeltaMovement().equals(net.minecraft.world.phys.Vec3.ZERO)) {
-            entity.setDeltaMovement(net.minecraft.world.phys.Vec3.ZERO);
+        // Also zero out any movement it might have accumulated
+        Vec3 motion = entity.getDeltaMovement();
+        if (motion.x != 0.0 || motion.y != 0.0 || motion.z != 0.0) {
+            entity.setDeltaMovement(Vec3.ZERO);
         }
     }
 
+    private static boolean isFrozen(Zone[] active, LivingEntity entity) {
+        ResourceKey<Level> dimension = entity.level().dimension();
+        double x = entity.getX();
+        double y = entity.getY();
+        double z = entity.getZ();
+        int id = entity.getId();
+
+        boolean inside = false;
+        for (Zone zone : active) {
+            if (zone.dimension != dimension) {
+                continue;
+            }
+            // Combatants of any fight in this dimension keep ticking, even inside another fight's region
+            if (zone.combatants.contains(id)) {
+                return false;
+            }
+            if (!inside && zone.contains(x, y, z)) {
+                inside = true;
+            }
+        }
+        return inside;
+    }
+
     /**
-     * Get number of currently frozen entities (for debugging)
+     * Get number of combatants exempt from freezing across all regions (for debugging)
      */
     public static int getFrozenCount() {
-        return combatantUUIDs.size();
+        int count = 0;
+        for (Zone zone : zones) {
+            count += zone.combatants.size();
+        }
+        return count;
     }
 }
@@ -21,15 +21,15 @@ public class AnnihilatorSentryBotEntity extends RobotEntity {
     private int missileCooldown = 0;
 
     public AnnihilatorSentryBotEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.HEAVY, true, com.wasteland.loot.RobotLoot.RobotTier.ELITE); // CAN self-destruct
+        super(entityType, level, RobotTemplate.ANNIHILATOR_SENTRY_BOT); // CAN self-destruct
     }
 
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 120.0D)     // Massive health
+            .add(Attributes.MAX_HEALTH, RobotTemplate.ANNIHILATOR_SENTRY_BOT.getMaxHealth()) // Massive health
             .add(Attributes.MOVEMENT_SPEED, 0.12D)  // Very slow
-            .add(Attributes.ATTACK_DAMAGE, 18.0D)   // Devastating damage
-            .add(Attributes.ARMOR, 20.0D)           // Extremely heavy armor
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.ANNIHILATOR_SENTRY_BOT.getAttackDamage()) // Devastating damage
+            .add(Attributes.ARMOR, RobotTemplate.ANNIHILATOR_SENTRY_BOT.getArmor()) // Extremely heavy armor
             .add(Attributes.KNOCKBACK_RESISTANCE, 1.0D) // Immune to knockback
             .add(Attributes.FOLLOW_RANGE, 40.0D);
     }
@@ -21,15 +21,15 @@ public class AssaultronEntity extends RobotEntity {
     private int headLaserCooldown = 0;
 
     public AssaultronEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.MEDIUM, false, com.wasteland.loot.RobotLoot.RobotTier.COMBAT);
+        super(entityType, level, RobotTemplate.ASSAULTRON);
     }
 
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 50.0D)      // Moderate health
+            .add(Attributes.MAX_HEALTH, RobotTemplate.ASSAULTRON.getMaxHealth()) // Moderate health
             .add(Attributes.MOVEMENT_SPEED, 0.35D)  // VERY fast for a robot
-            .add(Attributes.ATTACK_DAMAGE, 10.0D)   // High melee damage
-            .add(Attributes.ARMOR, 6.0D)            // Lower armor (speed over defense)
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.ASSAULTRON.getAttackDamage()) // High melee damage
+            .add(Attributes.ARMOR, RobotTemplate.ASSAULTRON.getArmor()) // Lower armor (speed over defense)
             .add(Attributes.KNOCKBACK_RESISTANCE, 0.4D)
             .add(Attributes.FOLLOW_RANGE, 40.0D);   // Long detection range
     }
@@ -1,5 +1,6 @@
 package com.wasteland.entity;
 
+import com.wasteland.combat.AreaEffectResolver;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
@@ -24,15 +25,15 @@ public class ExperimentalBotEntity extends RobotEntity {
     private int randomAbilityCooldown = 0;
 
     public ExperimentalBotEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.MEDIUM, false, com.wasteland.loot.RobotLoot.RobotTier.HEAVY);
+        super(entityType, level, RobotTemplate.EXPERIMENTAL_BOT);
     }
 
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 60.0D)      // Moderate health
+            .add(Attributes.MAX_HEALTH, RobotTemplate.EXPERIMENTAL_BOT.getMaxHealth()) // Moderate health
             .add(Attributes.MOVEMENT_SPEED, 0.28D)  // Good speed
-            .add(Attributes.ATTACK_DAMAGE, 12.0D)   // High damage (unstable)
-            .add(Attributes.ARMOR, 10.0D)           // Good armor
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.EXPERIMENTAL_BOT.getAttackDamage()) // High damage (unstable)
+            .add(Attributes.ARMOR, RobotTemplate.EXPERIMENTAL_BOT.getArmor()) // Good armor
             .add(Attributes.KNOCKBACK_RESISTANCE, 0.6D)
             .add(Attributes.FOLLOW_RANGE, 40.0D);
     }
@@ -142,8 +143,7 @@ public class ExperimentalBotEntity extends RobotEntity {
     private void explode() {
         if (!this.level().isClientSide) {
             // Massive experimental explosion (bigger than Sentry Bot)
-            this.level().explode(this, this.getX(), this.getY(), this.getZ(),
-                5.0F, Level.ExplosionInteraction.MOB);
+            AreaEffectResolver.explode(this, 5.0F);
         }
     }
 
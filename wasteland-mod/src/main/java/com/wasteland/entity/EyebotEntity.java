@@ -26,7 +26,7 @@ import net.minecraft.world.level.Level;
 public class EyebotEntity extends RobotEntity {
 
     public EyebotEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.LIGHT, false, com.wasteland.loot.RobotLoot.RobotTier.LIGHT);
+        super(entityType, level, RobotTemplate.EYEBOT);
     }
 
     /**
@@ -34,10 +34,10 @@ public class EyebotEntity extends RobotEntity {
      */
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 15.0D)      // Low health (1.5 hearts)
+            .add(Attributes.MAX_HEALTH, RobotTemplate.EYEBOT.getMaxHealth()) // Low health (1.5 hearts)
             .add(Attributes.MOVEMENT_SPEED, 0.35D)  // Fast (flies)
-            .add(Attributes.ATTACK_DAMAGE, 2.0D)    // Weak attack
-            .add(Attributes.ARMOR, 0.0D)            // No armor (LIGHT class)
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.EYEBOT.getAttackDamage()) // Weak attack
+            .add(Attributes.ARMOR, RobotTemplate.EYEBOT.getArmor()) // No armor (LIGHT class)
             .add(Attributes.FOLLOW_RANGE, 40.0D);   // Long detection range
     }
 
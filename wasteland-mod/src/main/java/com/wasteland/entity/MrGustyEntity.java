@@ -19,15 +19,15 @@ import net.minecraft.world.level.Level;
 public class MrGustyEntity extends RobotEntity {
 
     public MrGustyEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.MEDIUM, false, com.wasteland.loot.RobotLoot.RobotTier.COMBAT);
+        super(entityType, level, RobotTemplate.MR_GUSTY);
     }
 
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 45.0D)      // Tougher than Mr. Handy
+            .add(Attributes.MAX_HEALTH, RobotTemplate.MR_GUSTY.getMaxHealth()) // Tougher than Mr. Handy
             .add(Attributes.MOVEMENT_SPEED, 0.25D)  // Moderate speed (floats)
-            .add(Attributes.ATTACK_DAMAGE, 8.0D)    // Solid damage
-            .add(Attributes.ARMOR, 7.0D)            // Military-grade plating
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.MR_GUSTY.getAttackDamage()) // Solid damage
+            .add(Attributes.ARMOR, RobotTemplate.MR_GUSTY.getArmor()) // Military-grade plating
             .add(Attributes.KNOCKBACK_RESISTANCE, 0.5D)
             .add(Attributes.FOLLOW_RANGE, 36.0D);   // Good detection
     }
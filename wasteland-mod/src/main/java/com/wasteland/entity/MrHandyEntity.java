@@ -24,7 +24,7 @@ import net.minecraft.world.level.Level;
 public class MrHandyEntity extends RobotEntity {
 
     public MrHandyEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.LIGHT, false, com.wasteland.loot.RobotLoot.RobotTier.LIGHT);
+        super(entityType, level, RobotTemplate.MR_HANDY);
     }
 
     /**
@@ -32,10 +32,10 @@ public class MrHandyEntity extends RobotEntity {
      */
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 25.0D)      // Moderate health
+            .add(Attributes.MAX_HEALTH, RobotTemplate.MR_HANDY.getMaxHealth()) // Moderate health
             .add(Attributes.MOVEMENT_SPEED, 0.25D)  // Moderate speed (hovers)
-            .add(Attributes.ATTACK_DAMAGE, 4.0D)    // Moderate damage
-            .add(Attributes.ARMOR, 2.0D)            // Light armor (LIGHT class)
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.MR_HANDY.getAttackDamage()) // Moderate damage
+            .add(Attributes.ARMOR, RobotTemplate.MR_HANDY.getArmor()) // Light armor (LIGHT class)
             .add(Attributes.FOLLOW_RANGE, 30.0D);
     }
 
@@ -24,15 +24,15 @@ public class OverlordBotEntity extends RobotEntity {
     private boolean enraged = false;
 
     public OverlordBotEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.HEAVY, false, com.wasteland.loot.RobotLoot.RobotTier.BOSS); // Boss doesn't self-destruct
+        super(entityType, level, RobotTemplate.OVERLORD_BOT); // Boss doesn't self-destruct
     }
 
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 200.0D)     // Boss-tier health
+            .add(Attributes.MAX_HEALTH, RobotTemplate.OVERLORD_BOT.getMaxHealth()) // Boss-tier health
             .add(Attributes.MOVEMENT_SPEED, 0.18D)  // Moderate speed
-            .add(Attributes.ATTACK_DAMAGE, 20.0D)   // Devastating damage
-            .add(Attributes.ARMOR, 25.0D)           // Maximum armor
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.OVERLORD_BOT.getAttackDamage()) // Devastating damage
+            .add(Attributes.ARMOR, RobotTemplate.OVERLORD_BOT.getArmor()) // Maximum armor
             .add(Attributes.KNOCKBACK_RESISTANCE, 1.0D) // Immune to knockback
             .add(Attributes.FOLLOW_RANGE, 64.0D);   // Massive detection range
     }
@@ -22,7 +22,7 @@ import net.minecraft.world.level.Level;
 public class ProtectronEntity extends RobotEntity {
 
     public ProtectronEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.MEDIUM, false, com.wasteland.loot.RobotLoot.RobotTier.MEDIUM);
+        super(entityType, level, RobotTemplate.PROTECTRON);
     }
 
     /**
@@ -30,10 +30,10 @@ public class ProtectronEntity extends RobotEntity {
      */
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 30.0D)      // Moderate health (3 hearts)
+            .add(Attributes.MAX_HEALTH, RobotTemplate.PROTECTRON.getMaxHealth()) // Moderate health (3 hearts)
             .add(Attributes.MOVEMENT_SPEED, 0.18D)  // Slow movement
-            .add(Attributes.ATTACK_DAMAGE, 5.0D)    // Moderate damage
-            .add(Attributes.ARMOR, 6.0D)            // Good armor (MEDIUM class)
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.PROTECTRON.getAttackDamage()) // Moderate damage
+            .add(Attributes.ARMOR, RobotTemplate.PROTECTRON.getArmor()) // Good armor (MEDIUM class)
             .add(Attributes.FOLLOW_RANGE, 25.0D)    // Standard detection
             .add(Attributes.KNOCKBACK_RESISTANCE, 0.5D); // Hard to knock back
     }
@@ -22,15 +22,15 @@ public class QuantumAssaultronEntity extends RobotEntity {
     private int deathRayCooldown = 0;
 
     public QuantumAssaultronEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.MEDIUM, false, com.wasteland.loot.RobotLoot.RobotTier.ELITE);
+        super(entityType, level, RobotTemplate.QUANTUM_ASSAULTRON);
     }
 
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 70.0D)      // Moderate health
+            .add(Attributes.MAX_HEALTH, RobotTemplate.QUANTUM_ASSAULTRON.getMaxHealth()) // Moderate health
             .add(Attributes.MOVEMENT_SPEED, 0.42D)  // EXTREMELY fast
-            .add(Attributes.ATTACK_DAMAGE, 14.0D)   // Very high damage
-            .add(Attributes.ARMOR, 8.0D)            // Medium armor
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.QUANTUM_ASSAULTRON.getAttackDamage()) // Very high damage
+            .add(Attributes.ARMOR, RobotTemplate.QUANTUM_ASSAULTRON.getArmor()) // Medium armor
             .add(Attributes.KNOCKBACK_RESISTANCE, 0.5D)
             .add(Attributes.FOLLOW_RANGE, 48.0D);   // Long detection range
     }
@@ -21,15 +21,15 @@ public class RobobrainEntity extends RobotEntity {
     private int psionicPulseCooldown = 0;
 
     public RobobrainEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.MEDIUM, false, com.wasteland.loot.RobotLoot.RobotTier.COMBAT);
+        super(entityType, level, RobotTemplate.ROBOBRAIN);
     }
 
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 55.0D)      // Good health
+            .add(Attributes.MAX_HEALTH, RobotTemplate.ROBOBRAIN.getMaxHealth()) // Good health
             .add(Attributes.MOVEMENT_SPEED, 0.20D)  // Slow movement
-            .add(Attributes.ATTACK_DAMAGE, 7.0D)    // Moderate physical damage
-            .add(Attributes.ARMOR, 8.0D)            // Decent armor
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.ROBOBRAIN.getAttackDamage()) // Moderate physical damage
+            .add(Attributes.ARMOR, RobotTemplate.ROBOBRAIN.getArmor()) // Decent armor
             .add(Attributes.KNOCKBACK_RESISTANCE, 0.7D)
             .add(Attributes.FOLLOW_RANGE, 48.0D);   // Very high detection (psionic sense)
     }
@@ -1,5 +1,7 @@
 package com.wasteland.entity;
 
+import com.wasteland.combat.AreaEffectResolver;
+import com.wasteland.combat.CombatMath;
 import com.wasteland.loot.RobotLoot;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.PathfinderMob;
@@ -59,15 +61,17 @@ public abstract class RobotEntity extends Monster {
         }
     }
 
+    protected final RobotTemplate template;
     protected final RobotArmorClass armorClass;
     protected final boolean canSelfDestruct;
     protected final RobotLoot.RobotTier lootTier;
 
-    public RobotEntity(EntityType<? extends Monster> entityType, Level level, RobotArmorClass armorClass, boolean canSelfDestruct, RobotLoot.RobotTier lootTier) {
+    public RobotEntity(EntityType<? extends Monster> entityType, Level level, RobotTemplate template) {
         super(entityType, level);
-        this.armorClass = armorClass;
-        this.canSelfDestruct = canSelfDestruct;
-        this.lootTier = lootTier;
+        this.template = template;
+        this.armorClass = template.getArmorClass();
+        this.canSelfDestruct = template.canSelfDestruct();
+        this.lootTier = template.getLootTier();
     }
 
     /**
@@ -141,7 +145,7 @@ public abstract class RobotEntity extends Monster {
             }
 
             // Apply physical resistance
-            modifiedDamage *= (1.0 - armorClass.getPhysicalResistance());
+            modifiedDamage = CombatMath.applyResistance(modifiedDamage, armorClass.getPhysicalResistance());
         }
 
         return super.hurt(source, modifiedDamage);
@@ -160,9 +164,8 @@ public abstract class RobotEntity extends Monster {
         // Self-destruct explosion (only for sentry bots)
         if (canSelfDestruct && !this.level().isClientSide) {
             LOGGER.info("{} self-destructing!", this.getName().getString());
-            // Create explosion
-            this.level().explode(this, this.getX(), this.getY(), this.getZ(),
-                3.0F, Level.ExplosionInteraction.MOB);
+            // Vanilla explosion, queued with this tick's area effects so chained self-destructs go off in waves
+            AreaEffectResolver.explode(this, 3.0F);
         }
 
         super.die(damageSource);
@@ -215,6 +218,13 @@ public abstract class RobotEntity extends Monster {
                damageType.contains("projectile");
     }
 
+    /**
+     * Get the stat template this robot was built from
+     */
+    public RobotTemplate getTemplate() {
+        return template;
+    }
+
     /**
      * Get robot armor class
      */
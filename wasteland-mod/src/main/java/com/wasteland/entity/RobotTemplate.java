@@ -0,0 +1,99 @@
+package com.wasteland.entity;
+
+import com.wasteland.loot.RobotLoot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain-data stat block for every robot type.
+ * Single source of truth for the combat-relevant attributes, shared by the
+ * entity classes and the headless combat simulator (which can't create entities).
+ *
+ * Format: name, max health, attack damage, armor, armor class, self-destruct, loot tier, spawn tier
+ */
+public enum RobotTemplate {
+    EYEBOT("Eyebot", 15.0D, 2.0D, 0.0D, RobotEntity.RobotArmorClass.LIGHT, false, RobotLoot.RobotTier.LIGHT, 1),
+    PROTECTRON("Protectron", 30.0D, 5.0D, 6.0D, RobotEntity.RobotArmorClass.MEDIUM, false, RobotLoot.RobotTier.MEDIUM, 2),
+    MR_HANDY("Mr. Handy", 25.0D, 4.0D, 2.0D, RobotEntity.RobotArmorClass.LIGHT, false, RobotLoot.RobotTier.LIGHT, 2),
+    SECURITY_BOT("Security Bot", 40.0D, 6.0D, 8.0D, RobotEntity.RobotArmorClass.MEDIUM, false, RobotLoot.RobotTier.MEDIUM, 3),
+    ASSAULTRON("Assaultron", 50.0D, 10.0D, 6.0D, RobotEntity.RobotArmorClass.MEDIUM, false, RobotLoot.RobotTier.COMBAT, 4),
+    MR_GUSTY("Mr. Gusty", 45.0D, 8.0D, 7.0D, RobotEntity.RobotArmorClass.MEDIUM, false, RobotLoot.RobotTier.COMBAT, 4),
+    SENTRY_BOT("Sentry Bot", 80.0D, 12.0D, 15.0D, RobotEntity.RobotArmorClass.HEAVY, true, RobotLoot.RobotTier.HEAVY, 5),
+    ROBOBRAIN("Robobrain", 55.0D, 7.0D, 8.0D, RobotEntity.RobotArmorClass.MEDIUM, false, RobotLoot.RobotTier.COMBAT, 5),
+    EXPERIMENTAL_BOT("Experimental Bot", 60.0D, 12.0D, 10.0D, RobotEntity.RobotArmorClass.MEDIUM, false, RobotLoot.RobotTier.HEAVY, 6),
+    ANNIHILATOR_SENTRY_BOT("Annihilator Sentry Bot", 120.0D, 18.0D, 20.0D, RobotEntity.RobotArmorClass.HEAVY, true, RobotLoot.RobotTier.ELITE, 7),
+    QUANTUM_ASSAULTRON("Quantum Assaultron", 70.0D, 14.0D, 8.0D, RobotEntity.RobotArmorClass.MEDIUM, false, RobotLoot.RobotTier.ELITE, 8),
+    OVERLORD_BOT("Overlord Bot", 200.0D, 20.0D, 25.0D, RobotEntity.RobotArmorClass.HEAVY, false, RobotLoot.RobotTier.BOSS, 9);
+
+    private final String displayName;
+    private final double maxHealth;
+    private final double attackDamage;
+    private final double armor;
+    private final RobotEntity.RobotArmorClass armorClass;
+    private final boolean canSelfDestruct;
+    private final RobotLoot.RobotTier lootTier;
+    private final int spawnTier; // DCSS monster tier (1-9), see MonsterSpawner
+
+    RobotTemplate(String displayName, double maxHealth, double attackDamage, double armor,
+                  RobotEntity.RobotArmorClass armorClass, boolean canSelfDestruct,
+                  RobotLoot.RobotTier lootTier, int spawnTier) {
+        this.displayName = displayName;
+        this.maxHealth = maxHealth;
+        this.attackDamage = attackDamage;
+        this.armor = armor;
+        this.armorClass = armorClass;
+        this.canSelfDestruct = canSelfDestruct;
+        this.lootTier = lootTier;
+        this.spawnTier = spawnTier;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public double getMaxHealth() {
+        return maxHealth;
+    }
+
+    public double getAttackDamage() {
+        return attackDamage;
+    }
+
+    public double getArmor() {
+        return armor;
+    }
+
+    public RobotEntity.RobotArmorClass getArmorClass() {
+        return armorClass;
+    }
+
+    public boolean canSelfDestruct() {
+        return canSelfDestruct;
+    }
+
+    public RobotLoot.RobotTier getLootTier() {
+        return lootTier;
+    }
+
+    public int getSpawnTier() {
+        return spawnTier;
+    }
+
+    /**
+     * Get the robots that spawn in the same tier band as the given dungeon depth
+     * (Depths 1-5: tiers 1-3, Depths 6-10: tiers 4-6, Depths 11+: tiers 7-9)
+     */
+    public static List<RobotTemplate> getForDepth(int depth) {
+        int minTier = depth <= 5 ? 1 : depth <= 10 ? 4 : 7;
+        int maxTier = minTier + 2;
+
+        List<RobotTemplate> templates = new ArrayList<>();
+        for (RobotTemplate template : values()) {
+            if (template.spawnTier >= minTier && template.spawnTier <= maxTier) {
+                templates.add(template);
+            }
+        }
+        return templates;
+    }
+}
@@ -18,15 +18,15 @@ import net.minecraft.world.level.Level;
 public class SecurityBotEntity extends RobotEntity {
 
     public SecurityBotEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.MEDIUM, false, com.wasteland.loot.RobotLoot.RobotTier.MEDIUM);
+        super(entityType, level, RobotTemplate.SECURITY_BOT);
     }
 
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 40.0D)      // More HP than Protectron
+            .add(Attributes.MAX_HEALTH, RobotTemplate.SECURITY_BOT.getMaxHealth()) // More HP than Protectron
             .add(Attributes.MOVEMENT_SPEED, 0.23D)  // Faster than Protectron (0.18)
-            .add(Attributes.ATTACK_DAMAGE, 6.0D)    // Slightly stronger
-            .add(Attributes.ARMOR, 8.0D)            // Better armor than Protectron
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.SECURITY_BOT.getAttackDamage()) // Slightly stronger
+            .add(Attributes.ARMOR, RobotTemplate.SECURITY_BOT.getArmor()) // Better armor than Protectron
             .add(Attributes.KNOCKBACK_RESISTANCE, 0.6D)
             .add(Attributes.FOLLOW_RANGE, 32.0D);   // Better detection range
     }
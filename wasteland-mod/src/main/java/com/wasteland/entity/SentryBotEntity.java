@@ -26,7 +26,7 @@ import net.minecraft.world.level.Level;
 public class SentryBotEntity extends RobotEntity {
 
     public SentryBotEntity(EntityType<? extends Monster> entityType, Level level) {
-        super(entityType, level, RobotArmorClass.HEAVY, true, com.wasteland.loot.RobotLoot.RobotTier.HEAVY); // CAN self-destruct
+        super(entityType, level, RobotTemplate.SENTRY_BOT); // CAN self-destruct
     }
 
     /**
@@ -34,10 +34,10 @@ public class SentryBotEntity extends RobotEntity {
      */
     public static AttributeSupplier.Builder createAttributes() {
         return createRobotAttributes()
-            .add(Attributes.MAX_HEALTH, 80.0D)      // Very high health (8 hearts)
+            .add(Attributes.MAX_HEALTH, RobotTemplate.SENTRY_BOT.getMaxHealth()) // Very high health (8 hearts)
             .add(Attributes.MOVEMENT_SPEED, 0.15D)  // Very slow
-            .add(Attributes.ATTACK_DAMAGE, 12.0D)   // High damage
-            .add(Attributes.ARMOR, 15.0D)           // Very high armor (HEAVY class)
+            .add(Attributes.ATTACK_DAMAGE, RobotTemplate.SENTRY_BOT.getAttackDamage()) // High damage
+            .add(Attributes.ARMOR, RobotTemplate.SENTRY_BOT.getArmor()) // Very high armor (HEAVY class)
             .add(Attributes.FOLLOW_RANGE, 35.0D)
             .add(Attributes.KNOCKBACK_RESISTANCE, 1.0D) // Immune to knockback
             .add(Attributes.ATTACK_KNOCKBACK, 2.0D);    // Strong knockback on hit
@@ -2,6 +2,7 @@ package com.wasteland.item;
 
 import com.wasteland.loot.ArmorType;
 import com.wasteland.loot.ItemRarity;
+import com.wasteland.loot.ItemViewCache;
 import com.wasteland.loot.WastelandArmor;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -61,7 +62,7 @@ public class WastelandArmorItem extends Item {
 
     @Override
     public Component getName(ItemStack stack) {
-        WastelandArmor armor = createArmor(stack);
+        WastelandArmor armor = ItemViewCache.getArmor(stack);
         if (armor != null) {
             // Build name with enchantment level and rarity
             StringBuilder name = new StringBuilder();
@@ -82,7 +83,7 @@ public class WastelandArmorItem extends Item {
     public void appendHoverText(ItemStack stack, @Nullable Level level, List<Component> tooltip, TooltipFlag flag) {
         super.appendHoverText(stack, level, tooltip, flag);
 
-        WastelandArmor armor = createArmor(stack);
+        WastelandArmor armor = ItemViewCache.getArmor(stack);
         if (armor == null) {
             // Uninitialized armor - show basic stats
             tooltip.add(Component.literal("AC: +" + armorType.getBaseAC())
@@ -95,11 +96,8 @@ public class WastelandArmorItem extends Item {
             return;
         }
 
-        // Get formatted tooltip from WastelandArmor
-        List<String> armorTooltip = armor.getTooltip();
-        for (String line : armorTooltip) {
-            tooltip.add(Component.literal(line));
-        }
+        // Get formatted tooltip from WastelandArmor (cached until the stack changes)
+        tooltip.addAll(ItemViewCache.getTooltip(stack));
 
         // Add comparison tooltip if on client side with a player
         if (level != null && level.isClientSide()) {
@@ -115,7 +113,7 @@ public class WastelandArmorItem extends Item {
 
     @Override
     public boolean isFoil(ItemStack stack) {
-        WastelandArmor armor = createArmor(stack);
+        WastelandArmor armor = ItemViewCache.getArmor(stack);
         if (armor != null) {
             // Enchanted or artifact armor has foil effect
             return armor.getEnchantmentLevel() > 0 || armor.getRarity().isArtifact();
@@ -125,7 +123,7 @@ public class WastelandArmorItem extends Item {
 
     @Override
     public Rarity getRarity(ItemStack stack) {
-        WastelandArmor armor = createArmor(stack);
+        WastelandArmor armor = ItemViewCache.getArmor(stack);
         if (armor != null) {
             return armor.getRarity().getMinecraftRarity();
         }
@@ -2,6 +2,7 @@ package com.wasteland.item;
 
 import com.wasteland.equipment.WeaponType;
 import com.wasteland.loot.ItemRarity;
+import com.wasteland.loot.ItemViewCache;
 import com.wasteland.loot.WastelandWeapon;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -61,7 +62,7 @@ public class WastelandWeaponItem extends Item {
 
     @Override
     public Component getName(ItemStack stack) {
-        WastelandWeapon weapon = createWeapon(stack);
+        WastelandWeapon weapon = ItemViewCache.getWeapon(stack);
         if (weapon != null) {
             // Build name with enchantment level and rarity
             StringBuilder name = new StringBuilder();
@@ -82,7 +83,7 @@ public class WastelandWeaponItem extends Item {
     public void appendHoverText(ItemStack stack, @Nullable Level level, List<Component> tooltip, TooltipFlag flag) {
         super.appendHoverText(stack, level, tooltip, flag);
 
-        WastelandWeapon weapon = createWeapon(stack);
+        WastelandWeapon weapon = ItemViewCache.getWeapon(stack);
         if (weapon == null) {
             // Uninitialized weapon - show basic stats
             tooltip.add(Component.literal("Damage: " + weaponType.getBaseDamage())
@@ -92,11 +93,8 @@ public class WastelandWeaponItem extends Item {
             return;
         }
 
-        // Get formatted tooltip from WastelandWeapon
-        List<String> weaponTooltip = weapon.getTooltip();
-        for (String line : weaponTooltip) {
-            tooltip.add(Component.literal(line));
-        }
+        // Get formatted tooltip from WastelandWeapon (cached until the stack changes)
+        tooltip.addAll(ItemViewCache.getTooltip(stack));
 
         // Add comparison tooltip if on client side with a player
         if (level != null && level.isClientSide()) {
@@ -112,7 +110,7 @@ public class WastelandWeaponItem extends Item {
 
     @Override
     public boolean isFoil(ItemStack stack) {
-        WastelandWeapon weapon = createWeapon(stack);
+        WastelandWeapon weapon = ItemViewCache.getWeapon(stack);
         if (weapon != null) {
             // Enchanted or artifact weapons have foil effect
             return weapon.getEnchantmentLevel() > 0 || weapon.getRarity().isArtifact();
@@ -122,7 +120,7 @@ public class WastelandWeaponItem extends Item {
 
     @Override
     public Rarity getRarity(ItemStack stack) {
-        WastelandWeapon weapon = createWeapon(stack);
+        WastelandWeapon weapon = ItemViewCache.getWeapon(stack);
         if (weapon != null) {
             return weapon.getRarity().getMinecraftRarity();
         }
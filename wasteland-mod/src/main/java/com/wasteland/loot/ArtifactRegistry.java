@@ -1,5 +1,7 @@
 package com.wasteland.loot;
 
+import com.wasteland.WastelandRandom;
+import com.wasteland.WeightedTable;
 import com.wasteland.equipment.WeaponType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -10,14 +12,53 @@ import java.util.stream.Collectors;
 /**
  * Registry of all unique artifacts in the game.
  * Manages fixed/named artifacts with predefined properties and lore.
+ *
+ * Artifacts unlock in depth bands (one band per distinct minimum depth). Each band's
+ * not-yet-spawned artifacts are kept as a weighted alias table, rebuilt only when an
+ * artifact spawns or the spawned set is reset, so a roll is a band lookup and one draw.
+ *
+ * Chest batches roll on worker threads: the tables are stamped with the generation of the
+ * spawned set they were built from, and a table built from an older generation is never
+ * published. A unique is claimed with tryMarkAsSpawned, which succeeds only once, so a
+ * roll from a table that was just outdated still can't hand out a spawned unique again.
+ * A claim whose chest is never filled is given back with unmarkSpawned.
  */
 public class ArtifactRegistry {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<String, UniqueArtifact> ARTIFACTS = new HashMap<>();
-    private static final Random RANDOM = new Random();
+    private static final Map<String, UniqueArtifact> ARTIFACTS = new LinkedHashMap<>();
+    private static final WastelandRandom.Stream ARTIFACT_STREAM = WastelandRandom.stream("artifacts");
 
-    // Track spawned artifacts to prevent duplicates
-    private static final Set<String> spawnedArtifacts = new HashSet<>();
+    // Track spawned artifacts to prevent duplicates (concurrent: chest batches roll on worker threads)
+    private static final Set<String> spawnedArtifacts = java.util.concurrent.ConcurrentHashMap.newKeySet();
+
+    // Bumped whenever the registry or the spawned set changes
+    private static final java.util.concurrent.atomic.AtomicInteger generation = new java.util.concurrent.atomic.AtomicInteger();
+
+    // Per-band tables of unspawned artifacts; stale when their generation is behind
+    private static volatile Bands bands;
+
+    /**
+     * Artifacts available from each band's minimum depth, with their spawn tables
+     */
+    private static final class Bands {
+        final int generation; // Of the spawned set the tables were built from
+        final int[] minDepths; // Ascending
+        final List<List<UniqueArtifact>> available = new ArrayList<>();
+        final List<WeightedTable<UniqueArtifact>> tables = new ArrayList<>();
+
+        Bands(int generation, int[] minDepths) {
+            this.generation = generation;
+            this.minDepths = minDepths;
+        }
+
+        /**
+         * Index of the deepest band unlocked at a depth (-1 if none)
+         */
+        int bandFor(int depth) {
+            int index = Arrays.binarySearch(minDepths, depth);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
 
     static {
         registerAllArtifacts();
@@ -431,6 +472,7 @@ public class ArtifactRegistry {
      */
     private static void register(UniqueArtifact artifact) {
         ARTIFACTS.put(artifact.getId(), artifact);
+        generation.incrementAndGet();
     }
 
     /**
@@ -451,10 +493,9 @@ public class ArtifactRegistry {
      * Get artifacts available at a given depth
      */
     public static List<UniqueArtifact> getArtifactsForDepth(int depth) {
-        return ARTIFACTS.values().stream()
-            .filter(a -> a.getMinDepth() <= depth)
-            .filter(a -> !spawnedArtifacts.contains(a.getId())) // Not already spawned
-            .collect(Collectors.toList());
+        Bands current = bands();
+        int band = current.bandFor(depth);
+        return band >= 0 ? current.available.get(band) : Collections.emptyList();
     }
 
     /**
@@ -480,36 +521,46 @@ public class ArtifactRegistry {
      * @return Selected artifact, or null if none available
      */
     public static UniqueArtifact selectRandomArtifact(int depth) {
-        List<UniqueArtifact> available = getArtifactsForDepth(depth);
-        if (available.isEmpty()) {
-            return null;
-        }
-
-        // Calculate total weight
-        double totalWeight = available.stream()
-            .mapToDouble(UniqueArtifact::getSpawnWeight)
-            .sum();
-
-        // Weighted random selection
-        double roll = RANDOM.nextDouble() * totalWeight;
-        double cumulative = 0.0;
-
-        for (UniqueArtifact artifact : available) {
-            cumulative += artifact.getSpawnWeight();
-            if (roll < cumulative) {
-                return artifact;
-            }
-        }
+        return selectRandomArtifact(depth, ARTIFACT_STREAM.get());
+    }
 
-        return available.get(available.size() - 1); // Fallback
+    /**
+     * Weighted artifact selection from a specific random stream
+     */
+    public static UniqueArtifact selectRandomArtifact(int depth, WastelandRandom random) {
+        Bands current = bands();
+        int band = current.bandFor(depth);
+        return band >= 0 ? current.tables.get(band).sample(random) : null;
     }
 
     /**
      * Mark an artifact as spawned (prevents duplicates)
      */
     public static void markAsSpawned(String artifactId) {
-        spawnedArtifacts.add(artifactId);
+        tryMarkAsSpawned(artifactId);
+    }
+
+    /**
+     * Claim an artifact for spawning (thread-safe)
+     * @return false if it had already been spawned, in which case it must not be handed out
+     */
+    public static boolean tryMarkAsSpawned(String artifactId) {
+        if (!spawnedArtifacts.add(artifactId)) {
+            return false;
+        }
+        generation.incrementAndGet();
         LOGGER.info("Unique artifact spawned: {}", artifactId);
+        return true;
+    }
+
+    /**
+     * Release a claim made with tryMarkAsSpawned whose item never made it into the world
+     */
+    public static void unmarkSpawned(String artifactId) {
+        if (spawnedArtifacts.remove(artifactId)) {
+            generation.incrementAndGet();
+            LOGGER.info("Unique artifact released: {}", artifactId);
+        }
     }
 
     /**
@@ -524,6 +575,7 @@ public class ArtifactRegistry {
      */
     public static void resetSpawnedArtifacts() {
         spawnedArtifacts.clear();
+        generation.incrementAndGet();
         LOGGER.info("Reset spawned artifacts");
     }
 
@@ -540,4 +592,44 @@ public class ArtifactRegistry {
     public static int getTotalCount() {
         return ARTIFACTS.size();
     }
+
+    /**
+     * Current band tables, rebuilt if the registry or spawned set changed
+     */
+    private static Bands bands() {
+        int wanted = generation.get();
+        Bands current = bands;
+        if (current == null || current.generation != wanted) {
+            // The generation is read before the spawned set, so a change during the build
+            // leaves the new tables stale; a stale publish is caught by the next read
+            current = buildBands(wanted);
+            if (generation.get() == wanted) {
+                bands = current;
+            }
+        }
+        return current;
+    }
+
+    private static Bands buildBands(int builtGeneration) {
+        int[] minDepths = ARTIFACTS.values().stream()
+            .mapToInt(UniqueArtifact::getMinDepth)
+            .distinct()
+            .sorted()
+            .toArray();
+        Bands built = new Bands(builtGeneration, minDepths);
+
+        for (int minDepth : minDepths) {
+            List<UniqueArtifact> available = new ArrayList<>();
+            for (UniqueArtifact artifact : ARTIFACTS.values()) {
+                if (artifact.getMinDepth() <= minDepth && !spawnedArtifacts.contains(artifact.getId())) {
+                    available.add(artifact);
+                }
+            }
+            built.available.add(Collections.unmodifiableList(available));
+            built.tables.add(WeightedTable.of(available, UniqueArtifact::getSpawnWeight));
+        }
+
+        LOGGER.debug("Rebuilt artifact tables for {} depth bands ({} spawned)", minDepths.length, spawnedArtifacts.size());
+        return built;
+    }
 }
@@ -0,0 +1,45 @@
+package com.wasteland.loot;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import java.util.List;
+
+/**
+ * A container placed in a vault that gets chest loot (see LootGenerator.fillChests).
+ *
+ * Loot for a site is rolled from the batch seed and the site's position, so a chest
+ * gets the same items whatever order the vault lists its chests in.
+ */
+public final class ChestSite {
+    private final BlockPos pos;
+
+    public ChestSite(BlockPos pos) {
+        this.pos = pos.immutable();
+    }
+
+    public BlockPos getPos() {
+        return pos;
+    }
+
+    /**
+     * Put rolled items into the container at this site (main thread only)
+     * @return false if there is no container here any more
+     */
+    public boolean place(ServerLevel level, List<ItemStack> items) {
+        BlockEntity blockEntity = level.getBlockEntity(pos);
+        if (!(blockEntity instanceof Container container)) {
+            return false;
+        }
+
+        int slots = Math.min(items.size(), container.getContainerSize());
+        for (int slot = 0; slot < slots; slot++) {
+            container.setItem(slot, items.get(slot));
+        }
+        container.setChanged();
+        return true;
+    }
+}
@@ -0,0 +1,287 @@
+package com.wasteland.loot;
+
+import com.google.gson.Gson;
+import com.wasteland.WeightedTable;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Chest loot odds from a loot table JSON file, compiled into flat lookups.
+ *
+ * Everything that depends on depth (tier, unique chance, rarity upgrade rolls) is
+ * precomputed per depth level, per-tier counts are arrays indexed by tier, and every
+ * weighted choice is an alias table, so a roll never parses, searches or allocates
+ * beyond the ItemStack it produces. Immutable, so it can be read from worker threads.
+ */
+public final class CompiledLootTable {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MIN_DEPTH_SPAN = 30; // Per-depth lookups cover at least the dungeon's levels
+
+    /**
+     * Kind of item a loot roll produces
+     */
+    enum Category {
+        WEAPON,
+        ARMOR,
+        CONSUMABLE, // Potions/scrolls/food
+        TREASURE    // Gold/gems
+    }
+
+    /**
+     * A plain stack drop: base count plus 0..extra-1 more, or a share of the tier's treasure amount
+     */
+    static final class StackDrop {
+        private final Item item;
+        private final int count;
+        private final int extra;
+        private final int amountDivisor;
+
+        StackDrop(Item item, int count, int extra, int amountDivisor) {
+            this.item = item;
+            this.count = count;
+            this.extra = extra;
+            this.amountDivisor = amountDivisor;
+        }
+
+        ItemStack create(int treasureAmount, RandomGenerator random) {
+            if (amountDivisor > 0) {
+                return new ItemStack(item, treasureAmount / amountDivisor);
+            }
+            return new ItemStack(item, count + (extra > 0 ? random.nextInt(extra) : 0));
+        }
+    }
+
+    /**
+     * Table that rolls nothing (used when the JSON file is missing or invalid)
+     */
+    static final CompiledLootTable EMPTY = new CompiledLootTable(
+        new LootGenerator.LootTier[] { LootGenerator.LootTier.EARLY }, new double[1], new int[1], 0,
+        new int[LootGenerator.LootTier.values().length], new int[LootGenerator.LootTier.values().length],
+        new int[LootGenerator.LootTier.values().length], new int[LootGenerator.LootTier.values().length],
+        WeightedTable.empty(), WeightedTable.empty(), WeightedTable.empty());
+
+    // Indexed by depth (depths past the end use the last entry)
+    private final LootGenerator.LootTier[] tierAt;
+    private final double[] uniqueChanceAt;
+    private final int[] rarityUpgradesAt;
+    private final double rarityUpgradeChance;
+
+    // Indexed by tier ordinal
+    private final int[] minItems;
+    private final int[] maxItems;
+    private final int[] treasureBase;
+    private final int[] treasureExtra;
+
+    private final WeightedTable<Category> categories;
+    private final WeightedTable<StackDrop> consumables;
+    private final WeightedTable<StackDrop> treasures;
+    private final Set<Item> consumableItems = new HashSet<>();
+
+    private CompiledLootTable(LootGenerator.LootTier[] tierAt, double[] uniqueChanceAt, int[] rarityUpgradesAt,
+                              double rarityUpgradeChance, int[] minItems, int[] maxItems,
+                              int[] treasureBase, int[] treasureExtra, WeightedTable<Category> categories,
+                              WeightedTable<StackDrop> consumables, WeightedTable<StackDrop> treasures) {
+        this.tierAt = tierAt;
+        this.uniqueChanceAt = uniqueChanceAt;
+        this.rarityUpgradesAt = rarityUpgradesAt;
+        this.rarityUpgradeChance = rarityUpgradeChance;
+        this.minItems = minItems;
+        this.maxItems = maxItems;
+        this.treasureBase = treasureBase;
+        this.treasureExtra = treasureExtra;
+        this.categories = categories;
+        this.consumables = consumables;
+        this.treasures = treasures;
+        for (StackDrop drop : consumables.getItems()) {
+            consumableItems.add(drop.item);
+        }
+    }
+
+    // ===== Loading =====
+
+    /**
+     * Load and compile a loot table from a resource path (e.g. "loot/chest_loot.json")
+     * @return The compiled table, or a table that rolls nothing if the file is missing or invalid
+     */
+    public static CompiledLootTable load(String path) {
+        try (InputStream stream = CompiledLootTable.class.getClassLoader().getResourceAsStream(path)) {
+            if (stream == null) {
+                LOGGER.error("Loot table not found: {} (chests will be empty)", path);
+                return EMPTY;
+            }
+
+            LootTableData data = new Gson().fromJson(new InputStreamReader(stream, StandardCharsets.UTF_8), LootTableData.class);
+            CompiledLootTable table = compile(data);
+            LOGGER.info("Compiled loot table {}: {} tiers, {} consumables, {} treasures",
+                       path, data.tiers.size(), table.consumables.size(), table.treasures.size());
+            return table;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to load loot table {}: {} (chests will be empty)", path, e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Compile parsed loot table data
+     * @throws IllegalArgumentException if the data names an unknown tier or item, or has no tiers
+     */
+    public static CompiledLootTable compile(LootTableData data) {
+        if (data == null || data.tiers == null || data.tiers.isEmpty()) {
+            throw new IllegalArgumentException("Loot table has no tiers");
+        }
+
+        int tierCount = LootGenerator.LootTier.values().length;
+        int[] minItems = new int[tierCount];
+        int[] maxItems = new int[tierCount];
+        int[] treasureBase = new int[tierCount];
+        int[] treasureExtra = new int[tierCount];
+
+        List<LootTableData.Tier> tiers = new ArrayList<>(data.tiers);
+        tiers.sort(Comparator.comparingInt(tier -> tier.max_depth));
+        for (LootTableData.Tier tier : tiers) {
+            int ordinal = LootGenerator.LootTier.valueOf(tier.tier).ordinal();
+            minItems[ordinal] = Math.max(0, tier.min_items);
+            maxItems[ordinal] = Math.max(minItems[ordinal], tier.max_items);
+            treasureBase[ordinal] = tier.treasure_base;
+            treasureExtra[ordinal] = tier.treasure_extra;
+        }
+
+        // Depth lookups: first tier whose range covers the depth, the last tier beyond that
+        int span = Math.max(MIN_DEPTH_SPAN, tiers.get(tiers.size() - 1).max_depth);
+        LootGenerator.LootTier[] tierAt = new LootGenerator.LootTier[span + 1];
+        double[] uniqueChanceAt = new double[span + 1];
+        int[] rarityUpgradesAt = new int[span + 1];
+        int tierIndex = 0;
+        for (int depth = 0; depth <= span; depth++) {
+            while (tierIndex < tiers.size() - 1 && depth > tiers.get(tierIndex).max_depth) {
+                tierIndex++;
+            }
+            tierAt[depth] = LootGenerator.LootTier.valueOf(tiers.get(tierIndex).tier);
+
+            if (data.unique_chance != null) {
+                LootTableData.UniqueChance unique = data.unique_chance;
+                uniqueChanceAt[depth] = Math.min(unique.base + depth * unique.per_depth, unique.max);
+            }
+            if (data.rarity_upgrade != null && data.rarity_upgrade.depth_step > 0) {
+                rarityUpgradesAt[depth] = depth / data.rarity_upgrade.depth_step;
+            }
+        }
+
+        WeightedTable.Builder<Category> categories = new WeightedTable.Builder<>();
+        if (data.categories != null) {
+            for (Map.Entry<String, Double> entry : data.categories.entrySet()) {
+                categories.add(Category.valueOf(entry.getKey().toUpperCase(Locale.ROOT)), entry.getValue());
+            }
+        }
+
+        return new CompiledLootTable(tierAt, uniqueChanceAt, rarityUpgradesAt,
+            data.rarity_upgrade != null ? data.rarity_upgrade.chance : 0,
+            minItems, maxItems, treasureBase, treasureExtra, categories.build(),
+            compileDrops(data.consumables), compileDrops(data.treasure));
+    }
+
+    private static WeightedTable<StackDrop> compileDrops(List<LootTableData.Drop> drops) {
+        WeightedTable.Builder<StackDrop> table = new WeightedTable.Builder<>();
+        if (drops != null) {
+            for (LootTableData.Drop drop : drops) {
+                Item item = BuiltInRegistries.ITEM.getOptional(new ResourceLocation(drop.item))
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown loot item: " + drop.item));
+                table.add(new StackDrop(item, drop.count, drop.extra, drop.amount_divisor), drop.weight);
+            }
+        }
+        return table.build();
+    }
+
+    // ===== Lookups =====
+
+    private int depthIndex(int depth) {
+        return Math.max(0, Math.min(depth, tierAt.length - 1));
+    }
+
+    public LootGenerator.LootTier getTier(int depth) {
+        return tierAt[depthIndex(depth)];
+    }
+
+    public int getMinItems(LootGenerator.LootTier tier) {
+        return minItems[tier.ordinal()];
+    }
+
+    public int getMaxItems(LootGenerator.LootTier tier) {
+        return maxItems[tier.ordinal()];
+    }
+
+    /**
+     * Chance that a weapon or armor roll tries for a unique artifact
+     */
+    public double getUniqueChance(int depth) {
+        return uniqueChanceAt[depthIndex(depth)];
+    }
+
+    /**
+     * Number of rarity upgrade rolls at a depth
+     */
+    public int getRarityUpgrades(int depth) {
+        return rarityUpgradesAt[depthIndex(depth)];
+    }
+
+    public double getRarityUpgradeChance() {
+        return rarityUpgradeChance;
+    }
+
+    // ===== Rolls =====
+
+    /**
+     * Number of items in a chest at a depth
+     */
+    int rollItemCount(int depth, RandomGenerator random) {
+        LootGenerator.LootTier tier = getTier(depth);
+        int min = minItems[tier.ordinal()];
+        return min + random.nextInt(maxItems[tier.ordinal()] - min + 1);
+    }
+
+    /**
+     * Kind of item to generate (null if the table has no categories)
+     */
+    Category rollCategory(RandomGenerator random) {
+        return categories.sample(random);
+    }
+
+    /**
+     * Whether an item is one of the table's consumable drops
+     */
+    public boolean isConsumable(Item item) {
+        return consumableItems.contains(item);
+    }
+
+    ItemStack rollConsumable(RandomGenerator random) {
+        StackDrop drop = consumables.sample(random);
+        return drop != null ? drop.create(0, random) : ItemStack.EMPTY;
+    }
+
+    /**
+     * Treasure stack; the amount scales with the depth's tier
+     */
+    ItemStack rollTreasure(int depth, RandomGenerator random) {
+        int tier = getTier(depth).ordinal();
+        int amount = treasureBase[tier] + (treasureExtra[tier] > 0 ? random.nextInt(treasureExtra[tier]) : 0);
+        StackDrop drop = treasures.sample(random);
+        return drop != null ? drop.create(amount, random) : ItemStack.EMPTY;
+    }
+}
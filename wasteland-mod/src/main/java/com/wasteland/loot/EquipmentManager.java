@@ -1,5 +1,6 @@
 package com.wasteland.loot;
 
+import com.wasteland.player.PlayerStateStore;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
@@ -7,7 +8,6 @@ import net.minecraft.world.item.ItemStack;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -19,10 +19,10 @@ public class EquipmentManager {
     private static final Logger LOGGER = LogManager.getLogger();
     private static EquipmentManager instance;
 
-    private final Map<UUID, PlayerEquipment> playerEquipment;
+    private final PlayerStateStore<PlayerEquipment> playerEquipment;
 
     private EquipmentManager() {
-        this.playerEquipment = new HashMap<>();
+        this.playerEquipment = PlayerStateStore.shared("equipment");
     }
 
     public static EquipmentManager getInstance() {
@@ -129,7 +129,7 @@ public class EquipmentManager {
             com.wasteland.character.CharacterManager.getCharacter(playerId);
         if (character == null) return 0;
 
-        return getEquipment(playerId).getTotalAC(character);
+        return character.getDerivedStats().getArmorClass();
     }
 
     /**
@@ -147,7 +147,7 @@ public class EquipmentManager {
             com.wasteland.character.CharacterManager.getCharacter(playerId);
         if (character == null) return 0;
 
-        return getEquipment(playerId).getTotalEVModifier(character);
+        return character.getDerivedStats().getEvasionModifier();
     }
 
     /**
@@ -178,6 +178,17 @@ public class EquipmentManager {
                     playerId, statBonuses[0], statBonuses[1], statBonuses[2]);
     }
 
+    /**
+     * Make a character re-resolve its equipment on the next stat read
+     */
+    private void invalidateDerivedStats(UUID playerId) {
+        com.wasteland.character.PlayerCharacter character =
+            com.wasteland.character.CharacterManager.getCharacter(playerId);
+        if (character != null) {
+            character.invalidateDerivedStats();
+        }
+    }
+
     /**
      * Save player equipment to NBT
      * Called when player data is saved
@@ -214,6 +225,7 @@ public class EquipmentManager {
      */
     public void removePlayer(UUID playerId) {
         playerEquipment.remove(playerId);
+        invalidateDerivedStats(playerId);
         LOGGER.debug("Removed equipment data for player {}", playerId);
     }
 
@@ -221,6 +233,9 @@ public class EquipmentManager {
      * Clear all equipment data (for server shutdown)
      */
     public void clearAll() {
+        for (UUID playerId : playerEquipment.keySet()) {
+            invalidateDerivedStats(playerId);
+        }
         playerEquipment.clear();
         LOGGER.info("Cleared all equipment data");
     }
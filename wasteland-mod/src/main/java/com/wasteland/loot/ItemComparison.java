@@ -32,13 +32,17 @@ public class ItemComparison {
 
         // Get currently equipped item in that slot
         ItemStack equipped = EquipmentManager.getEquipped(player, targetSlot);
-        if (equipped.isEmpty()) {
-            // No equipped item to compare to
-            return getEquipMessage(hovered, targetSlot);
-        }
 
-        // Generate comparison
-        return compareItems(hovered, equipped, targetSlot);
+        // Lines are cached per hovered/equipped stack state, so hovering doesn't rebuild them every frame
+        return ItemViewCache.getComparison(hovered, equipped, () -> {
+            if (equipped.isEmpty()) {
+                // No equipped item to compare to
+                return getEquipMessage(hovered, targetSlot);
+            }
+
+            // Generate comparison
+            return compareItems(hovered, equipped, targetSlot);
+        });
     }
 
     /**
@@ -51,14 +55,14 @@ public class ItemComparison {
             .withStyle(ChatFormatting.YELLOW));
 
         // Show stats that would be gained
-        WastelandWeapon weapon = WastelandWeaponItem.createWeapon(item);
+        WastelandWeapon weapon = ItemViewCache.getWeapon(item);
         if (weapon != null) {
             int damage = weapon.getWeaponType().getBaseDamage() + weapon.getEnchantmentLevel();
             lines.add(Component.literal("  Damage: +" + damage)
                 .withStyle(ChatFormatting.GREEN));
         }
 
-        WastelandArmor armor = WastelandArmorItem.createArmor(item);
+        WastelandArmor armor = ItemViewCache.getArmor(item);
         if (armor != null) {
             int ac = armor.getArmorType().getBaseAC() + armor.getEnchantmentLevel();
             int ev = armor.getArmorType().getBaseEVPenalty();
@@ -99,8 +103,8 @@ public class ItemComparison {
      * Compare weapon stats
      */
     private static void compareWeapons(List<Component> lines, ItemStack newItem, ItemStack oldItem) {
-        WastelandWeapon newWeapon = WastelandWeaponItem.createWeapon(newItem);
-        WastelandWeapon oldWeapon = WastelandWeaponItem.createWeapon(oldItem);
+        WastelandWeapon newWeapon = ItemViewCache.getWeapon(newItem);
+        WastelandWeapon oldWeapon = ItemViewCache.getWeapon(oldItem);
 
         if (newWeapon == null || oldWeapon == null) return;
 
@@ -134,8 +138,8 @@ public class ItemComparison {
      * Compare armor stats
      */
     private static void compareArmor(List<Component> lines, ItemStack newItem, ItemStack oldItem) {
-        WastelandArmor newArmor = WastelandArmorItem.createArmor(newItem);
-        WastelandArmor oldArmor = WastelandArmorItem.createArmor(oldItem);
+        WastelandArmor newArmor = ItemViewCache.getArmor(newItem);
+        WastelandArmor oldArmor = ItemViewCache.getArmor(oldItem);
 
         if (newArmor == null || oldArmor == null) return;
 
@@ -0,0 +1,145 @@
+package com.wasteland.loot;
+
+import com.wasteland.item.WastelandArmorItem;
+import com.wasteland.item.WastelandWeaponItem;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Decoded views of Wasteland item stacks, with their tooltip and comparison lines.
+ *
+ * Item rendering asks for rarity and foil every frame and a hovered tooltip decodes both
+ * the hovered and the equipped stack, so decoding NBT on every call allocates heavily on
+ * screens full of Wasteland items. Each stack's view is decoded once and kept until the
+ * stack's tag is replaced or its contents change (checked by tag identity and hash).
+ *
+ * Entries are held weakly by stack: ItemStack has identity equality, so the WeakHashMap is
+ * effectively an identity map. Views are decoded from a private copy of the stack (a view
+ * referencing its own key would never be collected) and are shared, so treat them as
+ * read-only; use createWeapon / createArmor on the item classes to change a stack.
+ */
+public final class ItemViewCache {
+    private static final Map<ItemStack, Entry> ENTRIES = new WeakHashMap<>();
+
+    /**
+     * Decoded state of one stack at one tag state
+     */
+    private static final class Entry {
+        final CompoundTag tag;
+        final int tagHash;
+        final WastelandItem view; // null for non-Wasteland items
+        List<Component> tooltip;
+
+        // Last comparison, and the equipped stack state it was built against
+        List<Component> comparison;
+        WeakReference<ItemStack> comparedTo;
+        CompoundTag comparedTag;
+        int comparedHash;
+
+        Entry(CompoundTag tag, int tagHash, WastelandItem view) {
+            this.tag = tag;
+            this.tagHash = tagHash;
+            this.view = view;
+        }
+    }
+
+    private ItemViewCache() {
+    }
+
+    /**
+     * Shared weapon view of a stack (null if it is not a Wasteland weapon)
+     */
+    public static synchronized WastelandWeapon getWeapon(ItemStack stack) {
+        return !stack.isEmpty() && entry(stack).view instanceof WastelandWeapon weapon ? weapon : null;
+    }
+
+    /**
+     * Shared armor view of a stack (null if it is not Wasteland armor)
+     */
+    public static synchronized WastelandArmor getArmor(ItemStack stack) {
+        return !stack.isEmpty() && entry(stack).view instanceof WastelandArmor armor ? armor : null;
+    }
+
+    /**
+     * Tooltip lines of a Wasteland item (WastelandItem.getTooltip as components), or null for other items
+     */
+    public static synchronized List<Component> getTooltip(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return null;
+        }
+        Entry entry = entry(stack);
+        if (entry.view == null) {
+            return null;
+        }
+        if (entry.tooltip == null) {
+            List<String> lines = entry.view.getTooltip();
+            List<Component> components = new ArrayList<>(lines.size());
+            for (String line : lines) {
+                components.add(Component.literal(line));
+            }
+            entry.tooltip = Collections.unmodifiableList(components);
+        }
+        return entry.tooltip;
+    }
+
+    /**
+     * Comparison lines of a stack against an equipped stack, rebuilt only when either one changes
+     * @param builder Builds the lines (may return null)
+     */
+    public static synchronized List<Component> getComparison(ItemStack hovered, ItemStack equipped,
+                                                             Supplier<List<Component>> builder) {
+        Entry entry = entry(hovered);
+        CompoundTag equippedTag = equipped.getTag();
+        int equippedHash = hash(equippedTag);
+
+        boolean stale = entry.comparedTo == null
+            || entry.comparedTo.get() != equipped
+            || entry.comparedTag != equippedTag
+            || entry.comparedHash != equippedHash;
+        if (stale) {
+            List<Component> lines = builder.get();
+            entry.comparison = lines != null ? Collections.unmodifiableList(lines) : null;
+            entry.comparedTo = new WeakReference<>(equipped);
+            entry.comparedTag = equippedTag;
+            entry.comparedHash = equippedHash;
+        }
+        return entry.comparison;
+    }
+
+    /**
+     * Current entry of a stack, decoding it again if its tag changed
+     */
+    private static Entry entry(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        int tagHash = hash(tag);
+        Entry entry = ENTRIES.get(stack);
+        if (entry == null || entry.tag != tag || entry.tagHash != tagHash) {
+            entry = new Entry(tag, tagHash, decode(stack));
+            ENTRIES.put(stack, entry);
+        }
+        return entry;
+    }
+
+    private static WastelandItem decode(ItemStack stack) {
+        if (stack.getItem() instanceof WastelandWeaponItem) {
+            return WastelandWeaponItem.createWeapon(stack.copy());
+        }
+        if (stack.getItem() instanceof WastelandArmorItem) {
+            return WastelandArmorItem.createArmor(stack.copy());
+        }
+        return null;
+    }
+
+    private static int hash(CompoundTag tag) {
+        return tag != null ? tag.hashCode() : 0;
+    }
+}
@@ -1,5 +1,9 @@
 package com.wasteland.loot;
 
+import com.wasteland.WastelandRandom;
+import net.minecraft.Util;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import com.wasteland.equipment.WeaponType;
@@ -7,130 +11,325 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Generates loot for dungeon chests based on depth/tier.
  * Implements DCSS-style loot distribution with depth-based quality scaling.
+ *
+ * Chest odds come from loot/chest_loot.json, compiled once into a CompiledLootTable.
+ * A vault's chests are rolled together with fillChests, from one seed, and can be
+ * rolled on a worker thread with the items handed back to the server thread.
  */
 public class LootGenerator {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Random RANDOM = new Random();
+    private static final WastelandRandom.Stream LOOT_STREAM = WastelandRandom.stream("loot");
+    private static final String CHEST_TABLE_PATH = "loot/chest_loot.json";
+
+    // Compiled chest odds; loaded at setup (or on first use)
+    private static volatile CompiledLootTable chestTable;
+
+    // Properties random rare+ items can roll
+    private static final ArtifactProperty[] NON_CURSE_PROPERTIES = Arrays.stream(ArtifactProperty.values())
+        .filter(prop -> !prop.isCurse())
+        .toArray(ArtifactProperty[]::new);
 
     /**
-     * Loot tier determines quality and quantity of loot
+     * Loot tier determines quality and quantity of loot (depth ranges and item counts are in the loot table)
      */
     public enum LootTier {
-        EARLY(1, 3),      // Depth 1-5: Mostly common/uncommon
-        MID(4, 7),        // Depth 6-12: Uncommon/rare
-        LATE(6, 10),      // Depth 13-20: Rare/epic
-        END_GAME(8, 12);  // Depth 21+: Epic/legendary/artifacts
-
-        private final int minItems;
-        private final int maxItems;
-
-        LootTier(int minItems, int maxItems) {
-            this.minItems = minItems;
-            this.maxItems = maxItems;
-        }
+        EARLY,      // Mostly common/uncommon
+        MID,        // Uncommon/rare
+        LATE,       // Rare/epic
+        END_GAME;   // Epic/legendary/artifacts
 
         public int getMinItems() {
-            return minItems;
+            return chestTable().getMinItems(this);
         }
 
         public int getMaxItems() {
-            return maxItems;
+            return chestTable().getMaxItems(this);
         }
 
         /**
          * Get loot tier based on dungeon depth
          */
         public static LootTier fromDepth(int depth) {
-            if (depth <= 5) return EARLY;
-            if (depth <= 12) return MID;
-            if (depth <= 20) return LATE;
-            return END_GAME;
+            return chestTable().getTier(depth);
         }
     }
 
+    /**
+     * Load (or reload) the chest loot table
+     */
+    public static void loadTables() {
+        chestTable = CompiledLootTable.load(CHEST_TABLE_PATH);
+    }
+
+    /**
+     * Compiled chest loot table
+     */
+    public static CompiledLootTable chestTable() {
+        CompiledLootTable table = chestTable;
+        if (table == null) {
+            loadTables();
+            table = chestTable;
+        }
+        return table;
+    }
+
     /**
      * Generate loot for a chest at a specific depth
      * @param depth Dungeon depth (1-30)
      * @return List of ItemStacks to place in chest
      */
     public static List<ItemStack> generateChestLoot(int depth) {
-        LootTier tier = LootTier.fromDepth(depth);
-        int itemCount = tier.getMinItems() + RANDOM.nextInt(tier.getMaxItems() - tier.getMinItems() + 1);
+        return generateChestLoot(depth, LOOT_STREAM.get());
+    }
 
-        List<ItemStack> loot = new ArrayList<>();
+    /**
+     * Generate loot for a chest from a specific random stream (e.g. a dungeon floor's)
+     */
+    public static List<ItemStack> generateChestLoot(int depth, WastelandRandom random) {
+        return generateChestLoot(depth, random, new Claims(false));
+    }
+
+    /**
+     * Generate chest loot without marking unique artifacts as spawned (for the loot benchmark)
+     */
+    public static List<ItemStack> generateChestLootDetached(int depth, WastelandRandom random) {
+        return generateChestLoot(depth, random, new Claims(true));
+    }
+
+    private static List<ItemStack> generateChestLoot(int depth, WastelandRandom random, Claims claims) {
+        int itemCount = chestTable().rollItemCount(depth, random);
+
+        List<ItemStack> loot = new ArrayList<>(itemCount);
 
         for (int i = 0; i < itemCount; i++) {
-            ItemStack item = generateSingleItem(depth, tier);
+            ItemStack item = generateSingleItem(depth, random, claims);
             if (!item.isEmpty()) {
                 loot.add(item);
             }
         }
 
-        LOGGER.debug("Generated {} items for depth {} ({} tier)", loot.size(), depth, tier);
+        LOGGER.debug("Generated {} items for depth {} ({} tier)", loot.size(), depth, LootTier.fromDepth(depth));
         return loot;
     }
 
+    // ===== Bulk chest filling =====
+
+    /**
+     * Unique artifacts rolled for one chest: claimed in the registry, or for a detached
+     * roll only recorded here. Registry claims can be released if the chest is never placed.
+     */
+    private static final class Claims {
+        final boolean detached;
+        final Set<String> ids = new HashSet<>();
+
+        Claims(boolean detached) {
+            this.detached = detached;
+        }
+
+        /**
+         * Claim a unique for this chest (false if it was already handed out)
+         */
+        boolean claim(String artifactId) {
+            if (detached) {
+                return ids.add(artifactId);
+            }
+            if (!ArtifactRegistry.tryMarkAsSpawned(artifactId)) {
+                return false;
+            }
+            ids.add(artifactId);
+            return true;
+        }
+
+        /**
+         * Give this chest's registry claims back, so the uniques can drop again
+         */
+        void release() {
+            if (!detached) {
+                for (String artifactId : ids) {
+                    ArtifactRegistry.unmarkSpawned(artifactId);
+                }
+            }
+            ids.clear();
+        }
+
+        /**
+         * Keep this chest's claims for good (its loot is in the world)
+         */
+        void settle() {
+            ids.clear();
+        }
+    }
+
+    /**
+     * Rolled loot of a chest batch with each chest's unique claims, in site order
+     */
+    private static final class Batch {
+        final List<List<ItemStack>> loot;
+        final List<Claims> claims;
+
+        Batch(int size) {
+            this.loot = new ArrayList<>(size);
+            this.claims = new ArrayList<>(size);
+        }
+
+        /**
+         * Release the claims of every chest not yet placed
+         */
+        void releaseAll() {
+            for (Claims chest : claims) {
+                chest.release();
+            }
+        }
+    }
+
+    /**
+     * Roll the loot of every chest in a vault in one pass
+     * @param seed Batch seed (e.g. from the dungeon floor's random stream)
+     * @return Items for each site, in the same order as the sites
+     */
+    public static List<List<ItemStack>> fillChests(List<ChestSite> sites, int depth, long seed) {
+        return rollChests(sites, depth, seed).loot;
+    }
+
+    /**
+     * Roll a vault's chests on a worker thread, then put the items in the chests on the server thread
+     */
+    public static CompletableFuture<Void> fillChestsAsync(ServerLevel level, List<ChestSite> sites, int depth, long seed) {
+        List<ChestSite> batch = List.copyOf(sites);
+
+        // Uniques are claimed in the registry by the worker as they are rolled, and released
+        // again for any chest that never gets its loot
+        CompletableFuture<Batch> rolled = CompletableFuture.supplyAsync(() -> rollChests(batch, depth, seed),
+            Util.backgroundExecutor());
+        return rolled
+            .thenAcceptAsync(rolledBatch -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!batch.get(i).place(level, rolledBatch.loot.get(i))) {
+                        LOGGER.warn("No container left at {} for its loot", batch.get(i).getPos());
+                        rolledBatch.claims.get(i).release();
+                    } else {
+                        rolledBatch.claims.get(i).settle();
+                    }
+                }
+            }, level.getServer())
+            .exceptionally(e -> {
+                LOGGER.error("Failed to fill {} chests at depth {}: {}", batch.size(), depth, e.getMessage());
+                Batch rolledBatch = rolled.getNow(null);
+                if (rolledBatch != null) {
+                    rolledBatch.releaseAll();
+                }
+                return null;
+            });
+    }
+
+    /**
+     * Roll a vault's chests on a worker thread from the shared loot stream
+     */
+    public static CompletableFuture<Void> fillChestsAsync(ServerLevel level, List<ChestSite> sites, int depth) {
+        return fillChestsAsync(level, sites, depth, LOOT_STREAM.get().nextLong());
+    }
+
+    private static Batch rollChests(List<ChestSite> sites, int depth, long seed) {
+        WastelandRandom batchRandom = new WastelandRandom(seed);
+        Batch batch = new Batch(sites.size());
+        int itemCount = 0;
+
+        try {
+            for (ChestSite site : sites) {
+                // Per-site stream, so a chest's loot does not depend on the order of the sites
+                Claims claims = new Claims(false);
+                batch.claims.add(claims);
+                List<ItemStack> chest = generateChestLoot(depth, batchRandom.derive(site.getPos().asLong()), claims);
+                batch.loot.add(chest);
+                itemCount += chest.size();
+            }
+        } catch (RuntimeException e) {
+            batch.releaseAll(); // Nothing from a failed roll reaches a chest
+            throw e;
+        }
+
+        LOGGER.debug("Filled {} chests with {} items for depth {}", sites.size(), itemCount, depth);
+        return batch;
+    }
+
+    // ===== Single items =====
+
     /**
      * Generate a single loot item
      */
-    private static ItemStack generateSingleItem(int depth, LootTier tier) {
-        // Determine item type
-        int typeRoll = RANDOM.nextInt(100);
-
-        if (typeRoll < 40) {
-            // 40% weapon
-            return generateWeapon(depth, tier);
-        } else if (typeRoll < 75) {
-            // 35% armor
-            return generateArmor(depth, tier);
-        } else if (typeRoll < 90) {
-            // 15% consumable (potions/scrolls)
-            return generateConsumable(depth, tier);
-        } else {
-            // 10% gold/gems
-            return generateTreasure(depth, tier);
+    private static ItemStack generateSingleItem(int depth, WastelandRandom random, Claims claims) {
+        CompiledLootTable.Category category = chestTable().rollCategory(random);
+        if (category == null) {
+            return ItemStack.EMPTY;
         }
+        return switch (category) {
+            case WEAPON -> generateWeapon(depth, random, claims);
+            case ARMOR -> generateArmor(depth, random, claims);
+            case CONSUMABLE -> generateConsumable(random);
+            case TREASURE -> generateTreasure(depth, random);
+        };
+    }
+
+    /**
+     * Small chance for a unique artifact of a type (increases with depth)
+     * @return The artifact item, or an empty stack if none was rolled
+     */
+    private static ItemStack generateUniqueArtifact(int depth, UniqueArtifact.ArtifactType type, Item baseItem,
+                                                    WastelandRandom random, Claims claims) {
+        if (random.nextDouble() >= chestTable().getUniqueChance(depth)) {
+            return ItemStack.EMPTY;
+        }
+        UniqueArtifact artifact = ArtifactRegistry.selectRandomArtifact(depth, random);
+        if (artifact == null || artifact.getType() != type) {
+            return ItemStack.EMPTY;
+        }
+        // Claim before generating: the table may predate a spawn on another thread
+        if (!claims.claim(artifact.getId())) {
+            return ItemStack.EMPTY; // Already spawned elsewhere
+        }
+
+        ItemStack uniqueItem = artifact.generate(new ItemStack(baseItem));
+        LOGGER.info("Generated unique artifact {}: {}", type == UniqueArtifact.ArtifactType.WEAPON ? "weapon" : "armor",
+                   artifact.getDisplayName());
+        return uniqueItem;
     }
 
     /**
      * Generate a weapon with appropriate rarity for depth
      */
-    private static ItemStack generateWeapon(int depth, LootTier tier) {
-        // Small chance for unique artifact (increases with depth)
-        double uniqueChance = Math.min(0.02 + (depth * 0.001), 0.08); // 2-8% chance
-        if (RANDOM.nextDouble() < uniqueChance) {
-            UniqueArtifact artifact = ArtifactRegistry.selectRandomArtifact(depth);
-            if (artifact != null && artifact.getType() == UniqueArtifact.ArtifactType.WEAPON) {
-                ItemStack itemStack = new ItemStack(Items.IRON_SWORD);
-                ItemStack uniqueItem = artifact.generate(itemStack);
-                ArtifactRegistry.markAsSpawned(artifact.getId());
-                LOGGER.info("Generated unique artifact weapon: {}", artifact.getDisplayName());
-                return uniqueItem;
-            }
+    private static ItemStack generateWeapon(int depth, WastelandRandom random, Claims claims) {
+        ItemStack uniqueItem = generateUniqueArtifact(depth, UniqueArtifact.ArtifactType.WEAPON, Items.IRON_SWORD, random, claims);
+        if (!uniqueItem.isEmpty()) {
+            return uniqueItem;
         }
 
         // Get base item (iron sword as placeholder)
         ItemStack itemStack = new ItemStack(Items.IRON_SWORD);
 
         // Determine rarity based on depth
-        ItemRarity rarity = getDepthAppropriateRarity(depth);
+        ItemRarity rarity = getDepthAppropriateRarity(depth, random);
 
         // Get random weapon type
-        WeaponType weaponType = RandartGenerator.getRandomWeaponType();
+        WeaponType weaponType = RandartGenerator.getRandomWeaponType(random);
 
         // Generate enchantment level
-        int enchantment = RandartGenerator.getRandomEnchantment(rarity);
+        int enchantment = RandartGenerator.getRandomEnchantment(rarity, random);
 
         // Check if should upgrade to randart
-        if (RandartGenerator.shouldUpgradeToRandart(rarity)) {
+        if (RandartGenerator.shouldUpgradeToRandart(rarity, random)) {
             // Generate randart
-            WastelandWeapon weapon = RandartGenerator.generateWeapon(weaponType, itemStack);
+            WastelandWeapon weapon = RandartGenerator.generateWeapon(weaponType, itemStack, random);
             LOGGER.info("Generated randart weapon: {}", weapon.getCustomName());
             return weapon.getItemStack();
         } else {
@@ -139,7 +338,7 @@ public class LootGenerator {
 
             // Add artifact properties for rare+ items
             if (rarity.getArtifactPropertyCount() > 0) {
-                addRandomPropertiesForRarity(weapon, rarity);
+                addRandomPropertiesForRarity(weapon, rarity, random);
             }
 
             return weapon.getItemStack();
@@ -149,36 +348,28 @@ public class LootGenerator {
     /**
      * Generate armor with appropriate rarity for depth
      */
-    private static ItemStack generateArmor(int depth, LootTier tier) {
-        // Small chance for unique artifact (increases with depth)
-        double uniqueChance = Math.min(0.02 + (depth * 0.001), 0.08); // 2-8% chance
-        if (RANDOM.nextDouble() < uniqueChance) {
-            UniqueArtifact artifact = ArtifactRegistry.selectRandomArtifact(depth);
-            if (artifact != null && artifact.getType() == UniqueArtifact.ArtifactType.ARMOR) {
-                ItemStack itemStack = new ItemStack(Items.IRON_CHESTPLATE);
-                ItemStack uniqueItem = artifact.generate(itemStack);
-                ArtifactRegistry.markAsSpawned(artifact.getId());
-                LOGGER.info("Generated unique artifact armor: {}", artifact.getDisplayName());
-                return uniqueItem;
-            }
+    private static ItemStack generateArmor(int depth, WastelandRandom random, Claims claims) {
+        ItemStack uniqueItem = generateUniqueArtifact(depth, UniqueArtifact.ArtifactType.ARMOR, Items.IRON_CHESTPLATE, random, claims);
+        if (!uniqueItem.isEmpty()) {
+            return uniqueItem;
         }
 
         // Get base item (iron chestplate as placeholder)
         ItemStack itemStack = new ItemStack(Items.IRON_CHESTPLATE);
 
         // Determine rarity based on depth
-        ItemRarity rarity = getDepthAppropriateRarity(depth);
+        ItemRarity rarity = getDepthAppropriateRarity(depth, random);
 
         // Get random armor type
-        ArmorType armorType = RandartGenerator.getRandomArmorType();
+        ArmorType armorType = RandartGenerator.getRandomArmorType(random);
 
         // Generate enchantment level
-        int enchantment = RandartGenerator.getRandomEnchantment(rarity);
+        int enchantment = RandartGenerator.getRandomEnchantment(rarity, random);
 
         // Check if should upgrade to randart
-        if (RandartGenerator.shouldUpgradeToRandart(rarity)) {
+        if (RandartGenerator.shouldUpgradeToRandart(rarity, random)) {
             // Generate randart
-            WastelandArmor armor = RandartGenerator.generateArmor(armorType, itemStack);
+            WastelandArmor armor = RandartGenerator.generateArmor(armorType, itemStack, random);
             LOGGER.info("Generated randart armor: {}", armor.getCustomName());
             return armor.getItemStack();
         } else {
@@ -187,7 +378,7 @@ public class LootGenerator {
 
             // Add artifact properties for rare+ items
             if (rarity.getArtifactPropertyCount() > 0) {
-                addRandomPropertiesForRarity(armor, rarity);
+                addRandomPropertiesForRarity(armor, rarity, random);
             }
 
             return armor.getItemStack();
@@ -197,81 +388,51 @@ public class LootGenerator {
     /**
      * Add random properties to an item based on its rarity
      */
-    private static void addRandomPropertiesForRarity(WastelandItem item, ItemRarity rarity) {
+    private static void addRandomPropertiesForRarity(WastelandItem item, ItemRarity rarity, WastelandRandom random) {
         int propertyCount = rarity.getArtifactPropertyCount();
         if (propertyCount == 0) return;
 
         // Get all non-curse properties
-        List<ArtifactProperty> availableProps = new ArrayList<>();
-        for (ArtifactProperty prop : ArtifactProperty.values()) {
-            if (!prop.isCurse()) {
-                availableProps.add(prop);
-            }
-        }
+        List<ArtifactProperty> availableProps = new ArrayList<>(Arrays.asList(NON_CURSE_PROPERTIES));
 
-        // Add random properties
+        // Roll all properties, then write the item's NBT once
+        Map<ArtifactProperty, Integer> rolled = new EnumMap<>(ArtifactProperty.class);
         for (int i = 0; i < propertyCount && !availableProps.isEmpty(); i++) {
-            ArtifactProperty prop = availableProps.remove(RANDOM.nextInt(availableProps.size()));
-            int value = 1 + RANDOM.nextInt(Math.min(3, prop.getMaxValue())); // 1-3 value
-            item.addArtifactProperty(prop, value);
+            ArtifactProperty prop = availableProps.remove(random.nextInt(availableProps.size()));
+            int value = 1 + random.nextInt(Math.min(3, prop.getMaxValue())); // 1-3 value
+            rolled.put(prop, value);
         }
+        item.addArtifactProperties(rolled);
     }
 
     /**
      * Generate consumable items (potions, scrolls, food)
      */
-    private static ItemStack generateConsumable(int depth, LootTier tier) {
-        int typeRoll = RANDOM.nextInt(100);
-
-        if (typeRoll < 50) {
-            // Potion
-            return new ItemStack(Items.POTION, 1 + RANDOM.nextInt(3));
-        } else if (typeRoll < 90) {
-            // Food
-            return new ItemStack(Items.BREAD, 2 + RANDOM.nextInt(4));
-        } else {
-            // Book/scroll (rare)
-            return new ItemStack(Items.BOOK, 1);
-        }
+    private static ItemStack generateConsumable(WastelandRandom random) {
+        return chestTable().rollConsumable(random);
     }
 
     /**
      * Generate treasure (gold nuggets, gems)
      */
-    private static ItemStack generateTreasure(int depth, LootTier tier) {
-        int baseAmount = switch (tier) {
-            case EARLY -> 3 + RANDOM.nextInt(8);
-            case MID -> 8 + RANDOM.nextInt(16);
-            case LATE -> 16 + RANDOM.nextInt(32);
-            case END_GAME -> 32 + RANDOM.nextInt(64);
-        };
-
-        int typeRoll = RANDOM.nextInt(100);
-        if (typeRoll < 70) {
-            // Gold nuggets
-            return new ItemStack(Items.GOLD_NUGGET, baseAmount);
-        } else if (typeRoll < 90) {
-            // Gold ingots (more valuable)
-            return new ItemStack(Items.GOLD_INGOT, baseAmount / 4);
-        } else {
-            // Diamonds (rare)
-            return new ItemStack(Items.DIAMOND, 1 + RANDOM.nextInt(3));
-        }
+    private static ItemStack generateTreasure(int depth, WastelandRandom random) {
+        return chestTable().rollTreasure(depth, random);
     }
 
     /**
      * Get depth-appropriate rarity with weighted distribution
      * Deeper dungeons have higher chance of better loot
      */
-    private static ItemRarity getDepthAppropriateRarity(int depth) {
+    private static ItemRarity getDepthAppropriateRarity(int depth, WastelandRandom random) {
         // Base rarity distribution
-        ItemRarity baseRarity = RandartGenerator.getRandomRarity();
+        ItemRarity baseRarity = RandartGenerator.getRandomRarity(random);
 
-        // Depth bonus: higher depths have chance to upgrade rarity
-        int depthBonus = depth / 5; // Every 5 levels increases upgrade chance
+        // Depth bonus: higher depths get more upgrade rolls
+        CompiledLootTable table = chestTable();
+        int depthBonus = table.getRarityUpgrades(depth);
 
         for (int i = 0; i < depthBonus; i++) {
-            if (RANDOM.nextDouble() < 0.3) { // 30% chance per bonus level
+            if (random.nextDouble() < table.getRarityUpgradeChance()) {
                 baseRarity = upgradeRarity(baseRarity);
             }
         }
@@ -298,35 +459,40 @@ public class LootGenerator {
      * Less generous than chests
      */
     public static List<ItemStack> generateEnemyLoot(int enemyLevel) {
+        return generateEnemyLoot(enemyLevel, LOOT_STREAM.get());
+    }
+
+    /**
+     * Generate enemy drops from a specific random stream
+     */
+    public static List<ItemStack> generateEnemyLoot(int enemyLevel, WastelandRandom random) {
         List<ItemStack> loot = new ArrayList<>();
 
         // 30% chance to drop nothing
-        if (RANDOM.nextDouble() < 0.3) {
+        if (random.nextDouble() < 0.3) {
             return loot;
         }
 
         // 50% chance for treasure
-        if (RANDOM.nextDouble() < 0.5) {
-            LootTier tier = LootTier.fromDepth(enemyLevel);
-            loot.add(generateTreasure(enemyLevel, tier));
+        if (random.nextDouble() < 0.5) {
+            loot.add(generateTreasure(enemyLevel, random));
         }
 
         // 30% chance for equipment
-        if (RANDOM.nextDouble() < 0.3) {
-            LootTier tier = LootTier.fromDepth(enemyLevel);
-            if (RANDOM.nextBoolean()) {
-                loot.add(generateWeapon(enemyLevel, tier));
+        if (random.nextDouble() < 0.3) {
+            if (random.nextBoolean()) {
+                loot.add(generateWeapon(enemyLevel, random, null));
             } else {
-                loot.add(generateArmor(enemyLevel, tier));
+                loot.add(generateArmor(enemyLevel, random, null));
             }
         }
 
         // 20% chance for consumable
-        if (RANDOM.nextDouble() < 0.2) {
-            LootTier tier = LootTier.fromDepth(enemyLevel);
-            loot.add(generateConsumable(enemyLevel, tier));
+        if (random.nextDouble() < 0.2) {
+            loot.add(generateConsumable(random));
         }
 
+        loot.removeIf(ItemStack::isEmpty);
         return loot;
     }
 
@@ -0,0 +1,47 @@
+package com.wasteland.loot;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data structure for loot table JSON files (see CompiledLootTable)
+ */
+public class LootTableData {
+    public String name;
+    public String version;
+    public String description;
+    public List<Tier> tiers;
+    public Map<String, Double> categories; // weapon / armor / consumable / treasure -> weight
+    public UniqueChance unique_chance;
+    public RarityUpgrade rarity_upgrade;
+    public List<Drop> consumables;
+    public List<Drop> treasure;
+
+    public static class Tier {
+        public String tier;       // LootTier name
+        public int max_depth;     // Deepest level of this tier (the last tier also covers everything below)
+        public int min_items;
+        public int max_items;
+        public int treasure_base;  // Treasure amount: base + 0..extra-1
+        public int treasure_extra;
+    }
+
+    public static class UniqueChance {
+        public double base;
+        public double per_depth;
+        public double max;
+    }
+
+    public static class RarityUpgrade {
+        public int depth_step;    // One upgrade roll per this many levels
+        public double chance;
+    }
+
+    public static class Drop {
+        public String item;
+        public int count;          // Base count
+        public int extra;          // Plus 0..extra-1
+        public int amount_divisor; // Treasure only: if set, count is the tier's treasure amount divided by this
+        public double weight;
+    }
+}
@@ -19,6 +19,27 @@ public class PlayerEquipment {
 
     private final UUID playerId;
     private final Map<ArmorSlot, ItemStack> equippedItems;
+    private int version; // Bumped on equip/unequip/load and item edits, checked by cached derived stats
+
+    // Decoded weapon/armor wrappers per slot (by ordinal), so stat queries don't re-parse NBT
+    private final DecodedSlot[] decodedSlots = new DecodedSlot[ArmorSlot.values().length];
+
+    /**
+     * Cached decode of one slot, valid while the slot holds the same stack and tag instance.
+     * It is dropped on equip, unequip and load; edits made through the cached wrapper update
+     * the wrapper and the stack together, so they don't invalidate it.
+     */
+    private static final class DecodedSlot {
+        final ItemStack stack;
+        final CompoundTag tag;
+        final WastelandItem view; // null if the stack isn't a valid item for the slot
+
+        DecodedSlot(ItemStack stack, CompoundTag tag, WastelandItem view) {
+            this.stack = stack;
+            this.tag = tag;
+            this.view = view;
+        }
+    }
 
     /**
      * Create new equipment set for a player
@@ -53,6 +74,8 @@ public class PlayerEquipment {
 
         ItemStack previousItem = equippedItems.get(slot);
         equippedItems.put(slot, itemStack.copy());
+        decodedSlots[slot.ordinal()] = null;
+        version++;
 
         LOGGER.info("Player {} equipped {} in {}", playerId, itemStack.getHoverName().getString(), slot);
 
@@ -67,8 +90,10 @@ public class PlayerEquipment {
     public ItemStack unequipItem(ArmorSlot slot) {
         ItemStack item = equippedItems.get(slot);
         equippedItems.put(slot, ItemStack.EMPTY);
+        decodedSlots[slot.ordinal()] = null;
 
         if (!item.isEmpty()) {
+            version++;
             LOGGER.info("Player {} unequipped {} from {}", playerId, item.getHoverName().getString(), slot);
         }
 
@@ -76,7 +101,9 @@ public class PlayerEquipment {
     }
 
     /**
-     * Get equipped item in a slot
+     * Get equipped item in a slot (the stored stack, not a copy). Edit its Wasteland
+     * properties through getEquippedWeapon/Shield/Armor, or re-equip it: NBT written to
+     * the stack directly is not seen by the cached wrappers.
      */
     public ItemStack getEquippedItem(ArmorSlot slot) {
         return equippedItems.getOrDefault(slot, ItemStack.EMPTY);
@@ -90,54 +117,24 @@ public class PlayerEquipment {
     }
 
     /**
-     * Get equipped weapon (main hand)
+     * Get equipped weapon (main hand). The wrapper is cached and shared by every caller;
+     * it is a live view of the equipped stack, so its setters change the equipped item.
      */
     public WastelandWeapon getEquippedWeapon() {
-        ItemStack weapon = equippedItems.get(ArmorSlot.WEAPON);
-        if (weapon.isEmpty() || !WastelandItem.isWastelandItem(weapon)) {
-            return null;
-        }
-
-        // Try to determine weapon type from NBT
-        CompoundTag tag = weapon.getTag();
-        if (tag != null && tag.contains("WastelandWeaponType")) {
-            try {
-                WeaponType type = WeaponType.valueOf(tag.getString("WastelandWeaponType"));
-                return new WastelandWeapon(weapon, type);
-            } catch (IllegalArgumentException e) {
-                LOGGER.error("Invalid weapon type in NBT", e);
-            }
-        }
-
-        return null;
+        return (WastelandWeapon) getDecoded(ArmorSlot.WEAPON);
     }
 
     /**
-     * Get equipped shield
+     * Get equipped shield (a shared, live wrapper like getEquippedWeapon)
      */
     public WastelandArmor getEquippedShield() {
-        ItemStack shield = equippedItems.get(ArmorSlot.OFFHAND);
-        if (shield.isEmpty() || !WastelandItem.isWastelandItem(shield)) {
-            return null;
-        }
-
-        CompoundTag tag = shield.getTag();
-        if (tag != null && tag.contains("WastelandArmorType")) {
-            try {
-                ArmorType type = ArmorType.valueOf(tag.getString("WastelandArmorType"));
-                if (type.isShield()) {
-                    return new WastelandArmor(shield, type);
-                }
-            } catch (IllegalArgumentException e) {
-                LOGGER.error("Invalid armor type in NBT", e);
-            }
-        }
-
-        return null;
+        WastelandArmor shield = (WastelandArmor) getDecoded(ArmorSlot.OFFHAND);
+        return shield != null && shield.getArmorType().isShield() ? shield : null;
     }
 
     /**
-     * Get all equipped armor pieces (excluding weapon/shield)
+     * Get all equipped armor pieces (excluding weapon/shield) as shared, live wrappers
+     * like getEquippedWeapon; the list itself is a new copy
      */
     public List<WastelandArmor> getEquippedArmor() {
         List<WastelandArmor> armor = new ArrayList<>();
@@ -145,21 +142,73 @@ public class PlayerEquipment {
         for (ArmorSlot slot : ArmorSlot.values()) {
             if (!slot.isArmorSlot()) continue;
 
-            ItemStack item = equippedItems.get(slot);
-            if (item.isEmpty() || !WastelandItem.isWastelandItem(item)) continue;
+            WastelandItem item = getDecoded(slot);
+            if (item != null) {
+                armor.add((WastelandArmor) item);
+            }
+        }
+
+        return armor;
+    }
+
+    /**
+     * Get the decoded wrapper for a slot, re-reading NBT only if the slot's stack or tag
+     * instance changed (two identity checks, no hashing per read).
+     * The returned wrapper is shared: it wraps the stored stack, so edits through it (identify,
+     * artifact properties) keep the stack and the cached view in sync.
+     */
+    private WastelandItem getDecoded(ArmorSlot slot) {
+        ItemStack stack = equippedItems.get(slot);
+        CompoundTag tag = stack.getTag();
+        DecodedSlot cached = decodedSlots[slot.ordinal()];
+        if (cached != null && cached.stack == stack && cached.tag == tag) {
+            return cached.view;
+        }
+
+        WastelandItem view = decode(slot, stack);
+        if (view != null) {
+            view.setChangeListener(() -> version++); // Identify, enchant, artifact edits
+        }
+        if (cached != null) {
+            version++; // The stack or its tag was swapped since the last decode
+        }
+        decodedSlots[slot.ordinal()] = new DecodedSlot(stack, tag, view);
+        return view;
+    }
+
+    /**
+     * Build the wrapper for a slot's stack from its NBT (null if empty or not a valid item for the slot)
+     */
+    private WastelandItem decode(ArmorSlot slot, ItemStack stack) {
+        if (stack.isEmpty() || !WastelandItem.isWastelandItem(stack)) {
+            return null;
+        }
+        CompoundTag tag = stack.getTag();
 
-            CompoundTag tag = item.getTag();
-            if (tag != null && tag.contains("WastelandArmorType")) {
+        // Weapon slot: determine weapon type from NBT
+        if (slot == ArmorSlot.WEAPON) {
+            if (tag.contains("WastelandWeaponType")) {
                 try {
-                    ArmorType type = ArmorType.valueOf(tag.getString("WastelandArmorType"));
-                    armor.add(new WastelandArmor(item, type));
+                    WeaponType type = WeaponType.valueOf(tag.getString("WastelandWeaponType"));
+                    return new WastelandWeapon(stack, type);
                 } catch (IllegalArgumentException e) {
-                    LOGGER.error("Invalid armor type in NBT for slot {}", slot, e);
+                    LOGGER.error("Invalid weapon type in NBT", e);
                 }
             }
+            return null;
         }
 
-        return armor;
+        // Armor slots (including the offhand shield)
+        if (slot.isArmorSlot() && tag.contains("WastelandArmorType")) {
+            try {
+                ArmorType type = ArmorType.valueOf(tag.getString("WastelandArmorType"));
+                return new WastelandArmor(stack, type);
+            } catch (IllegalArgumentException e) {
+                LOGGER.error("Invalid armor type in NBT for slot {}", slot, e);
+            }
+        }
+
+        return null;
     }
 
     /**
@@ -299,6 +348,8 @@ public class PlayerEquipment {
         for (ArmorSlot slot : ArmorSlot.values()) {
             equippedItems.put(slot, ItemStack.EMPTY);
         }
+        Arrays.fill(decodedSlots, null);
+        version++;
 
         if (!nbt.contains("EquippedItems")) return;
 
@@ -323,9 +374,18 @@ public class PlayerEquipment {
     }
 
     /**
-     * Get all equipped items (for display/management)
+     * Get all equipped items (for display/management). The map is a copy but the stacks
+     * are the stored ones; see getEquippedItem before editing them.
      */
     public Map<ArmorSlot, ItemStack> getAllEquippedItems() {
         return new EnumMap<>(equippedItems);
     }
+
+    /**
+     * Change counter, incremented whenever the equipped items change, including edits
+     * made through the cached wrappers and stacks or tags swapped in place
+     */
+    public int getVersion() {
+        return version;
+    }
 }
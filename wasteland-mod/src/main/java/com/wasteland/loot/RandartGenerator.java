@@ -1,5 +1,7 @@
 package com.wasteland.loot;
 
+import com.wasteland.WastelandRandom;
+import com.wasteland.WeightedTable;
 import net.minecraft.world.item.ItemStack;
 import com.wasteland.equipment.WeaponType;
 import java.util.*;
@@ -9,7 +11,18 @@ import java.util.*;
  * Based on DCSS's randart generation algorithm.
  */
 public class RandartGenerator {
-    private static final Random RANDOM = new Random();
+    private static final WastelandRandom.Stream RANDART_STREAM = WastelandRandom.stream("randart");
+
+    // Loot rarity by drop weight (artifacts excluded)
+    private static final WeightedTable<ItemRarity> RARITIES = WeightedTable.of(
+        Arrays.stream(ItemRarity.values()).filter(rarity -> !rarity.isArtifact()).toList(),
+        ItemRarity::getDropWeight);
+
+    // Weaker weapons / armor are more common
+    private static final WeightedTable<WeaponType> WEAPON_TYPES = WeightedTable.of(
+        Arrays.asList(WeaponType.values()), type -> Math.max(1, 40 - type.getBaseDamage()));
+    private static final WeightedTable<ArmorType> ARMOR_TYPES = WeightedTable.of(
+        Arrays.asList(ArmorType.values()), type -> Math.max(1, 15 - type.getBaseAC()));
 
     // Power budgets for different item types
     private static final int WEAPON_BASE_POWER = 30;
@@ -39,24 +52,31 @@ public class RandartGenerator {
      * @return A randomly generated artifact weapon
      */
     public static WastelandWeapon generateWeapon(WeaponType baseWeaponType, ItemStack itemStack) {
+        return generateWeapon(baseWeaponType, itemStack, RANDART_STREAM.get());
+    }
+
+    /**
+     * Generate a random artifact weapon from a specific random stream
+     */
+    public static WastelandWeapon generateWeapon(WeaponType baseWeaponType, ItemStack itemStack, WastelandRandom random) {
         // Create base randart weapon
-        int enchantment = 4 + RANDOM.nextInt(6); // +4 to +9
+        int enchantment = 4 + random.nextInt(6); // +4 to +9
         WastelandWeapon weapon = new WastelandWeapon(itemStack, baseWeaponType, ItemRarity.RANDART, enchantment);
 
         // Set custom artifact name
-        String name = generateName(baseWeaponType.getDisplayName());
+        String name = generateName(baseWeaponType.getDisplayName(), random);
         weapon.setCustomName(name);
 
         // Calculate power budget based on weapon tier
         int basePower = WEAPON_BASE_POWER + (baseWeaponType.getBaseDamage() / 2);
-        int powerBudget = basePower + RANDOM.nextInt(20) - 10; // ±10 variance
+        int powerBudget = basePower + random.nextInt(20) - 10; // ±10 variance
 
         // Add random properties
-        addRandomProperties(weapon, powerBudget, true);
+        addRandomProperties(weapon, powerBudget, true, random);
 
         // Small chance for curses (makes artifact more powerful but with drawbacks)
-        if (RANDOM.nextDouble() < 0.2) {
-            addCurse(weapon);
+        if (random.nextDouble() < 0.2) {
+            addCurse(weapon, random);
         }
 
         return weapon;
@@ -69,24 +89,31 @@ public class RandartGenerator {
      * @return A randomly generated artifact armor
      */
     public static WastelandArmor generateArmor(ArmorType baseArmorType, ItemStack itemStack) {
+        return generateArmor(baseArmorType, itemStack, RANDART_STREAM.get());
+    }
+
+    /**
+     * Generate a random artifact armor piece from a specific random stream
+     */
+    public static WastelandArmor generateArmor(ArmorType baseArmorType, ItemStack itemStack, WastelandRandom random) {
         // Create base randart armor
-        int enchantment = 4 + RANDOM.nextInt(6); // +4 to +9
+        int enchantment = 4 + random.nextInt(6); // +4 to +9
         WastelandArmor armor = new WastelandArmor(itemStack, baseArmorType, ItemRarity.RANDART, enchantment);
 
         // Set custom artifact name
-        String name = generateName(baseArmorType.getDisplayName());
+        String name = generateName(baseArmorType.getDisplayName(), random);
         armor.setCustomName(name);
 
         // Calculate power budget based on armor tier
         int basePower = ARMOR_BASE_POWER + (baseArmorType.getBaseAC() * 2);
-        int powerBudget = basePower + RANDOM.nextInt(15) - 7; // ±7 variance
+        int powerBudget = basePower + random.nextInt(15) - 7; // ±7 variance
 
         // Add random properties
-        addRandomProperties(armor, powerBudget, false);
+        addRandomProperties(armor, powerBudget, false, random);
 
         // Small chance for curses
-        if (RANDOM.nextDouble() < 0.15) {
-            addCurse(armor);
+        if (random.nextDouble() < 0.15) {
+            addCurse(armor, random);
         }
 
         return armor;
@@ -95,35 +122,35 @@ public class RandartGenerator {
     /**
      * Generate a random artifact name
      */
-    private static String generateName(String baseName) {
-        int style = RANDOM.nextInt(4);
+    private static String generateName(String baseName, WastelandRandom random) {
+        int style = random.nextInt(4);
 
         return switch (style) {
-            case 0 -> PREFIXES[RANDOM.nextInt(PREFIXES.length)] + " " + baseName;
-            case 1 -> baseName + " " + SUFFIXES[RANDOM.nextInt(SUFFIXES.length)];
-            case 2 -> PREFIXES[RANDOM.nextInt(PREFIXES.length)] + " " + baseName + " " +
-                     SUFFIXES[RANDOM.nextInt(SUFFIXES.length)];
-            default -> "\"" + generateUniqueName() + "\"";
+            case 0 -> PREFIXES[random.nextInt(PREFIXES.length)] + " " + baseName;
+            case 1 -> baseName + " " + SUFFIXES[random.nextInt(SUFFIXES.length)];
+            case 2 -> PREFIXES[random.nextInt(PREFIXES.length)] + " " + baseName + " " +
+                     SUFFIXES[random.nextInt(SUFFIXES.length)];
+            default -> "\"" + generateUniqueName(random) + "\"";
         };
     }
 
     /**
      * Generate a unique artifact name (DCSS-style)
      */
-    private static String generateUniqueName() {
+    private static String generateUniqueName(WastelandRandom random) {
         String[] starts = {"Zong", "Morg", "Sulf", "Korg", "Aeth", "Xom", "Neme", "Dith"};
         String[] middles = {"ur", "al", "or", "as", "is", "ok", "un"};
         String[] ends = {"as", "os", "us", "ath", "oth", "agh", "ius", "ian"};
 
-        return starts[RANDOM.nextInt(starts.length)] +
-               middles[RANDOM.nextInt(middles.length)] +
-               ends[RANDOM.nextInt(ends.length)];
+        return starts[random.nextInt(starts.length)] +
+               middles[random.nextInt(middles.length)] +
+               ends[random.nextInt(ends.length)];
     }
 
     /**
      * Add random artifact properties within power budget
      */
-    private static void addRandomProperties(WastelandItem item, int powerBudget, boolean isWeapon) {
+    private static void addRandomProperties(WastelandItem item, int powerBudget, boolean isWeapon, WastelandRandom random) {
         List<ArtifactProperty> availableProps = new ArrayList<>();
 
         // Build list of appropriate properties
@@ -147,12 +174,15 @@ public class RandartGenerator {
             }
         }
 
-        // Shuffle for randomness
-        Collections.shuffle(availableProps);
+        // Shuffle for randomness (Fisher-Yates on the item's stream)
+        for (int i = availableProps.size() - 1; i > 0; i--) {
+            Collections.swap(availableProps, i, random.nextInt(i + 1));
+        }
 
+        Map<ArtifactProperty, Integer> rolled = new EnumMap<>(ArtifactProperty.class);
         int remainingBudget = powerBudget;
         int propertiesAdded = 0;
-        int maxProperties = 4 + RANDOM.nextInt(3); // 4-6 properties
+        int maxProperties = 4 + random.nextInt(3); // 4-6 properties
 
         // Add properties until budget exhausted or max properties reached
         for (ArtifactProperty prop : availableProps) {
@@ -171,19 +201,20 @@ public class RandartGenerator {
                 value = 1;
             } else {
                 // Weighted toward lower values (more common)
-                value = 1 + (int) (Math.pow(RANDOM.nextDouble(), 1.5) * (maxValue - 1));
+                value = 1 + (int) (Math.pow(random.nextDouble(), 1.5) * (maxValue - 1));
             }
 
-            item.addArtifactProperty(prop, value);
+            rolled.put(prop, value);
             remainingBudget -= powerCost * value;
             propertiesAdded++;
         }
+        item.addArtifactProperties(rolled);
     }
 
     /**
      * Add a random curse to an item (increases power but adds drawback)
      */
-    private static void addCurse(WastelandItem item) {
+    private static void addCurse(WastelandItem item, WastelandRandom random) {
         List<ArtifactProperty> curses = new ArrayList<>();
         for (ArtifactProperty prop : ArtifactProperty.values()) {
             if (prop.isCurse()) {
@@ -192,7 +223,7 @@ public class RandartGenerator {
         }
 
         if (!curses.isEmpty()) {
-            ArtifactProperty curse = curses.get(RANDOM.nextInt(curses.size()));
+            ArtifactProperty curse = curses.get(random.nextInt(curses.size()));
             item.addArtifactProperty(curse, 1);
         }
     }
@@ -204,10 +235,17 @@ public class RandartGenerator {
      * @return true if should upgrade to randart
      */
     public static boolean shouldUpgradeToRandart(ItemRarity rarity) {
+        return shouldUpgradeToRandart(rarity, RANDART_STREAM.get());
+    }
+
+    /**
+     * Randart upgrade roll from a specific random stream
+     */
+    public static boolean shouldUpgradeToRandart(ItemRarity rarity, WastelandRandom random) {
         return switch (rarity) {
-            case LEGENDARY -> RANDOM.nextDouble() < 0.3; // 30% chance
-            case EPIC -> RANDOM.nextDouble() < 0.1;      // 10% chance
-            case RARE -> RANDOM.nextDouble() < 0.03;     // 3% chance
+            case LEGENDARY -> random.nextDouble() < 0.3; // 30% chance
+            case EPIC -> random.nextDouble() < 0.1;      // 10% chance
+            case RARE -> random.nextDouble() < 0.03;     // 3% chance
             default -> false;
         };
     }
@@ -216,12 +254,19 @@ public class RandartGenerator {
      * Get weighted random enchantment level for a rarity
      */
     public static int getRandomEnchantment(ItemRarity rarity) {
+        return getRandomEnchantment(rarity, RANDART_STREAM.get());
+    }
+
+    /**
+     * Weighted random enchantment level from a specific random stream
+     */
+    public static int getRandomEnchantment(ItemRarity rarity, WastelandRandom random) {
         int min = rarity.getMinEnchantment();
         int max = rarity.getMaxEnchantment();
 
         // Weighted toward middle values
         int range = max - min + 1;
-        double roll = RANDOM.nextGaussian() * 0.3 + 0.5; // Mean at 0.5, std dev 0.3
+        double roll = random.nextGaussian() * 0.3 + 0.5; // Mean at 0.5, std dev 0.3
         roll = Math.max(0.0, Math.min(1.0, roll)); // Clamp to [0, 1]
 
         return min + (int) (roll * range);
@@ -232,28 +277,15 @@ public class RandartGenerator {
      * Uses weighted random based on drop weights
      */
     public static ItemRarity getRandomRarity() {
-        // Calculate total weight (excluding artifacts)
-        int totalWeight = 0;
-        for (ItemRarity rarity : ItemRarity.values()) {
-            if (!rarity.isArtifact()) {
-                totalWeight += rarity.getDropWeight();
-            }
-        }
-
-        // Roll weighted random
-        int roll = RANDOM.nextInt(totalWeight);
-        int cumulative = 0;
-
-        for (ItemRarity rarity : ItemRarity.values()) {
-            if (rarity.isArtifact()) continue;
-
-            cumulative += rarity.getDropWeight();
-            if (roll < cumulative) {
-                return rarity;
-            }
-        }
+        return getRandomRarity(RANDART_STREAM.get());
+    }
 
-        return ItemRarity.COMMON; // Fallback
+    /**
+     * Random loot rarity from a specific random stream
+     */
+    public static ItemRarity getRandomRarity(WastelandRandom random) {
+        ItemRarity rarity = RARITIES.sample(random);
+        return rarity != null ? rarity : ItemRarity.COMMON; // Fallback
     }
 
     /**
@@ -261,35 +293,27 @@ public class RandartGenerator {
      * Lower tier weapons are more common
      */
     public static WeaponType getRandomWeaponType() {
-        List<WeaponType> weapons = new ArrayList<>(Arrays.asList(WeaponType.values()));
-
-        // Weight by inverse of base damage (weaker weapons more common)
-        List<WeaponType> weightedList = new ArrayList<>();
-        for (WeaponType type : weapons) {
-            int weight = Math.max(1, 40 - type.getBaseDamage()); // Higher damage = lower weight
-            for (int i = 0; i < weight; i++) {
-                weightedList.add(type);
-            }
-        }
+        return getRandomWeaponType(RANDART_STREAM.get());
+    }
 
-        return weightedList.get(RANDOM.nextInt(weightedList.size()));
+    /**
+     * Random weapon type from a specific random stream
+     */
+    public static WeaponType getRandomWeaponType(WastelandRandom random) {
+        return WEAPON_TYPES.sample(random);
     }
 
     /**
      * Get random armor type weighted by tier
      */
     public static ArmorType getRandomArmorType() {
-        List<ArmorType> armors = Arrays.asList(ArmorType.values());
-
-        // Weight by inverse of AC (weaker armor more common)
-        List<ArmorType> weightedList = new ArrayList<>();
-        for (ArmorType type : armors) {
-            int weight = Math.max(1, 15 - type.getBaseAC());
-            for (int i = 0; i < weight; i++) {
-                weightedList.add(type);
-            }
-        }
+        return getRandomArmorType(RANDART_STREAM.get());
+    }
 
-        return weightedList.get(RANDOM.nextInt(weightedList.size()));
+    /**
+     * Random armor type from a specific random stream
+     */
+    public static ArmorType getRandomArmorType(WastelandRandom random) {
+        return ARMOR_TYPES.sample(random);
     }
 }
@@ -120,9 +120,7 @@ public class UniqueArtifact {
             weapon.setCustomName(displayName);
 
             // Add all properties
-            for (Map.Entry<ArtifactProperty, Integer> entry : properties.entrySet()) {
-                weapon.addArtifactProperty(entry.getKey(), entry.getValue());
-            }
+            weapon.addArtifactProperties(properties);
 
             item = weapon;
         } else if (type == ArtifactType.ARMOR) {
@@ -130,9 +128,7 @@ public class UniqueArtifact {
             armor.setCustomName(displayName);
 
             // Add all properties
-            for (Map.Entry<ArtifactProperty, Integer> entry : properties.entrySet()) {
-                armor.addArtifactProperty(entry.getKey(), entry.getValue());
-            }
+            armor.addArtifactProperties(properties);
 
             item = armor;
         } else {
@@ -26,6 +26,7 @@ public abstract class WastelandItem {
     protected int enchantmentLevel;
     protected Map<ArtifactProperty, Integer> artifactProperties;
     protected boolean identified;
+    private Runnable changeListener; // Told after each NBT write, set by whoever caches this wrapper
 
     /**
      * Create a new Wasteland item from an ItemStack
@@ -138,6 +139,17 @@ public abstract class WastelandItem {
 
         // Update display name
         updateDisplayName();
+
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+
+    /**
+     * Run a callback whenever this wrapper writes its properties back to the stack
+     */
+    void setChangeListener(Runnable listener) {
+        this.changeListener = listener;
     }
 
     /**
@@ -182,6 +194,15 @@ public abstract class WastelandItem {
         saveToNBT();
     }
 
+    /**
+     * Add several artifact properties with a single NBT write
+     */
+    public void addArtifactProperties(Map<ArtifactProperty, Integer> properties) {
+        if (properties.isEmpty()) return;
+        artifactProperties.putAll(properties);
+        saveToNBT();
+    }
+
     /**
      * Get artifact property value (0 if not present)
      */
@@ -2,6 +2,7 @@ package com.wasteland.loot;
 
 import net.minecraft.world.item.ItemStack;
 import com.wasteland.character.PlayerCharacter;
+import com.wasteland.combat.CombatMath;
 import com.wasteland.equipment.WeaponType;
 
 /**
@@ -93,31 +94,24 @@ public class WastelandWeapon extends WastelandItem {
      * @return Total damage (including stats, skills, enchantment, and properties)
      */
     public int calculateDamage(PlayerCharacter character) {
-        // Base weapon damage
-        int damage = weaponType.getBaseDamage();
-
-        // Enchantment bonus (direct damage increase)
-        damage += enchantmentLevel;
-
-        // Slaying bonus from weapon
-        damage += bonusSlaying;
+        return CombatMath.weaponDamage(
+            weaponType.getBaseDamage(),
+            enchantmentLevel,
+            getTotalSlaying(),
+            character.getStrength(),
+            character.getSkillLevel(weaponType.getSkill())
+        );
+    }
 
-        // Artifact SLAYING property
+    /**
+     * Get total slaying (weapon bonus + artifact SLAYING property)
+     */
+    public int getTotalSlaying() {
+        int slaying = bonusSlaying;
         if (hasArtifactProperty(ArtifactProperty.SLAYING)) {
-            damage += getArtifactProperty(ArtifactProperty.SLAYING);
+            slaying += getArtifactProperty(ArtifactProperty.SLAYING);
         }
-
-        // Strength bonus: +1 damage per 2 STR above 8
-        int strength = character.getStrength();
-        int strBonus = Math.max(0, (strength - 8) / 2);
-        damage += strBonus;
-
-        // Weapon skill bonus: +1 damage per 3 skill levels
-        int skillLevel = character.getSkillLevel(weaponType.getSkill());
-        int skillBonus = skillLevel / 3;
-        damage += skillBonus;
-
-        return Math.max(1, damage); // Minimum 1 damage
+        return slaying;
     }
 
     /**
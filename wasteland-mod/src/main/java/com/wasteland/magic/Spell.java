@@ -27,6 +27,7 @@ public class Spell {
     private final SpellEffect effect;
     private final int baseRange;
     private final int basePower;
+    private int index = -1; // Assigned by SpellRegistry when it freezes
 
     /**
      * Builder for spells
@@ -290,6 +291,17 @@ public class Spell {
         return id;
     }
 
+    /**
+     * Compact registry index (for BitSets and arrays), -1 until the registry is frozen
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     public String getDisplayName() {
         return displayName;
     }
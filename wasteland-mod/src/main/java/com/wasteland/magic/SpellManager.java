@@ -1,5 +1,6 @@
 package com.wasteland.magic;
 
+import com.wasteland.player.PlayerStateStore;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
@@ -15,10 +16,10 @@ import java.util.*;
  */
 public class SpellManager {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<UUID, SpellManager> INSTANCES = new HashMap<>();
+    private static final PlayerStateStore<SpellManager> INSTANCES = PlayerStateStore.shared("spells");
 
     private final UUID playerId;
-    private final Set<String> knownSpells; // Spell IDs
+    private final BitSet knownSpells; // Spell registry indexes
     private final Map<Integer, String> spellSlots; // Slot number -> Spell ID
 
     // Max spell slots based on XL (experience level)
@@ -27,7 +28,7 @@ public class SpellManager {
 
     private SpellManager(UUID playerId) {
         this.playerId = playerId;
-        this.knownSpells = new HashSet<>();
+        this.knownSpells = new BitSet(SpellRegistry.getSpellCount());
         this.spellSlots = new HashMap<>();
     }
 
@@ -49,12 +50,17 @@ public class SpellManager {
      * Learn a spell (add to known spells library)
      */
     public boolean learnSpell(String spellId) {
-        if (knownSpells.contains(spellId)) {
+        Spell spell = SpellRegistry.getSpell(spellId);
+        if (spell == null) {
+            LOGGER.warn("Player {} cannot learn unknown spell {}", playerId, spellId);
+            return false;
+        }
+        if (knownSpells.get(spell.getIndex())) {
             LOGGER.debug("Player {} already knows spell {}", playerId, spellId);
             return false;
         }
 
-        knownSpells.add(spellId);
+        knownSpells.set(spell.getIndex());
         LOGGER.info("Player {} learned spell {}", playerId, spellId);
         return true;
     }
@@ -63,11 +69,11 @@ public class SpellManager {
      * Forget a spell (remove from known spells)
      */
     public boolean forgetSpell(String spellId) {
-        if (!knownSpells.contains(spellId)) {
+        if (!knowsSpell(spellId)) {
             return false;
         }
 
-        knownSpells.remove(spellId);
+        knownSpells.clear(SpellRegistry.getSpell(spellId).getIndex());
 
         // Remove from slots if memorized
         spellSlots.entrySet().removeIf(entry -> entry.getValue().equals(spellId));
@@ -81,7 +87,7 @@ public class SpellManager {
      * Requires spell to be known
      */
     public boolean memorizeSpell(String spellId, int slotNumber) {
-        if (!knownSpells.contains(spellId)) {
+        if (!knowsSpell(spellId)) {
             LOGGER.warn("Cannot memorize unknown spell: {}", spellId);
             return false;
         }
@@ -144,9 +150,9 @@ public class SpellManager {
      * Get all known spells
      */
     public List<Spell> getKnownSpells() {
-        List<Spell> spells = new ArrayList<>();
-        for (String spellId : knownSpells) {
-            Spell spell = SpellRegistry.getSpell(spellId);
+        List<Spell> spells = new ArrayList<>(knownSpells.cardinality());
+        for (int i = knownSpells.nextSetBit(0); i >= 0; i = knownSpells.nextSetBit(i + 1)) {
+            Spell spell = SpellRegistry.getSpell(i);
             if (spell != null) {
                 spells.add(spell);
             }
@@ -158,7 +164,15 @@ public class SpellManager {
      * Check if player knows a spell
      */
     public boolean knowsSpell(String spellId) {
-        return knownSpells.contains(spellId);
+        Spell spell = SpellRegistry.getSpell(spellId);
+        return spell != null && knownSpells.get(spell.getIndex());
+    }
+
+    /**
+     * Check if player knows a spell (one bit test)
+     */
+    public boolean knowsSpell(Spell spell) {
+        return knownSpells.get(spell.getIndex());
     }
 
     /**
@@ -216,10 +230,10 @@ public class SpellManager {
     public CompoundTag saveToNBT() {
         CompoundTag nbt = new CompoundTag();
 
-        // Save known spells
+        // Save known spells (by ID, indexes are not stable across versions)
         ListTag knownList = new ListTag();
-        for (String spellId : knownSpells) {
-            knownList.add(StringTag.valueOf(spellId));
+        for (Spell spell : getKnownSpells()) {
+            knownList.add(StringTag.valueOf(spell.getId()));
         }
         nbt.put("KnownSpells", knownList);
 
@@ -244,7 +258,12 @@ public class SpellManager {
         if (nbt.contains("KnownSpells")) {
             ListTag knownList = nbt.getList("KnownSpells", Tag.TAG_STRING);
             for (int i = 0; i < knownList.size(); i++) {
-                knownSpells.add(knownList.getString(i));
+                Spell spell = SpellRegistry.getSpell(knownList.getString(i));
+                if (spell != null) {
+                    knownSpells.set(spell.getIndex());
+                } else {
+                    LOGGER.warn("Unknown spell in save data: {}", knownList.getString(i));
+                }
             }
         }
 
@@ -263,7 +282,7 @@ public class SpellManager {
         }
 
         LOGGER.info("Loaded spell data for player {}: {} known, {} memorized",
-                   playerId, knownSpells.size(), spellSlots.size());
+                   playerId, knownSpells.cardinality(), spellSlots.size());
     }
 
     /**
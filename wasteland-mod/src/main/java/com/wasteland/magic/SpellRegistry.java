@@ -4,15 +4,26 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Registry of all available spells in the game.
  * Manages spell definitions and provides lookup functionality.
+ *
+ * Spells are registered during setup and then frozen: each gets a compact int index
+ * (Spell.getIndex) and the per-school and per-level lists are built once, so lookups
+ * from screens and per-player BitSets are array reads instead of stream filters.
  */
 public class SpellRegistry {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<String, Spell> SPELLS = new HashMap<>();
+    private static final Map<String, Spell> SPELLS = new LinkedHashMap<>();
+
+    // Frozen views, built on freeze() (or on first lookup if setup didn't freeze)
+    private static Spell[] byIndex;
+    private static List<Spell> allSpells;
+    private static List<Spell> sortedByLevel;
+    private static int[] levelStart; // levelStart[l] = first index in sortedByLevel with spell level >= l
+    private static final Map<SpellSchool, List<Spell>> BY_SCHOOL = new EnumMap<>(SpellSchool.class);
+    private static boolean frozen = false;
 
     // Prevent instantiation
     private SpellRegistry() {}
@@ -21,62 +32,82 @@ public class SpellRegistry {
      * Register a spell
      */
     public static void register(Spell spell) {
+        if (frozen) {
+            throw new IllegalStateException("Cannot register spell " + spell.getId() + " after the registry is frozen");
+        }
         if (SPELLS.containsKey(spell.getId())) {
             LOGGER.warn("Spell {} is already registered, overwriting", spell.getId());
         }
         SPELLS.put(spell.getId(), spell);
+        byIndex = null;
         LOGGER.debug("Registered spell: {} (Level {})", spell.getDisplayName(), spell.getSpellLevel());
     }
 
+    /**
+     * Assign spell indexes and build the lookup tables; no spells can be registered afterwards
+     */
+    public static void freeze() {
+        buildViews();
+        frozen = true;
+        LOGGER.info("Froze spell registry with {} spells", byIndex.length);
+    }
+
     /**
      * Get a spell by ID
      */
     public static Spell getSpell(String id) {
+        views(); // Spells returned here always have their index assigned
         return SPELLS.get(id);
     }
 
     /**
-     * Get all registered spells
+     * Get a spell by its index (null if out of range)
      */
-    public static Collection<Spell> getAllSpells() {
-        return new ArrayList<>(SPELLS.values());
+    public static Spell getSpell(int index) {
+        Spell[] spells = views();
+        return index >= 0 && index < spells.length ? spells[index] : null;
     }
 
     /**
-     * Get spells by school
+     * Get all registered spells (read-only)
+     */
+    public static List<Spell> getAllSpells() {
+        views();
+        return allSpells;
+    }
+
+    /**
+     * Get spells by school (read-only)
      */
     public static List<Spell> getSpellsBySchool(SpellSchool school) {
-        return SPELLS.values().stream()
-            .filter(spell -> spell.getSchools().contains(school))
-            .collect(Collectors.toList());
+        views();
+        return BY_SCHOOL.getOrDefault(school, Collections.emptyList());
     }
 
     /**
-     * Get spells by level
+     * Get spells by level (read-only)
      */
     public static List<Spell> getSpellsByLevel(int level) {
-        return SPELLS.values().stream()
-            .filter(spell -> spell.getSpellLevel() == level)
-            .collect(Collectors.toList());
+        return getSpellsByLevelRange(level, level);
     }
 
     /**
-     * Get spells by level range
+     * Get spells by level range, sorted by level (read-only)
      */
     public static List<Spell> getSpellsByLevelRange(int minLevel, int maxLevel) {
-        return SPELLS.values().stream()
-            .filter(spell -> spell.getSpellLevel() >= minLevel && spell.getSpellLevel() <= maxLevel)
-            .sorted(Comparator.comparingInt(Spell::getSpellLevel))
-            .collect(Collectors.toList());
+        views();
+        int maxTracked = levelStart.length - 2;
+        int from = levelStart[Math.max(0, Math.min(minLevel, maxTracked + 1))];
+        int to = levelStart[Math.max(0, Math.min(maxLevel + 1, maxTracked + 1))];
+        return from < to ? sortedByLevel.subList(from, to) : Collections.emptyList();
     }
 
     /**
-     * Get spells sorted by level
+     * Get spells sorted by level (read-only)
      */
     public static List<Spell> getSpellsSortedByLevel() {
-        return SPELLS.values().stream()
-            .sorted(Comparator.comparingInt(Spell::getSpellLevel))
-            .collect(Collectors.toList());
+        views();
+        return sortedByLevel;
     }
 
     /**
@@ -98,6 +129,50 @@ public class SpellRegistry {
      */
     public static void clearAll() {
         SPELLS.clear();
+        byIndex = null;
+        frozen = false;
         LOGGER.info("Cleared all registered spells");
     }
+
+    private static Spell[] views() {
+        if (byIndex == null) {
+            buildViews();
+        }
+        return byIndex;
+    }
+
+    private static void buildViews() {
+        Spell[] spells = SPELLS.values().toArray(new Spell[0]);
+        for (int i = 0; i < spells.length; i++) {
+            spells[i].setIndex(i);
+        }
+
+        BY_SCHOOL.clear();
+        for (SpellSchool school : SpellSchool.values()) {
+            List<Spell> inSchool = new ArrayList<>();
+            for (Spell spell : spells) {
+                if (spell.getSchools().contains(school)) {
+                    inSchool.add(spell);
+                }
+            }
+            BY_SCHOOL.put(school, Collections.unmodifiableList(inSchool));
+        }
+
+        Spell[] sorted = spells.clone();
+        Arrays.sort(sorted, Comparator.comparingInt(Spell::getSpellLevel)); // Stable, keeps registration order within a level
+        int maxLevel = sorted.length > 0 ? Math.max(0, sorted[sorted.length - 1].getSpellLevel()) : 0;
+        int[] starts = new int[maxLevel + 2];
+        int pos = 0;
+        for (int level = 0; level < starts.length; level++) {
+            while (pos < sorted.length && sorted[pos].getSpellLevel() < level) {
+                pos++;
+            }
+            starts[level] = pos;
+        }
+
+        allSpells = Collections.unmodifiableList(Arrays.asList(spells.clone()));
+        sortedByLevel = Collections.unmodifiableList(Arrays.asList(sorted));
+        levelStart = starts;
+        byIndex = spells;
+    }
 }
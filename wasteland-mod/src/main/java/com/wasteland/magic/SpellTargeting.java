@@ -12,12 +12,9 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
-import net.minecraft.world.phys.Vec3;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -34,9 +31,12 @@ public class SpellTargeting {
     private Spell activeSpell = null;
     private TargetType targetType = null;
 
-    // Entity targeting
+    // Entity targeting (targets array is shared with TargetCandidates, resynced when its version changes)
     private LivingEntity selectedEntity = null;
-    private List<LivingEntity> availableTargets = new ArrayList<>();
+    private TargetCandidates candidates = null;
+    private LivingEntity[] availableTargets = new LivingEntity[0];
+    private int targetsVersion = -1;
+    private int targetRange = 0;
     private int currentTargetIndex = 0;
 
     // Location targeting
@@ -66,6 +66,7 @@ public class SpellTargeting {
             return;
         }
 
+        releaseCandidates(); // A previous session may still hold them
         this.activeSpell = spell;
         this.targetType = spell.getTargetType();
         this.isTargeting = true;
@@ -85,37 +86,64 @@ public class SpellTargeting {
      * Initialize entity targeting
      */
     private void initializeEntityTargeting(Player caster, int range) {
-        availableTargets.clear();
         selectedEntity = null;
         currentTargetIndex = 0;
+        targetRange = range;
+        targetsVersion = -1;
 
-        // Find all hostile entities within range
-        Vec3 casterPos = caster.position();
-        AABB searchBox = new AABB(casterPos.x - range, casterPos.y - range, casterPos.z - range,
-                                   casterPos.x + range, casterPos.y + range, casterPos.z + range);
+        // Candidates are kept up to date incrementally, no entity query here
+        candidates = TargetCandidates.forCaster(caster);
+        candidates.activate(range);
+        syncTargets();
 
-        List<LivingEntity> nearbyEntities = caster.level().getEntitiesOfClass(
-            LivingEntity.class, searchBox,
-            entity -> entity != caster && entity.isAlive() && isHostile(entity)
-        );
+        // Auto-select nearest target
+        if (availableTargets.length > 0) {
+            selectedEntity = availableTargets[0];
+            currentTargetIndex = 0;
+        }
 
-        // Sort by distance
-        nearbyEntities.sort(Comparator.comparingDouble(e -> e.distanceToSqr(caster)));
+        LOGGER.debug("Found {} valid targets within range {}", availableTargets.length, range);
+    }
 
-        // Filter by range
-        for (LivingEntity entity : nearbyEntities) {
-            if (caster.distanceTo(entity) <= range) {
-                availableTargets.add(entity);
-            }
+    /**
+     * Stop the candidates' distance / line-of-sight updates once this session no longer uses them
+     */
+    private void releaseCandidates() {
+        if (candidates != null) {
+            candidates.deactivate();
+            candidates = null;
         }
+    }
 
-        // Auto-select nearest target
-        if (!availableTargets.isEmpty()) {
-            selectedEntity = availableTargets.get(0);
-            currentTargetIndex = 0;
+    /**
+     * Pick up the candidates' latest target list, keeping the selection where it still is valid
+     */
+    private void syncTargets() {
+        if (candidates == null || candidates.getVersion() == targetsVersion) {
+            return;
+        }
+        availableTargets = candidates.getTargets(targetRange);
+        targetsVersion = candidates.getVersion();
+
+        if (selectedEntity != null) {
+            int index = indexOf(selectedEntity);
+            if (index >= 0) {
+                currentTargetIndex = index;
+                return;
+            }
         }
+        // Selection left range or died: fall back to the nearest
+        currentTargetIndex = 0;
+        selectedEntity = availableTargets.length > 0 ? availableTargets[0] : null;
+    }
 
-        LOGGER.debug("Found {} valid targets within range {}", availableTargets.size(), range);
+    private int indexOf(LivingEntity entity) {
+        for (int i = 0; i < availableTargets.length; i++) {
+            if (availableTargets[i] == entity) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -139,15 +167,16 @@ public class SpellTargeting {
             return;
         }
 
-        if (availableTargets.isEmpty()) {
+        syncTargets();
+        if (availableTargets.length == 0) {
             LOGGER.debug("No targets available to cycle");
             return;
         }
 
-        currentTargetIndex = (currentTargetIndex + 1) % availableTargets.size();
-        selectedEntity = availableTargets.get(currentTargetIndex);
+        currentTargetIndex = (currentTargetIndex + 1) % availableTargets.length;
+        selectedEntity = availableTargets[currentTargetIndex];
 
-        LOGGER.debug("Cycled to target {}/{}", currentTargetIndex + 1, availableTargets.size());
+        LOGGER.debug("Cycled to target {}/{}", currentTargetIndex + 1, availableTargets.length);
     }
 
     /**
@@ -158,17 +187,18 @@ public class SpellTargeting {
             return;
         }
 
-        if (availableTargets.isEmpty()) {
+        syncTargets();
+        if (availableTargets.length == 0) {
             return;
         }
 
         currentTargetIndex--;
         if (currentTargetIndex < 0) {
-            currentTargetIndex = availableTargets.size() - 1;
+            currentTargetIndex = availableTargets.length - 1;
         }
-        selectedEntity = availableTargets.get(currentTargetIndex);
+        selectedEntity = availableTargets[currentTargetIndex];
 
-        LOGGER.debug("Cycled to target {}/{}", currentTargetIndex + 1, availableTargets.size());
+        LOGGER.debug("Cycled to target {}/{}", currentTargetIndex + 1, availableTargets.length);
     }
 
     /**
@@ -179,9 +209,11 @@ public class SpellTargeting {
             return;
         }
 
-        if (availableTargets.contains(entity)) {
+        syncTargets();
+        int index = indexOf(entity);
+        if (index >= 0) {
             selectedEntity = entity;
-            currentTargetIndex = availableTargets.indexOf(entity);
+            currentTargetIndex = index;
             LOGGER.debug("Manually selected target: {}", entity.getName().getString());
         } else {
             LOGGER.warn("Attempted to select invalid target: {}", entity.getName().getString());
@@ -252,7 +284,9 @@ public class SpellTargeting {
         targetType = null;
         selectedEntity = null;
         selectedLocation = null;
-        availableTargets.clear();
+        releaseCandidates();
+        availableTargets = new LivingEntity[0];
+        targetsVersion = -1;
         currentTargetIndex = 0;
 
         LOGGER.debug("Cancelled spell targeting");
@@ -290,7 +324,8 @@ public class SpellTargeting {
      * Get available targets
      */
     public List<LivingEntity> getAvailableTargets() {
-        return new ArrayList<>(availableTargets);
+        syncTargets();
+        return List.of(availableTargets);
     }
 
     /**
@@ -340,12 +375,4 @@ public class SpellTargeting {
         // This is a simplified version - in practice you'd want proper box rendering
         // For now, just a placeholder
     }
-
-    /**
-     * Check if entity is hostile
-     */
-    private boolean isHostile(LivingEntity entity) {
-        // Check if it's a monster or otherwise hostile
-        return entity.getType().getCategory() == net.minecraft.world.entity.MobCategory.MONSTER;
-    }
 }
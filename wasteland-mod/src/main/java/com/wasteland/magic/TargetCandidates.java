@@ -0,0 +1,253 @@
+package com.wasteland.magic;
+
+import com.wasteland.WastelandMod;
+import com.wasteland.combat.HostileProximityTracker;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.living.LivingDeathEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hostile entities a caster could target with a spell, kept sorted by distance.
+ *
+ * Membership follows HostileProximityTracker (monsters entering or leaving the sections
+ * around the caster) and deaths, so no entity query is made when targeting starts.
+ * Distances and line-of-sight are only measured while SpellTargeting is targeting with
+ * the set (between activate and deactivate), a few times a second, and line-of-sight is
+ * only raycast for candidates within the active spell's range. The list of valid targets
+ * is built from those flags once per refresh and shared until the next one.
+ */
+@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+public final class TargetCandidates {
+    private static final int REFRESH_INTERVAL = 4; // Ticks between distance / line-of-sight updates
+    private static final LivingEntity[] NO_TARGETS = new LivingEntity[0];
+
+    // Candidate sets of local casters (client thread only)
+    private static final Map<Player, TargetCandidates> BY_CASTER = new HashMap<>();
+    private static int ticksUntilRefresh = 0;
+
+    static {
+        // Server-side notifications are ignored: only local casters have candidate sets
+        HostileProximityTracker.addListener(new HostileProximityTracker.Listener() {
+            @Override
+            public void onEnter(Player player, Mob mob) {
+                TargetCandidates candidates = player.level().isClientSide ? BY_CASTER.get(player) : null;
+                if (candidates != null) {
+                    candidates.add(mob);
+                }
+            }
+
+            @Override
+            public void onLeave(Player player, Mob mob) {
+                TargetCandidates candidates = player.level().isClientSide ? BY_CASTER.get(player) : null;
+                if (candidates != null) {
+                    candidates.remove(mob);
+                }
+            }
+
+            @Override
+            public void onUntracked(Player player) {
+                if (player.level().isClientSide) {
+                    BY_CASTER.remove(player);
+                }
+            }
+        });
+    }
+
+    /**
+     * A candidate with its last measured distance and visibility
+     */
+    private static final class Candidate {
+        final LivingEntity entity;
+        double distanceSqr;
+        boolean lineOfSight;
+
+        Candidate(LivingEntity entity) {
+            this.entity = entity;
+        }
+    }
+
+    private final Player caster;
+    private final Map<LivingEntity, Candidate> members = new Reference2ObjectOpenHashMap<>();
+    private final List<Candidate> sorted = new ArrayList<>();
+
+    // Valid targets for the last requested range; rebuilt when the version changes
+    private LivingEntity[] targets = NO_TARGETS;
+    private int targetsRange = -1;
+    private int targetsVersion = -1;
+    private int version = 0;
+
+    // Range of the spell being targeted, or -1 while no targeting session uses this set
+    private int activeRange = -1;
+
+    private TargetCandidates(Player caster) {
+        this.caster = caster;
+    }
+
+    /**
+     * Get (or start keeping) the candidate set of a caster
+     */
+    public static TargetCandidates forCaster(Player caster) {
+        TargetCandidates candidates = BY_CASTER.get(caster);
+        if (candidates == null) {
+            candidates = new TargetCandidates(caster);
+            for (Mob mob : HostileProximityTracker.getCandidates(caster)) {
+                candidates.add(mob);
+            }
+            BY_CASTER.put(caster, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Start measuring candidates for a targeting session with the given spell range
+     */
+    public void activate(int range) {
+        activeRange = range;
+        refresh();
+    }
+
+    /**
+     * Stop measuring candidates (targeting ended); membership is still kept up to date
+     */
+    public void deactivate() {
+        activeRange = -1;
+    }
+
+    /**
+     * Alive, visible hostiles within range, nearest first (shared array, do not modify).
+     * Only valid while active, for ranges up to the active range.
+     */
+    public LivingEntity[] getTargets(int range) {
+        if (targetsVersion != version || targetsRange != range) {
+            double rangeSqr = (double) range * range;
+            List<LivingEntity> inRange = new ArrayList<>();
+            for (Candidate candidate : sorted) {
+                if (candidate.distanceSqr > rangeSqr) {
+                    break; // Sorted by distance, the rest are further away
+                }
+                if (candidate.lineOfSight && candidate.entity.isAlive()) {
+                    inRange.add(candidate.entity);
+                }
+            }
+            targets = inRange.toArray(NO_TARGETS);
+            targetsRange = range;
+            targetsVersion = version;
+        }
+        return targets;
+    }
+
+    /**
+     * Changes whenever the candidates or their flags change
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    // ===== Incremental updates =====
+
+    private void add(LivingEntity entity) {
+        // Hostility is already decided by HostileProximityTracker.isHostileType
+        if (entity == caster || members.containsKey(entity)) {
+            return;
+        }
+        Candidate candidate = new Candidate(entity);
+        members.put(entity, candidate);
+        if (activeRange < 0) {
+            sorted.add(candidate); // Measured and sorted when a targeting session activates the set
+            version++;
+            return;
+        }
+        measure(candidate);
+
+        // Insert in distance order
+        int index = 0;
+        while (index < sorted.size() && sorted.get(index).distanceSqr <= candidate.distanceSqr) {
+            index++;
+        }
+        sorted.add(index, candidate);
+        version++;
+    }
+
+    private void remove(LivingEntity entity) {
+        Candidate candidate = members.remove(entity);
+        if (candidate != null) {
+            sorted.remove(candidate);
+            version++;
+        }
+    }
+
+    /**
+     * Re-measure every candidate and restore distance order (nearly sorted, so cheap)
+     */
+    private void refresh() {
+        if (sorted.isEmpty()) {
+            return;
+        }
+        Iterator<Candidate> iterator = sorted.iterator();
+        while (iterator.hasNext()) {
+            Candidate candidate = iterator.next();
+            if (!candidate.entity.isAlive()) {
+                iterator.remove();
+                members.remove(candidate.entity);
+                continue;
+            }
+            measure(candidate);
+        }
+        sorted.sort(Comparator.comparingDouble(c -> c.distanceSqr));
+        version++;
+    }
+
+    private void measure(Candidate candidate) {
+        candidate.distanceSqr = candidate.entity.distanceToSqr(caster);
+        // Raycast only where the spell can reach; further candidates aren't targets anyway
+        candidate.lineOfSight = candidate.distanceSqr <= (double) activeRange * activeRange
+            && caster.hasLineOfSight(candidate.entity);
+    }
+
+    // ===== Event handlers =====
+
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || BY_CASTER.isEmpty()) {
+            return;
+        }
+        if (--ticksUntilRefresh > 0) {
+            return;
+        }
+        ticksUntilRefresh = REFRESH_INTERVAL;
+        for (TargetCandidates candidates : BY_CASTER.values()) {
+            if (candidates.activeRange >= 0) {
+                candidates.refresh();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLivingDeath(LivingDeathEvent event) {
+        LivingEntity entity = event.getEntity();
+        if (entity.level().isClientSide) {
+            for (TargetCandidates candidates : BY_CASTER.values()) {
+                candidates.remove(entity);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        BY_CASTER.keySet().removeIf(caster -> caster.level() == event.getLevel());
+    }
+}
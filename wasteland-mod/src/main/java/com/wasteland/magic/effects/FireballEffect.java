@@ -1,23 +1,18 @@
 package com.wasteland.magic.effects;
 
+import com.wasteland.combat.AreaEffectResolver;
 import com.wasteland.magic.SpellEffect;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.Explosion;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.List;
-
 /**
  * Fireball - Level 5 Fire/Conjurations spell
  * Fires an exploding ball of fire that deals damage in an area
@@ -44,58 +39,20 @@ public class FireballEffect implements SpellEffect {
         int powerBonus = spellPower / 6;
         float totalDamage = baseDamage + powerBonus;
 
-        // Create explosion visual and sound
-        level.playSound(null, BlockPos.containing(explosionPos),
-                       SoundEvents.GENERIC_EXPLODE, SoundSource.PLAYERS,
-                       4.0F, (1.0F + (level.random.nextFloat() - level.random.nextFloat()) * 0.2F) * 0.7F);
-
-        if (level instanceof ServerLevel serverLevel) {
-            // Explosion particles
-            serverLevel.sendParticles(ParticleTypes.EXPLOSION,
-                explosionPos.x, explosionPos.y + 0.5, explosionPos.z,
-                10, 0.5, 0.5, 0.5, 0.1);
-
-            serverLevel.sendParticles(ParticleTypes.FLAME,
-                explosionPos.x, explosionPos.y + 0.5, explosionPos.z,
-                50, EXPLOSION_RADIUS * 0.5, EXPLOSION_RADIUS * 0.5, EXPLOSION_RADIUS * 0.5, 0.05);
-
-            serverLevel.sendParticles(ParticleTypes.LARGE_SMOKE,
-                explosionPos.x, explosionPos.y + 0.5, explosionPos.z,
-                20, EXPLOSION_RADIUS * 0.4, EXPLOSION_RADIUS * 0.4, EXPLOSION_RADIUS * 0.4, 0.02);
-        }
-
-        // Damage all entities in radius
-        AABB explosionBox = new AABB(explosionPos.x - EXPLOSION_RADIUS, explosionPos.y - EXPLOSION_RADIUS, explosionPos.z - EXPLOSION_RADIUS,
-                                      explosionPos.x + EXPLOSION_RADIUS, explosionPos.y + EXPLOSION_RADIUS, explosionPos.z + EXPLOSION_RADIUS);
-
-        List<LivingEntity> entities = level.getEntitiesOfClass(LivingEntity.class, explosionBox);
-
-        int hitCount = 0;
-        for (LivingEntity entity : entities) {
-            if (entity == caster) {
-                continue; // Don't damage caster
-            }
-
-            // Calculate distance-based damage falloff
-            double distance = entity.position().distanceTo(explosionPos);
-            if (distance > EXPLOSION_RADIUS) {
-                continue;
-            }
-
-            double damageFactor = 1.0 - (distance / EXPLOSION_RADIUS) * 0.5; // 50% falloff at edge
-            float actualDamage = (float) (totalDamage * damageFactor);
-
-            entity.hurt(level.damageSources().magic(), actualDamage);
-
-            // Set on fire
-            entity.setSecondsOnFire(3);
-
-            hitCount++;
-            LOGGER.debug("Fireball hit {} for {} damage (distance: {}, power: {})",
-                        entity.getName().getString(), actualDamage, distance, spellPower);
-        }
-
-        LOGGER.info("Fireball exploded at {}, hit {} entities", explosionPos, hitCount);
+        // Damage, fire, sound and particles are applied with the rest of this tick's area effects
+        AreaEffectResolver.submit(level, new AreaEffectResolver.AreaEffect.Builder(explosionPos, EXPLOSION_RADIUS)
+            .damage(totalDamage, level.damageSources().magic())
+            .edgeFactor(0.5) // 50% falloff at edge
+            .exclude(caster) // Don't damage caster
+            .fire(3)
+            .sound(SoundEvents.GENERIC_EXPLODE, SoundSource.PLAYERS, 4.0F)
+            .particles(ParticleTypes.EXPLOSION, 10, 0.5, 0.1)
+            .particles(ParticleTypes.FLAME, 50, EXPLOSION_RADIUS * 0.5, 0.05)
+            .particles(ParticleTypes.LARGE_SMOKE, 20, EXPLOSION_RADIUS * 0.4, 0.02)
+            .name("Fireball")
+            .build());
+
+        LOGGER.debug("Fireball exploding at {} for up to {} damage (power: {})", explosionPos, totalDamage, spellPower);
 
         return true;
     }
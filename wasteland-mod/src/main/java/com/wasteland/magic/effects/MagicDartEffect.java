@@ -1,12 +1,14 @@
 package com.wasteland.magic.effects;
 
+import com.wasteland.combat.CombatEvent;
+import com.wasteland.combat.CombatManager;
+import com.wasteland.combat.Projectile;
 import com.wasteland.magic.SpellEffect;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
@@ -19,6 +21,8 @@ import org.apache.logging.log4j.Logger;
  */
 public class MagicDartEffect implements SpellEffect {
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final int DART_SPEED = 16; // Crosses the whole grid on the turn it is cast
+    private static final int DART_RANGE = 16;
 
     @Override
     public boolean execute(Player caster, LivingEntity target, BlockPos targetPos, Level level, int spellPower) {
@@ -31,22 +35,48 @@ public class MagicDartEffect implements SpellEffect {
         int powerBonus = spellPower / 10;
         float totalDamage = baseDamage + powerBonus;
 
-        // Apply damage
-        target.hurt(level.damageSources().magic(), totalDamage);
+        // In turn-based combat the dart flies across the grid and hits whoever is first in its path
+        CombatManager combat = CombatManager.getInstance();
+        if (combat.isInCombat() && combat.getPlayer() == caster && !caster.blockPosition().equals(target.blockPosition())) {
+            Projectile dart = new Projectile.Builder("Magic Dart",
+                    caster.getBlockX(), caster.getBlockZ(), target.getBlockX(), target.getBlockZ())
+                .owner(combat.getCombatant(caster))
+                .speed(DART_SPEED)
+                .range(DART_RANGE)
+                .color(0xB040FF)
+                .onHit((projectile, hit) -> applyHit(caster, hit.getEntity(), level, totalDamage, spellPower))
+                .build();
+            return combat.launchProjectile(dart);
+        }
+
+        applyHit(caster, target, level, totalDamage, spellPower);
 
-        // Visual and sound effects
+        // Visual effects
         if (level instanceof ServerLevel serverLevel) {
             // Particle trail from caster to target
             spawnParticleTrail(serverLevel, caster, target);
         }
 
+        return true;
+    }
+
+    /**
+     * Damage the target and play the impact sound
+     */
+    private void applyHit(Player caster, LivingEntity target, Level level, float damage, int spellPower) {
+        target.hurt(level.damageSources().magic(), damage);
+
         level.playSound(null, target.blockPosition(), SoundEvents.EVOKER_CAST_SPELL,
                        SoundSource.PLAYERS, 1.0F, 1.2F);
 
-        LOGGER.debug("Magic Dart hit {} for {} damage (power: {})",
-                    target.getName().getString(), totalDamage, spellPower);
+        CombatManager combat = CombatManager.getInstance();
+        if (combat.isInCombat()) {
+            combat.getCombatLog().add(new CombatEvent(CombatEvent.Type.PLAYER_ATTACK, level.getGameTime(),
+                caster.getId(), null, target.getId(), target.getName().getString(), damage, 0, 0, "Magic Dart"));
+        }
 
-        return true;
+        LOGGER.debug("Magic Dart hit {} for {} damage (power: {})",
+                    target.getName().getString(), damage, spellPower);
     }
 
     @Override
@@ -1,15 +1,30 @@
 package com.wasteland.monsters;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.attributes.AttributeInstance;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import com.wasteland.worldgen.AreaDifficultyManager;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Scales monster stats based on area difficulty.
  * Creates organic difficulty progression across the wasteland.
+ *
+ * Scaling is applied once per entity as permanent attribute modifiers with fixed UUIDs and
+ * marked with a persistent-data flag, so an entity re-joining the level when its chunk
+ * reloads keeps its stats instead of being scaled again on top of them.
  */
 public class MonsterScalingSystem {
 
@@ -19,24 +34,137 @@ public class MonsterScalingSystem {
     private static final double ARMOR_PER_LEVEL = 0.3;    // +0.3 armor per level
     private static final double SPEED_PER_LEVEL = 0.002;  // +0.2% speed per level
 
+    private static final int MAX_LEVEL = 30;
+
+    // Persistent-data flag set once scaling has been applied
+    private static final String SCALED_TAG = "WastelandScaled";
+
+    // ===== Attribute Modifiers =====
+
+    private static final String MODIFIER_NAME = "Wasteland area scaling";
+    private static final UUID HEALTH_MODIFIER = UUID.fromString("6f1c2a4e-3b7d-4c1a-9e2f-5a8b0d3c7e11");
+    private static final UUID DAMAGE_MODIFIER = UUID.fromString("6f1c2a4e-3b7d-4c1a-9e2f-5a8b0d3c7e12");
+    private static final UUID ARMOR_MODIFIER = UUID.fromString("6f1c2a4e-3b7d-4c1a-9e2f-5a8b0d3c7e13");
+    private static final UUID SPEED_MODIFIER = UUID.fromString("6f1c2a4e-3b7d-4c1a-9e2f-5a8b0d3c7e14");
+
+    // Modifier amounts indexed by area level (index 0 unused)
+    private static final double[] HEALTH_BONUS = bonusTable(HP_PER_LEVEL);
+    private static final double[] DAMAGE_BONUS = bonusTable(DAMAGE_PER_LEVEL);
+    private static final double[] ARMOR_BONUS = bonusTable(ARMOR_PER_LEVEL);
+    private static final double[] SPEED_BONUS = bonusTable(SPEED_PER_LEVEL);
+
+    // ===== Difficulty Cache =====
+
+    // Area difficulty per loaded chunk section (16x16x16), sampled at the first spawn in it, so
+    // cave biomes and surface biomes above them are cached separately (server thread only)
+    private static final Map<ResourceKey<Level>, Long2IntMap> SECTION_DIFFICULTY = new HashMap<>();
+
+    private static double[] bonusTable(double perLevel) {
+        double[] table = new double[MAX_LEVEL + 1];
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            table[level] = perLevel * (level - 1);
+        }
+        return table;
+    }
+
     /**
      * Scale a monster based on its spawn location difficulty
+     * @return false if the monster had already been scaled
      */
-    public static void scaleMonster(LivingEntity entity, BlockPos spawnPos, Level level) {
+    public static boolean scaleMonster(LivingEntity entity, BlockPos spawnPos, Level level) {
+        if (isScaled(entity)) {
+            return false;
+        }
+
+        // Scaled before modifiers were used: its base values already include the bonus
+        if (entity.getPersistentData().contains("AreaLevel")) {
+            entity.getPersistentData().putBoolean(SCALED_TAG, true);
+            return false;
+        }
+
         // Get area difficulty
-        int areaDifficulty = calculateAreaDifficulty(spawnPos, level);
+        int areaDifficulty = Math.max(1, Math.min(MAX_LEVEL, getAreaDifficulty(spawnPos, level)));
 
         // Apply scaling
-        scaleHealth(entity, areaDifficulty);
-        scaleDamage(entity, areaDifficulty);
-        scaleArmor(entity, areaDifficulty);
-        scaleSpeed(entity, areaDifficulty);
+        addModifier(entity, Attributes.MAX_HEALTH, HEALTH_MODIFIER, HEALTH_BONUS[areaDifficulty]);
+        addModifier(entity, Attributes.ATTACK_DAMAGE, DAMAGE_MODIFIER, DAMAGE_BONUS[areaDifficulty]);
+        addModifier(entity, Attributes.ARMOR, ARMOR_MODIFIER, ARMOR_BONUS[areaDifficulty]);
+        addModifier(entity, Attributes.MOVEMENT_SPEED, SPEED_MODIFIER, SPEED_BONUS[areaDifficulty]);
+        entity.setHealth(entity.getMaxHealth()); // Set to full health
 
         // Store level for later reference (experience, loot, etc.)
         entity.getPersistentData().putInt("AreaLevel", areaDifficulty);
+        entity.getPersistentData().putBoolean(SCALED_TAG, true);
 
         // Apply visual variant if configured
         applyVisualVariant(entity, areaDifficulty);
+        return true;
+    }
+
+    /**
+     * Whether area scaling has already been applied to an entity
+     */
+    public static boolean isScaled(LivingEntity entity) {
+        return entity.getPersistentData().getBoolean(SCALED_TAG);
+    }
+
+    /**
+     * Add a scaling modifier unless the entity already carries it (saved with the entity)
+     */
+    private static void addModifier(LivingEntity entity, Attribute attribute, UUID id, double amount) {
+        AttributeInstance instance = entity.getAttribute(attribute);
+        if (instance != null && amount != 0.0 && instance.getModifier(id) == null) {
+            instance.addPermanentModifier(new AttributeModifier(id, MODIFIER_NAME, amount,
+                AttributeModifier.Operation.ADDITION));
+        }
+    }
+
+    /**
+     * Area difficulty of the chunk section containing a position, computed once per loaded section
+     * from the first spawn position in it
+     */
+    private static int getAreaDifficulty(BlockPos pos, Level level) {
+        long section = SectionPos.asLong(pos);
+        Long2IntMap sections = SECTION_DIFFICULTY.computeIfAbsent(level.dimension(), key -> new Long2IntOpenHashMap());
+
+        int cached = sections.get(section); // 0 if not cached (levels start at 1)
+        if (cached != 0) {
+            return cached;
+        }
+
+        int difficulty = calculateAreaDifficulty(pos, level);
+        if (isDifficultyReady()) {
+            // Fallback values are not cached so the real difficulty is used once available
+            sections.put(section, difficulty);
+        }
+        return difficulty;
+    }
+
+    /**
+     * Drop the cached difficulties of an unloaded chunk's sections
+     */
+    public static void forgetChunk(Level level, ChunkPos chunkPos) {
+        Long2IntMap sections = SECTION_DIFFICULTY.get(level.dimension());
+        if (sections != null && !sections.isEmpty()) {
+            for (int y = level.getMinSection(); y < level.getMaxSection(); y++) {
+                sections.remove(SectionPos.asLong(chunkPos.x, y, chunkPos.z));
+            }
+        }
+    }
+
+    /**
+     * Drop all cached difficulties of an unloaded level
+     */
+    public static void clearDifficultyCache(Level level) {
+        SECTION_DIFFICULTY.remove(level.dimension());
+    }
+
+    private static boolean isDifficultyReady() {
+        try {
+            return AreaDifficultyManager.getInstance() != null;
+        } catch (IllegalStateException e) {
+            return false;
+        }
     }
 
     /**
@@ -62,52 +190,24 @@ public class MonsterScalingSystem {
     }
 
     /**
-     * Scale entity health based on level
+     * Max health for a base value at the given area level
      */
-    private static void scaleHealth(LivingEntity entity, int level) {
-        AttributeInstance maxHealth = entity.getAttribute(Attributes.MAX_HEALTH);
-        if (maxHealth != null) {
-            double baseHealth = maxHealth.getBaseValue();
-            double newHealth = baseHealth + (HP_PER_LEVEL * (level - 1));
-            maxHealth.setBaseValue(newHealth);
-            entity.setHealth((float)newHealth); // Set to full health
-        }
+    public static double getScaledHealth(double baseHealth, int level) {
+        return baseHealth + (HP_PER_LEVEL * (level - 1));
     }
 
     /**
-     * Scale entity damage based on level
+     * Attack damage for a base value at the given area level
      */
-    private static void scaleDamage(LivingEntity entity, int level) {
-        AttributeInstance attackDamage = entity.getAttribute(Attributes.ATTACK_DAMAGE);
-        if (attackDamage != null) {
-            double baseDamage = attackDamage.getBaseValue();
-            double newDamage = baseDamage + (DAMAGE_PER_LEVEL * (level - 1));
-            attackDamage.setBaseValue(newDamage);
-        }
+    public static double getScaledDamage(double baseDamage, int level) {
+        return baseDamage + (DAMAGE_PER_LEVEL * (level - 1));
     }
 
     /**
-     * Scale entity armor based on level
+     * Armor for a base value at the given area level
      */
-    private static void scaleArmor(LivingEntity entity, int level) {
-        AttributeInstance armor = entity.getAttribute(Attributes.ARMOR);
-        if (armor != null) {
-            double baseArmor = armor.getBaseValue();
-            double newArmor = baseArmor + (ARMOR_PER_LEVEL * (level - 1));
-            armor.setBaseValue(newArmor);
-        }
-    }
-
-    /**
-     * Scale entity speed based on level
-     */
-    private static void scaleSpeed(LivingEntity entity, int level) {
-        AttributeInstance speed = entity.getAttribute(Attributes.MOVEMENT_SPEED);
-        if (speed != null) {
-            double baseSpeed = speed.getBaseValue();
-            double newSpeed = baseSpeed + (SPEED_PER_LEVEL * (level - 1));
-            speed.setBaseValue(newSpeed);
-        }
+    public static double getScaledArmor(double baseArmor, int level) {
+        return baseArmor + (ARMOR_PER_LEVEL * (level - 1));
     }
 
     /**
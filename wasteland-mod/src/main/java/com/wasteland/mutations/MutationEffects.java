@@ -1,6 +1,8 @@
 package com.wasteland.mutations;
 
+import com.wasteland.character.ModifierStack;
 import com.wasteland.character.PlayerCharacter;
+import com.wasteland.character.StatId;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -213,6 +215,17 @@ public class MutationEffects {
         return mutations.getMutationLevel(Mutation.BERSERK_RAGE);
     }
 
+    /**
+     * Register the mutation stat modifiers DerivedStats reads (STR/DEX/INT, max HP/MP multipliers)
+     */
+    public static void contributeModifiers(UUID playerId, ModifierStack.Contribution contribution) {
+        contribution.add(StatId.STRENGTH, getStrengthModifier(playerId))
+                .add(StatId.DEXTERITY, getDexterityModifier(playerId))
+                .add(StatId.INTELLIGENCE, getIntelligenceModifier(playerId))
+                .multiply(StatId.MAX_HP_MULTIPLIER, getHPModifier(playerId))
+                .multiply(StatId.MAX_MP_MULTIPLIER, getMPModifier(playerId));
+    }
+
     /**
      * Apply all mutation effects to a player character
      * This should be called whenever mutations change
@@ -223,7 +236,8 @@ public class MutationEffects {
         // Log the application
         LOGGER.debug("Applying mutation effects to player {}", playerId);
 
-        // Note: The actual stat modifications are calculated on-the-fly when stats are retrieved
+        // Note: Stat modifications are picked up by the character's cached DerivedStats,
+        // which notice the mutation version change on their next read.
         // This method is here for future expansion (status effects, etc.)
     }
 
@@ -1,9 +1,11 @@
 package com.wasteland.mutations;
 
+import com.wasteland.character.CharacterManager;
+import com.wasteland.character.PlayerCharacter;
+import com.wasteland.player.PlayerStateStore;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
@@ -13,7 +15,7 @@ import java.util.UUID;
  */
 public class MutationManager {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<UUID, PlayerMutations> MUTATIONS = new HashMap<>();
+    private static final PlayerStateStore<PlayerMutations> MUTATIONS = PlayerStateStore.shared("mutations");
     private static final Random RANDOM = new Random();
 
     /**
@@ -139,6 +141,12 @@ public class MutationManager {
      */
     public static void removeMutations(UUID playerId) {
         MUTATIONS.remove(playerId);
+
+        // Cached stats hold the removed object, make them pick up a fresh one
+        PlayerCharacter character = CharacterManager.getCharacter(playerId);
+        if (character != null) {
+            character.invalidateDerivedStats();
+        }
         LOGGER.debug("Removed mutation data for player {}", playerId);
     }
 
@@ -1,5 +1,6 @@
 package com.wasteland.mutations;
 
+import net.minecraft.nbt.CompoundTag;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -13,6 +14,7 @@ public class PlayerMutations {
 
     private final UUID playerId;
     private final Map<Mutation, Integer> mutations; // Mutation -> Level
+    private int version; // Bumped on every change, checked by cached derived stats
 
     public PlayerMutations(UUID playerId) {
         this.playerId = playerId;
@@ -42,6 +44,7 @@ public class PlayerMutations {
 
         // Add/increase mutation
         mutations.put(mutation, currentLevel + 1);
+        version++;
         LOGGER.info("Player {} gained {} (level {})", playerId, mutation.getDisplayName(), currentLevel + 1);
         return true;
     }
@@ -64,6 +67,7 @@ public class PlayerMutations {
             mutations.put(mutation, currentLevel - 1);
             LOGGER.info("Player {} reduced {} to level {}", playerId, mutation.getDisplayName(), currentLevel - 1);
         }
+        version++;
 
         return true;
     }
@@ -112,6 +116,7 @@ public class PlayerMutations {
      */
     public void clearAllMutations() {
         mutations.clear();
+        version++;
         LOGGER.info("Cleared all mutations for player {}", playerId);
     }
 
@@ -159,7 +164,40 @@ public class PlayerMutations {
         return formatted;
     }
 
+    /**
+     * Save mutations to NBT (mutation name -> level)
+     */
+    public CompoundTag saveToNBT() {
+        CompoundTag nbt = new CompoundTag();
+        for (Map.Entry<Mutation, Integer> entry : mutations.entrySet()) {
+            nbt.putInt(entry.getKey().name(), entry.getValue());
+        }
+        return nbt;
+    }
+
+    /**
+     * Load mutations from NBT (replaces current mutations)
+     */
+    public void loadFromNBT(CompoundTag nbt) {
+        mutations.clear();
+        for (String key : nbt.getAllKeys()) {
+            try {
+                mutations.put(Mutation.valueOf(key), nbt.getInt(key));
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unknown mutation in save data: {}", key);
+            }
+        }
+        version++;
+    }
+
     public UUID getPlayerId() {
         return playerId;
     }
+
+    /**
+     * Change counter, incremented whenever a mutation is gained or lost
+     */
+    public int getVersion() {
+        return version;
+    }
 }
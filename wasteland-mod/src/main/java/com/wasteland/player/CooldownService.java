@@ -0,0 +1,129 @@
+package com.wasteland.player;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cooldowns for divine abilities and portals.
+ *
+ * Each cooldown is stored as the absolute game time it is ready at, keyed by player and
+ * an int cooldown key, so checking one is a subtraction and nothing is updated per tick.
+ * A key holds at most one entry per player (reuse overwrites it). Running cooldowns are
+ * saved in the player file as remaining ticks under their name (int keys are only stable
+ * within one run) and restored on login, so relogging does not reset them.
+ */
+public final class CooldownService {
+
+    // Cooldown name -> int key, assigned on first registration
+    private static final Map<String, Integer> KEYS = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> NAMES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_KEY = new AtomicInteger();
+
+    // Per player: cooldown key -> game time it is ready at
+    private static final PlayerStateStore<Int2LongMap> READY_AT = PlayerStateStore.sided("cooldowns");
+
+    private CooldownService() {}
+
+    /**
+     * Get the int key for a named cooldown (the same name always gives the same key)
+     */
+    public static int register(String name) {
+        return KEYS.computeIfAbsent(name, n -> {
+            int key = NEXT_KEY.getAndIncrement();
+            NAMES.put(key, n);
+            return key;
+        });
+    }
+
+    /**
+     * Start a cooldown lasting the given number of ticks from now
+     */
+    public static void start(Player player, int key, int ticks) {
+        start(player.getUUID(), key, player.level().getGameTime(), ticks);
+    }
+
+    /**
+     * Start a cooldown lasting the given number of ticks from gameTime
+     */
+    public static void start(UUID playerId, int key, long gameTime, int ticks) {
+        READY_AT.computeIfAbsent(playerId, id -> new Int2LongOpenHashMap()).put(key, gameTime + ticks);
+    }
+
+    /**
+     * Check if a cooldown has run out (or was never started)
+     */
+    public static boolean isReady(Player player, int key) {
+        return getRemainingTicks(player, key) == 0;
+    }
+
+    /**
+     * Get the ticks left on a cooldown (0 when ready)
+     */
+    public static int getRemainingTicks(Player player, int key) {
+        return getRemainingTicks(player.getUUID(), key, player.level().getGameTime());
+    }
+
+    /**
+     * Get the ticks left on a cooldown at gameTime (0 when ready)
+     */
+    public static int getRemainingTicks(UUID playerId, int key, long gameTime) {
+        Int2LongMap cooldowns = READY_AT.get(playerId);
+        if (cooldowns == null) {
+            return 0;
+        }
+        long readyAt = cooldowns.get(key); // 0 if never started
+        return (int) Math.max(0, readyAt - gameTime);
+    }
+
+    /**
+     * End one cooldown early
+     */
+    public static void reset(UUID playerId, int key) {
+        Int2LongMap cooldowns = READY_AT.get(playerId);
+        if (cooldowns != null) {
+            cooldowns.remove(key);
+        }
+    }
+
+    /**
+     * Drop all of a player's cooldowns
+     */
+    public static void clear(UUID playerId) {
+        READY_AT.remove(playerId);
+    }
+
+    // ===== Persistence =====
+
+    /**
+     * Save a player's running cooldowns as ticks remaining at gameTime
+     */
+    public static CompoundTag save(UUID playerId, CompoundTag tag, long gameTime) {
+        Int2LongMap cooldowns = READY_AT.get(playerId);
+        if (cooldowns != null) {
+            for (Int2LongMap.Entry entry : cooldowns.int2LongEntrySet()) {
+                long remaining = entry.getLongValue() - gameTime;
+                if (remaining > 0) {
+                    tag.putInt(NAMES.get(entry.getIntKey()), (int) remaining);
+                }
+            }
+        }
+        return tag;
+    }
+
+    /**
+     * Restore a player's cooldowns, counting the saved remaining ticks from gameTime
+     */
+    public static void load(UUID playerId, CompoundTag tag, long gameTime) {
+        READY_AT.remove(playerId);
+        for (String name : tag.getAllKeys()) {
+            start(playerId, register(name), gameTime, tag.getInt(name));
+        }
+    }
+}
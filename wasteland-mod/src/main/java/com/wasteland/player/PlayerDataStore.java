@@ -0,0 +1,291 @@
+package com.wasteland.player;
+
+import com.wasteland.DungeonProgression;
+import com.wasteland.WastelandMod;
+import com.wasteland.character.CharacterManager;
+import com.wasteland.magic.SpellManager;
+import com.wasteland.mutations.MutationManager;
+import com.wasteland.religion.ReligionManager;
+import com.wasteland.statuseffects.StatusEffectManager;
+import com.wasteland.worldgen.WastelandSavedData;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStartingEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player persistence: one compressed NBT file per player under
+ * <world>/wasteland/players/<uuid>.dat holding their character, spells, mutations,
+ * status effects, religion, equipment, runes, cooldowns and dungeon progression.
+ *
+ * Data is loaded on login and saved on logout and on world saves (online players only,
+ * skipped if nothing changed). Snapshots are taken on the server thread; compression and
+ * file I/O run on a single background thread, so save time no longer grows with the
+ * number of players who have ever joined. World-global data stays in WastelandSavedData.
+ */
+@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class PlayerDataStore {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int DATA_VERSION = 1;
+
+    // Background writer, one file at a time in submission order
+    private static final ExecutorService IO = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Wasteland Player Data IO");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Snapshots handed to the writer but not yet on disk (a quick re-login reads these first)
+    private static final Map<UUID, CompoundTag> PENDING = new ConcurrentHashMap<>();
+
+    // Last snapshot written per online player, to skip unchanged saves (server thread only)
+    private static final Map<UUID, CompoundTag> LAST_SAVED = new HashMap<>();
+
+    private static Path directory;
+    private static MinecraftServer server;
+
+    // ===== Event handlers =====
+
+    @SubscribeEvent
+    public static void onServerStarting(ServerStartingEvent event) {
+        server = event.getServer();
+        directory = server.getWorldPath(LevelResource.ROOT).resolve("wasteland").resolve("players");
+        LAST_SAVED.clear();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            LOGGER.error("Could not create player data directory {}", directory, e);
+        }
+
+        // Load world-global data before anyone logs in, then move any per-player
+        // records still stored in it (older saves) into player files
+        WastelandSavedData data = WastelandSavedData.get(server.overworld());
+        if (data.hasLegacyPlayerData()) {
+            migrateLegacyPlayerData();
+            data.clearLegacyPlayerData();
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGH)
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            load(player.getUUID());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            UUID playerId = player.getUUID();
+            save(playerId);
+            unload(playerId);
+            LAST_SAVED.remove(playerId);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelSave(LevelEvent.Save event) {
+        // Fired once per dimension; only save players once per world save
+        if (event.getLevel() instanceof ServerLevel level && level.dimension() == Level.OVERWORLD) {
+            saveOnlinePlayers(level.getServer());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        saveOnlinePlayers(event.getServer());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        flush();
+        directory = null;
+        server = null;
+    }
+
+    // ===== Save / load =====
+
+    /**
+     * Snapshot a player's data and queue it for writing (no-op if unchanged since the last save)
+     */
+    public static void save(UUID playerId) {
+        if (directory == null) {
+            return;
+        }
+
+        CompoundTag snapshot = snapshot(playerId);
+        if (snapshot.equals(LAST_SAVED.get(playerId))) {
+            return;
+        }
+        LAST_SAVED.put(playerId, snapshot);
+        PENDING.put(playerId, snapshot);
+
+        Path file = directory.resolve(playerId + ".dat");
+        IO.execute(() -> write(playerId, snapshot, file));
+    }
+
+    /**
+     * Load a player's data into the managers (from a pending write if there is one, else from disk)
+     */
+    public static void load(UUID playerId) {
+        CompoundTag tag = PENDING.get(playerId);
+        if (tag == null) {
+            Path file = directory != null ? directory.resolve(playerId + ".dat") : null;
+            if (file == null || !Files.exists(file)) {
+                return; // New player
+            }
+            try {
+                tag = NbtIo.readCompressed(file.toFile());
+            } catch (IOException e) {
+                LOGGER.error("Failed to read player data for {}", playerId, e);
+                return;
+            }
+        }
+
+        apply(playerId, tag);
+        LOGGER.info("Loaded Wasteland player data for {}", playerId);
+    }
+
+    /**
+     * Block until all queued writes are on disk
+     */
+    public static void flush() {
+        try {
+            IO.submit(() -> { }).get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            LOGGER.error("Timed out waiting for player data writes", e);
+        }
+    }
+
+    private static void saveOnlinePlayers(MinecraftServer server) {
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            save(player.getUUID());
+        }
+    }
+
+    /**
+     * Build a self-contained snapshot of a player's data (server thread)
+     */
+    private static CompoundTag snapshot(UUID playerId) {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("DataVersion", DATA_VERSION);
+
+        CompoundTag character = CharacterManager.saveCharacter(playerId);
+        if (character != null) {
+            tag.put("Character", character);
+        }
+        tag.put("Spells", SpellManager.getInstance(playerId).saveToNBT());
+        tag.put("Mutations", MutationManager.getMutations(playerId).saveToNBT());
+        tag.put("StatusEffects", StatusEffectManager.getEffects(playerId).saveToNBT());
+        tag.put("Religion", ReligionManager.getReligion(playerId).saveToNBT());
+        tag.put("Equipment", com.wasteland.loot.EquipmentManager.getInstance().savePlayerEquipment(playerId));
+        tag.put("Runes", RuneInventory.save(playerId, new CompoundTag()));
+        tag.put("Cooldowns", CooldownService.save(playerId, new CompoundTag(), gameTime()));
+        tag.put("Progression", DungeonProgression.save(playerId, new CompoundTag()));
+        return tag;
+    }
+
+    /**
+     * Restore a snapshot into the managers (character first, equipment updates its stats)
+     */
+    private static void apply(UUID playerId, CompoundTag tag) {
+        if (tag.contains("Character")) {
+            CharacterManager.loadCharacter(playerId, tag.getCompound("Character"));
+        }
+        SpellManager.getInstance(playerId).loadFromNBT(tag.getCompound("Spells"));
+        MutationManager.getMutations(playerId).loadFromNBT(tag.getCompound("Mutations"));
+        StatusEffectManager.getEffects(playerId).loadFromNBT(tag.getCompound("StatusEffects"));
+        ReligionManager.getReligion(playerId).loadFromNBT(tag.getCompound("Religion"));
+        com.wasteland.loot.EquipmentManager.getInstance().loadPlayerEquipment(playerId, tag.getCompound("Equipment"));
+        RuneInventory.unload(playerId);
+        RuneInventory.load(playerId, tag.getCompound("Runes"));
+        CooldownService.load(playerId, tag.getCompound("Cooldowns"), gameTime());
+        DungeonProgression.load(playerId, tag.getCompound("Progression"));
+    }
+
+    /**
+     * Drop a player's data from every manager (after it has been snapshotted)
+     */
+    private static void unload(UUID playerId) {
+        CharacterManager.unloadCharacter(playerId);
+        SpellManager.removePlayer(playerId);
+        MutationManager.removeMutations(playerId);
+        StatusEffectManager.removeEffects(playerId);
+        ReligionManager.removeReligion(playerId);
+        com.wasteland.loot.EquipmentManager.getInstance().removePlayer(playerId);
+        RuneInventory.unload(playerId);
+        CooldownService.clear(playerId);
+        DungeonProgression.unload(playerId);
+    }
+
+    /**
+     * Current game time (shared by all dimensions), which cooldowns are counted against
+     */
+    private static long gameTime() {
+        return server != null ? server.overworld().getGameTime() : 0;
+    }
+
+    /**
+     * Write players' runes/progression loaded from an old world-wide save into their own files
+     */
+    private static void migrateLegacyPlayerData() {
+        Set<UUID> players = new HashSet<>(RuneInventory.getTrackedPlayers());
+        players.addAll(DungeonProgression.getTrackedPlayers());
+
+        for (UUID playerId : players) {
+            if (!Files.exists(directory.resolve(playerId + ".dat"))) {
+                save(playerId);
+            }
+            unload(playerId);
+            LAST_SAVED.remove(playerId);
+        }
+        LOGGER.info("Migrated {} players' data to per-player files", players.size());
+    }
+
+    /**
+     * Compress and write one snapshot (background thread); the temp file keeps a crash from truncating saves
+     */
+    private static void write(UUID playerId, CompoundTag snapshot, Path file) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            NbtIo.writeCompressed(snapshot, temp.toFile());
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            PENDING.remove(playerId, snapshot);
+        } catch (IOException e) {
+            // Keep the snapshot pending so a re-login still sees the latest data
+            LOGGER.error("Failed to write player data for {}", playerId, e);
+        }
+    }
+}
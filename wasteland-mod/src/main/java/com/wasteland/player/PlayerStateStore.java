@@ -0,0 +1,200 @@
+package com.wasteland.player;
+
+import com.wasteland.WastelandMod;
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.loading.FMLEnvironment;
+import net.minecraftforge.fml.util.thread.EffectiveSide;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Per-player state keyed by UUID, used by the managers in place of plain static HashMaps.
+ *
+ * Backed by ConcurrentHashMaps: reads never lock, and iterating while another thread
+ * (or a callback during the loop) adds a player no longer throws ConcurrentModificationException.
+ * A sided store keeps separate maps for the logical client and server, picked by the calling
+ * thread, so the integrated server and the client never see each other's entries. A shared
+ * store uses one map for both, for state the client GUI still reads and writes directly
+ * (there is no network sync yet). Shared stores only make the map itself safe: both threads
+ * still see and mutate the same value objects, which are not thread-safe, so they do not
+ * stop cross-side leakage. Moving them to sided stores needs server-side handling of the
+ * GUI's writes plus a sync back to the client (see TODO.md, Client/Server Sync).
+ *
+ * Entries are dropped on the server when a player logs out (after PlayerDataStore has saved
+ * them) and when the server stops; client entries are dropped when the client disconnects.
+ */
+@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class PlayerStateStore<T> {
+    private static final List<PlayerStateStore<?>> STORES = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final Map<UUID, T> server = new ConcurrentHashMap<>();
+    private final Map<UUID, T> client; // Same map as server for shared stores
+
+    private PlayerStateStore(String name, boolean sided) {
+        this.name = name;
+        this.client = sided ? new ConcurrentHashMap<>() : server;
+        STORES.add(this);
+    }
+
+    /**
+     * Create a store with separate client and server state
+     */
+    public static <T> PlayerStateStore<T> sided(String name) {
+        return new PlayerStateStore<>(name, true);
+    }
+
+    /**
+     * Create a store whose state both sides see (client GUI writes it directly). The values
+     * are shared between threads as-is, so this only protects the map, not their contents.
+     */
+    public static <T> PlayerStateStore<T> shared(String name) {
+        return new PlayerStateStore<>(name, false);
+    }
+
+    /**
+     * Logical side of the calling thread (always SERVER on a dedicated server)
+     */
+    public static LogicalSide currentSide() {
+        return FMLEnvironment.dist.isDedicatedServer() ? LogicalSide.SERVER : EffectiveSide.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isSided() {
+        return client != server;
+    }
+
+    // ===== Map operations on the calling thread's side =====
+
+    public T get(UUID playerId) {
+        return map().get(playerId);
+    }
+
+    public T getOrDefault(UUID playerId, T defaultValue) {
+        return map().getOrDefault(playerId, defaultValue);
+    }
+
+    public boolean containsKey(UUID playerId) {
+        return map().containsKey(playerId);
+    }
+
+    /**
+     * Get or atomically create a player's state (the factory must not touch this store)
+     */
+    public T computeIfAbsent(UUID playerId, Function<? super UUID, ? extends T> factory) {
+        return map().computeIfAbsent(playerId, factory);
+    }
+
+    public T put(UUID playerId, T value) {
+        return map().put(playerId, value);
+    }
+
+    public T remove(UUID playerId) {
+        return map().remove(playerId);
+    }
+
+    public int size() {
+        return map().size();
+    }
+
+    public void clear() {
+        map().clear();
+    }
+
+    /**
+     * Live read-only view of the players with state (safe to iterate while it changes)
+     */
+    public Set<UUID> keySet() {
+        return Collections.unmodifiableSet(map().keySet());
+    }
+
+    /**
+     * Live read-only view of the state values (safe to iterate while it changes)
+     */
+    public Collection<T> values() {
+        return Collections.unmodifiableCollection(map().values());
+    }
+
+    /**
+     * Live read-only view of the entries (safe to iterate while it changes)
+     */
+    public Set<Map.Entry<UUID, T>> entrySet() {
+        return Collections.unmodifiableMap(map()).entrySet();
+    }
+
+    /**
+     * Point-in-time copy of this side's state
+     */
+    public Map<UUID, T> snapshot() {
+        return new HashMap<>(map());
+    }
+
+    private Map<UUID, T> map() {
+        return currentSide() == LogicalSide.SERVER ? server : client;
+    }
+
+    // ===== Cleanup =====
+
+    /**
+     * Drop a player from every store on the server side
+     */
+    public static void removePlayer(UUID playerId) {
+        for (PlayerStateStore<?> store : STORES) {
+            store.server.remove(playerId);
+        }
+    }
+
+    // Runs after every other logout handler, so PlayerDataStore has already saved the player
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        removePlayer(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onServerStopped(ServerStoppedEvent event) {
+        for (PlayerStateStore<?> store : STORES) {
+            store.server.clear();
+        }
+    }
+
+    /**
+     * Client-side cleanup, kept in its own class so the dedicated server never loads Minecraft
+     */
+    @Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+    public static class ClientCleanup {
+
+        /**
+         * Drop client state on disconnect. Shared stores are left to the integrated
+         * server's own logout handling, which still has to save them.
+         */
+        @SubscribeEvent
+        public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+            boolean localServer = Minecraft.getInstance().isLocalServer();
+            for (PlayerStateStore<?> store : STORES) {
+                if (store.isSided() || !localServer) {
+                    store.client.clear();
+                }
+            }
+        }
+    }
+}
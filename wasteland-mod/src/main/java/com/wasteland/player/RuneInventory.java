@@ -16,7 +16,7 @@ import java.util.*;
  */
 public class RuneInventory {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<UUID, Set<RuneType>> PLAYER_RUNES = new HashMap<>();
+    private static final PlayerStateStore<Set<RuneType>> PLAYER_RUNES = PlayerStateStore.sided("runes");
 
     /**
      * Add a rune to player's collection
@@ -142,35 +142,30 @@ public class RuneInventory {
     }
 
     /**
-     * Clear all data (for world reload)
+     * Drop a player's runes from memory once they have been saved (player logged out)
      */
-    public static void clearAll() {
-        PLAYER_RUNES.clear();
-        LOGGER.info("Cleared all rune inventory data");
+    public static void unload(UUID playerId) {
+        PLAYER_RUNES.remove(playerId);
     }
 
     /**
-     * Save all players' runes to NBT
+     * Players with rune data in memory
      */
-    public static CompoundTag save(CompoundTag tag) {
-        CompoundTag playersTag = new CompoundTag();
-
-        for (Map.Entry<UUID, Set<RuneType>> entry : PLAYER_RUNES.entrySet()) {
-            if (!entry.getValue().isEmpty()) {
-                CompoundTag playerTag = new CompoundTag();
-                save(entry.getKey(), playerTag);
-                playersTag.put(entry.getKey().toString(), playerTag);
-            }
-        }
+    public static Set<UUID> getTrackedPlayers() {
+        return new HashSet<>(PLAYER_RUNES.keySet());
+    }
 
-        tag.put("Players", playersTag);
-        tag.putInt("PlayerCount", playersTag.size());
-        LOGGER.debug("Saved rune data for {} players", playersTag.size());
-        return tag;
+    /**
+     * Clear all data (for world reload)
+     */
+    public static void clearAll() {
+        PLAYER_RUNES.clear();
+        LOGGER.info("Cleared all rune inventory data");
     }
 
     /**
-     * Load all players' runes from NBT
+     * Load all players' runes from the world-wide data of older saves
+     * (kept only so PlayerDataStore can migrate it into per-player files)
      */
     public static void load(CompoundTag tag) {
         clearAll();
@@ -2,15 +2,15 @@ package com.wasteland.religion;
 
 import com.wasteland.character.CharacterManager;
 import com.wasteland.character.PlayerCharacter;
+import com.wasteland.player.CooldownService;
 import com.wasteland.statuseffects.StatusEffect;
 import com.wasteland.statuseffects.StatusEffectManager;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -19,9 +19,6 @@ import java.util.UUID;
 public class AbilityInvoker {
     private static final Logger LOGGER = LogManager.getLogger();
 
-    // Cooldowns: playerId -> (abilityId -> ticksRemaining)
-    private static final Map<UUID, Map<String, Integer>> COOLDOWNS = new HashMap<>();
-
     /**
      * Try to invoke a divine ability
      * Returns true if successful, false if failed (with error message sent to player)
@@ -40,7 +37,7 @@ public class AbilityInvoker {
         }
 
         // Check if this ability belongs to the player's god
-        if (!GodAbilities.getAbilities(currentGod).contains(ability)) {
+        if (!GodAbilities.grants(currentGod, ability)) {
             player.displayClientMessage(Component.literal("§cThis ability is not granted by your god!"), true);
             return false;
         }
@@ -55,8 +52,8 @@ public class AbilityInvoker {
         }
 
         // Check cooldown
-        if (isOnCooldown(playerId, ability.getId())) {
-            int remaining = getCooldownTicks(playerId, ability.getId());
+        if (isOnCooldown(player, ability)) {
+            int remaining = getCooldownTicks(player, ability);
             player.displayClientMessage(Component.literal(
                 String.format("§c%s is on cooldown! (%d seconds)",
                     ability.getName(), remaining / 20)), true);
@@ -82,7 +79,7 @@ public class AbilityInvoker {
             // Set cooldown based on ability type
             int cooldown = getCooldownForAbility(ability);
             if (cooldown > 0) {
-                setCooldown(playerId, ability.getId(), cooldown);
+                setCooldown(player, ability, cooldown);
             }
 
             // Success message
@@ -279,43 +276,28 @@ public class AbilityInvoker {
     /**
      * Check if an ability is on cooldown
      */
-    public static boolean isOnCooldown(UUID playerId, String abilityId) {
-        Map<String, Integer> playerCooldowns = COOLDOWNS.get(playerId);
-        if (playerCooldowns == null) return false;
-        Integer remaining = playerCooldowns.get(abilityId);
-        return remaining != null && remaining > 0;
+    public static boolean isOnCooldown(Player player, DivineAbility ability) {
+        return !CooldownService.isReady(player, ability.getCooldownKey());
     }
 
     /**
      * Get remaining cooldown ticks
      */
-    public static int getCooldownTicks(UUID playerId, String abilityId) {
-        Map<String, Integer> playerCooldowns = COOLDOWNS.get(playerId);
-        if (playerCooldowns == null) return 0;
-        return playerCooldowns.getOrDefault(abilityId, 0);
+    public static int getCooldownTicks(Player player, DivineAbility ability) {
+        return CooldownService.getRemainingTicks(player, ability.getCooldownKey());
     }
 
     /**
      * Set cooldown for an ability
      */
-    public static void setCooldown(UUID playerId, String abilityId, int ticks) {
-        Map<String, Integer> playerCooldowns = COOLDOWNS.computeIfAbsent(playerId, k -> new HashMap<>());
-        playerCooldowns.put(abilityId, ticks);
-    }
-
-    /**
-     * Update all cooldowns (call from server tick event)
-     */
-    public static void tickCooldowns() {
-        for (Map<String, Integer> playerCooldowns : COOLDOWNS.values()) {
-            playerCooldowns.replaceAll((id, ticks) -> Math.max(0, ticks - 1));
-        }
+    public static void setCooldown(Player player, DivineAbility ability, int ticks) {
+        CooldownService.start(player, ability.getCooldownKey(), ticks);
     }
 
     /**
      * Clear cooldowns for a player (cleanup)
      */
     public static void clearCooldowns(UUID playerId) {
-        COOLDOWNS.remove(playerId);
+        CooldownService.clear(playerId);
     }
 }
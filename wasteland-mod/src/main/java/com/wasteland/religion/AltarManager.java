@@ -7,8 +7,8 @@ import net.minecraft.world.level.block.Blocks;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages altar locations and god assignments
@@ -18,7 +18,7 @@ public class AltarManager {
     private static final Logger LOGGER = LogManager.getLogger();
 
     // Map of altar positions to gods
-    private static final Map<BlockPos, God> ALTARS = new HashMap<>();
+    private static final Map<BlockPos, God> ALTARS = new ConcurrentHashMap<>();
 
     /**
      * Register an altar at a position
@@ -1,5 +1,7 @@
 package com.wasteland.religion;
 
+import com.wasteland.player.CooldownService;
+
 /**
  * Divine abilities granted by gods at various piety levels
  */
@@ -11,6 +13,8 @@ public class DivineAbility {
     private final int maxPiety; // -1 means no max
     private final int invocationCost; // 0 means passive ability
     private final AbilityType type;
+    private final int cooldownKey; // CooldownService key
+    private int index = -1; // Assigned by GodAbilities when it freezes
 
     public DivineAbility(String id, String name, String description, int minPiety, int maxPiety,
                         int invocationCost, AbilityType type) {
@@ -21,6 +25,7 @@ public class DivineAbility {
         this.maxPiety = maxPiety;
         this.invocationCost = invocationCost;
         this.type = type;
+        this.cooldownKey = CooldownService.register("ability." + id);
     }
 
     public String getId() {
@@ -51,6 +56,21 @@ public class DivineAbility {
         return type;
     }
 
+    public int getCooldownKey() {
+        return cooldownKey;
+    }
+
+    /**
+     * Compact registry index, -1 until GodAbilities is frozen
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     public boolean isPassive() {
         return invocationCost == 0;
     }
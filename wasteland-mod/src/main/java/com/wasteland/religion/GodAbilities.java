@@ -8,10 +8,42 @@ import java.util.*;
 /**
  * Registry of divine abilities for each god
  * Based on DCSS god powers
+ *
+ * After registration the registry is frozen: every ability gets an int index, each god
+ * gets a BitSet of the abilities it grants, and the abilities available at each piety are
+ * precomputed per god as a few piety bands, so getAvailableAbilities is a binary search.
  */
 public class GodAbilities {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<God, List<DivineAbility>> GOD_ABILITIES = new HashMap<>();
+    private static final Map<God, List<DivineAbility>> GOD_ABILITIES = new EnumMap<>(God.class);
+
+    // Frozen tables
+    private static DivineAbility[] byIndex = new DivineAbility[0];
+    private static final Map<String, DivineAbility> BY_ID = new HashMap<>();
+    private static final Map<God, BitSet> GRANTED = new EnumMap<>(God.class);
+    private static final Map<God, PietyBands> AVAILABLE = new EnumMap<>(God.class);
+
+    /**
+     * A god's available abilities for each range of piety: bands[i] applies from
+     * starts[i] up to (not including) starts[i + 1]
+     */
+    private static final class PietyBands {
+        final int[] starts;
+        final List<List<DivineAbility>> bands;
+
+        PietyBands(int[] starts, List<List<DivineAbility>> bands) {
+            this.starts = starts;
+            this.bands = bands;
+        }
+
+        List<DivineAbility> at(int piety) {
+            int i = Arrays.binarySearch(starts, piety);
+            if (i < 0) {
+                i = -i - 2; // Band starting below piety
+            }
+            return i >= 0 ? bands.get(i) : Collections.emptyList();
+        }
+    }
 
     /**
      * Register all god abilities
@@ -40,23 +72,100 @@ public class GodAbilities {
     }
 
     /**
-     * Get abilities for a god
+     * Index all abilities and build the per-god lookup tables (call after registerAbilities)
+     */
+    public static void freeze() {
+        List<DivineAbility> all = new ArrayList<>();
+        BY_ID.clear();
+        GRANTED.clear();
+        AVAILABLE.clear();
+
+        for (Map.Entry<God, List<DivineAbility>> entry : GOD_ABILITIES.entrySet()) {
+            List<DivineAbility> abilities = Collections.unmodifiableList(new ArrayList<>(entry.getValue()));
+            entry.setValue(abilities);
+
+            BitSet granted = new BitSet();
+            for (DivineAbility ability : abilities) {
+                ability.setIndex(all.size());
+                all.add(ability);
+                BY_ID.put(ability.getId(), ability);
+                granted.set(ability.getIndex());
+            }
+            GRANTED.put(entry.getKey(), granted);
+            AVAILABLE.put(entry.getKey(), buildPietyBands(abilities));
+        }
+
+        byIndex = all.toArray(new DivineAbility[0]);
+        LOGGER.info("Froze {} divine abilities", byIndex.length);
+    }
+
+    /**
+     * Split the piety range at every ability's min and max so each band has a fixed ability list
+     */
+    private static PietyBands buildPietyBands(List<DivineAbility> abilities) {
+        TreeSet<Integer> breaks = new TreeSet<>();
+        breaks.add(Integer.MIN_VALUE);
+        for (DivineAbility ability : abilities) {
+            breaks.add(ability.getMinPiety());
+            if (ability.getMaxPiety() != -1) {
+                breaks.add(ability.getMaxPiety() + 1);
+            }
+        }
+
+        int[] starts = new int[breaks.size()];
+        List<List<DivineAbility>> bands = new ArrayList<>(breaks.size());
+        int i = 0;
+        for (int start : breaks) {
+            starts[i++] = start;
+            List<DivineAbility> available = new ArrayList<>();
+            for (DivineAbility ability : abilities) {
+                if (ability.isAvailableAtPiety(start)) {
+                    available.add(ability);
+                }
+            }
+            bands.add(Collections.unmodifiableList(available));
+        }
+        return new PietyBands(starts, bands);
+    }
+
+    /**
+     * Get abilities for a god (read-only)
      */
     public static List<DivineAbility> getAbilities(God god) {
         return GOD_ABILITIES.getOrDefault(god, Collections.emptyList());
     }
 
     /**
-     * Get available abilities at current piety
+     * Get available abilities at current piety (read-only)
      */
     public static List<DivineAbility> getAvailableAbilities(God god, int piety) {
-        List<DivineAbility> available = new ArrayList<>();
-        for (DivineAbility ability : getAbilities(god)) {
-            if (ability.isAvailableAtPiety(piety)) {
-                available.add(ability);
-            }
+        PietyBands bands = AVAILABLE.get(god);
+        if (bands == null) {
+            return Collections.emptyList();
         }
-        return available;
+        return bands.at(piety);
+    }
+
+    /**
+     * Check if a god grants an ability (one bit test)
+     */
+    public static boolean grants(God god, DivineAbility ability) {
+        BitSet granted = GRANTED.get(god);
+        return granted != null && ability.getIndex() >= 0 && granted.get(ability.getIndex());
+    }
+
+    /**
+     * Get an ability by its index (null if out of range)
+     */
+    public static DivineAbility getAbility(int index) {
+        return index >= 0 && index < byIndex.length ? byIndex[index] : null;
+    }
+
+    /**
+     * Get an ability by ID
+     */
+    public static DivineAbility getAbility(String id) {
+        return BY_ID.get(id);
     }
 
     // ==== TROG - God of Anger ====
@@ -166,13 +166,12 @@ public class PietyEvents {
     }
 
     /**
-     * Handle player leaving - save religion data
+     * Handle player leaving - religion data is saved with the rest of the player's data
      */
     @SubscribeEvent
     public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
-        // Religion data is kept in memory for reconnection
-        // In a full implementation, this would save to disk/database
-        LOGGER.debug("Player {} logged out, religion data retained",
+        // PlayerDataStore writes religion to the player's data file and unloads it
+        LOGGER.debug("Player {} logged out, religion data saved to player file",
                     event.getEntity().getUUID());
     }
 
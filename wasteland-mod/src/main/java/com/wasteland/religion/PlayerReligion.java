@@ -1,5 +1,6 @@
 package com.wasteland.religion;
 
+import net.minecraft.nbt.CompoundTag;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -146,6 +147,31 @@ public class PlayerReligion {
         return ability.isAvailableAtPiety(piety);
     }
 
+    /**
+     * Save religion to NBT
+     */
+    public CompoundTag saveToNBT() {
+        CompoundTag nbt = new CompoundTag();
+        nbt.putString("God", god.name());
+        nbt.putInt("Piety", piety);
+        nbt.putBoolean("Abandoned", abandoned);
+        return nbt;
+    }
+
+    /**
+     * Load religion from NBT
+     */
+    public void loadFromNBT(CompoundTag nbt) {
+        try {
+            god = God.valueOf(nbt.getString("God"));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown god in save data for player {}: {}", playerId, nbt.getString("God"));
+            god = God.NONE;
+        }
+        piety = nbt.getInt("Piety");
+        abandoned = nbt.getBoolean("Abandoned");
+    }
+
     // Getters
     public UUID getPlayerId() {
         return playerId;
@@ -1,9 +1,9 @@
 package com.wasteland.religion;
 
+import com.wasteland.player.PlayerStateStore;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -12,7 +12,7 @@ import java.util.UUID;
  */
 public class ReligionManager {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<UUID, PlayerReligion> RELIGIONS = new HashMap<>();
+    private static final PlayerStateStore<PlayerReligion> RELIGIONS = PlayerStateStore.shared("religions");
 
     /**
      * Get or create player religion
@@ -97,6 +97,6 @@ public class ReligionManager {
      * Get all religions (for debugging)
      */
     public static Map<UUID, PlayerReligion> getAllReligions() {
-        return new HashMap<>(RELIGIONS);
+        return RELIGIONS.snapshot();
     }
 }
@@ -0,0 +1,253 @@
+package com.wasteland.simulation;
+
+import com.wasteland.WastelandRandom;
+import com.wasteland.character.Race;
+import com.wasteland.entity.RobotTemplate;
+import com.wasteland.equipment.WeaponType;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Monte Carlo combat balance runner. Runs seeded fights for every
+ * race x weapon x depth scenario on a ForkJoin pool and writes CSV reports.
+ * No Minecraft client or server is started; run it with ./gradlew simulateBalance.
+ *
+ * Arguments (all optional):
+ *   --fights N      fights per scenario (default 2000)
+ *   --seed S        base seed (default 1)
+ *   --depths a,b,c  dungeon depths (default 1,5,10,15,20,27)
+ *   --races ...     race names or ALL (default ALL)
+ *   --weapons ...   weapon names, UNARMED, or ALL (default ALL)
+ *   --pack N        enemies per fight (default 1)
+ *   --threads N     worker threads (default: all cores)
+ *   --out FILE      scenario CSV (default build/reports/balance/combat-balance.csv)
+ */
+public class BalanceRunner {
+
+    // Fights per leaf task; leaves are seeded by their index so results don't depend on scheduling
+    private static final int CHUNK = 4096;
+
+    /**
+     * One race/weapon/depth combination
+     */
+    private static final class Scenario {
+        final int index;
+        final PlayerStatBlock player;
+        final MonsterStatBlock[] roster;
+        final int depth;
+        final FightStats stats = new FightStats();
+
+        Scenario(int index, PlayerStatBlock player, MonsterStatBlock[] roster, int depth) {
+            this.index = index;
+            this.player = player;
+            this.roster = roster;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Runs fights [from, to) of one scenario, splitting on CHUNK boundaries
+     */
+    private static final class FightTask extends RecursiveTask<FightStats> {
+        private final Scenario scenario;
+        private final long seed;
+        private final int packSize;
+        private final int from;
+        private final int to;
+
+        FightTask(Scenario scenario, long seed, int packSize, int from, int to) {
+            this.scenario = scenario;
+            this.seed = seed;
+            this.packSize = packSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected FightStats compute() {
+            if (to - from <= CHUNK) {
+                FightStats stats = new FightStats();
+                WastelandRandom random = new WastelandRandom(seed).derive(scenario.index).derive(from / CHUNK);
+                float[] scratch = new float[packSize];
+                for (int i = from; i < to; i++) {
+                    MonsterStatBlock enemy = scenario.roster[random.nextInt(scenario.roster.length)];
+                    CombatSimulator.fight(scenario.player, enemy, packSize, random, scratch, stats);
+                }
+                return stats;
+            }
+
+            int chunks = (to - from + CHUNK - 1) / CHUNK;
+            int mid = from + (chunks / 2) * CHUNK;
+            FightTask left = new FightTask(scenario, seed, packSize, from, mid);
+            FightTask right = new FightTask(scenario, seed, packSize, mid, to);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseArgs(args);
+        int fights = Integer.parseInt(options.getOrDefault("fights", "2000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        int packSize = Integer.parseInt(options.getOrDefault("pack", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+            Integer.toString(Runtime.getRuntime().availableProcessors())));
+        Path out = Paths.get(options.getOrDefault("out", "build/reports/balance/combat-balance.csv"));
+
+        List<Integer> depths = new ArrayList<>();
+        for (String depth : options.getOrDefault("depths", "1,5,10,15,20,27").split(",")) {
+            depths.add(Integer.parseInt(depth.trim()));
+        }
+        List<Race> races = parseList(options.getOrDefault("races", "ALL"), Race.values(), Race::valueOf);
+        List<WeaponType> weapons = parseWeapons(options.getOrDefault("weapons", "ALL"));
+
+        // Build scenarios
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int depth : depths) {
+            List<RobotTemplate> templates = RobotTemplate.getForDepth(depth);
+            MonsterStatBlock[] roster = new MonsterStatBlock[templates.size()];
+            for (int i = 0; i < roster.length; i++) {
+                roster[i] = MonsterStatBlock.fromTemplate(templates.get(i), depth);
+            }
+            for (Race race : races) {
+                for (WeaponType weapon : weapons) {
+                    scenarios.add(new Scenario(scenarios.size(),
+                        PlayerStatBlock.forDepth(race, weapon, depth), roster, depth));
+                }
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "Simulating %d scenarios x %d fights (%d total) on %d threads, seed %d%n",
+            scenarios.size(), fights, (long) scenarios.size() * fights, threads, seed);
+
+        // Run
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<FightTask> tasks = new ArrayList<>();
+            for (Scenario scenario : scenarios) {
+                tasks.add(new FightTask(scenario, seed, packSize, 0, fights));
+            }
+            pool.submit(() -> {
+                for (int i = 0; i < tasks.size(); i++) {
+                    tasks.get(i).fork();
+                }
+                for (int i = 0; i < tasks.size(); i++) {
+                    scenarios.get(i).stats.merge(tasks.get(i).join());
+                }
+            }).join();
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long total = (long) scenarios.size() * fights;
+        System.out.printf(Locale.ROOT, "Done in %.2fs (%.0f fights/s)%n", seconds, total / seconds);
+
+        // Report
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("race,weapon,depth," + FIELDS);
+            for (Scenario s : scenarios) {
+                writer.println(s.player.getRace().name() + "," + csv(s.player.getWeaponName()) + "," + s.depth + ","
+                    + row(s.stats));
+            }
+        }
+        writeMarginal(sibling(out, "by-race"), "race", scenarios, s -> s.player.getRace().name());
+        writeMarginal(sibling(out, "by-weapon"), "weapon", scenarios, s -> csv(s.player.getWeaponName()));
+        writeMarginal(sibling(out, "by-depth"), "depth", scenarios, s -> Integer.toString(s.depth));
+
+        System.out.println("Reports written next to " + out.toAbsolutePath());
+    }
+
+    private static final String FIELDS = "fights,win_rate,timeouts,turns_mean,turns_p50,turns_p90,"
+        + "hit_mean,hit_p10,hit_p50,hit_p90,damage_taken_mean";
+
+    private static String row(FightStats stats) {
+        return String.format(Locale.ROOT, "%d,%.4f,%d,%.2f,%d,%d,%.2f,%d,%d,%d,%.2f",
+            stats.getFights(), stats.getWinRate(), stats.getTimeouts(),
+            stats.getMeanTurnsToKill(), stats.getTurnsToKillPercentile(0.5), stats.getTurnsToKillPercentile(0.9),
+            stats.getMeanHitDamage(), stats.getHitDamagePercentile(0.1), stats.getHitDamagePercentile(0.5),
+            stats.getHitDamagePercentile(0.9), stats.getMeanDamageTaken());
+    }
+
+    /**
+     * Merge scenario results by one key and write them as CSV
+     */
+    private static void writeMarginal(Path path, String keyName, List<Scenario> scenarios,
+                                      Function<Scenario, String> key) throws IOException {
+        Map<String, FightStats> merged = new LinkedHashMap<>();
+        for (Scenario s : scenarios) {
+            merged.computeIfAbsent(key.apply(s), k -> new FightStats()).merge(s.stats);
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.println(keyName + "," + FIELDS);
+            for (Map.Entry<String, FightStats> entry : merged.entrySet()) {
+                writer.println(entry.getKey() + "," + row(entry.getValue()));
+            }
+        }
+    }
+
+    private static Path sibling(Path csv, String suffix) {
+        String name = csv.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return csv.resolveSibling(base + "-" + suffix + ".csv");
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") ? "\"" + value + "\"" : value;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static <T> List<T> parseList(String value, T[] all, Function<String, T> parser) {
+        if (value.equalsIgnoreCase("ALL")) {
+            return List.of(all);
+        }
+        List<T> result = new ArrayList<>();
+        for (String name : value.split(",")) {
+            result.add(parser.apply(name.trim().toUpperCase(Locale.ROOT)));
+        }
+        return result;
+    }
+
+    /**
+     * Weapons to test; null stands for unarmed
+     */
+    private static List<WeaponType> parseWeapons(String value) {
+        List<WeaponType> result = new ArrayList<>();
+        if (value.equalsIgnoreCase("ALL")) {
+            result.add(null);
+            result.addAll(List.of(WeaponType.values()));
+            return result;
+        }
+        for (String name : value.split(",")) {
+            String upper = name.trim().toUpperCase(Locale.ROOT);
+            result.add(upper.equals("UNARMED") ? null : WeaponType.valueOf(upper));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package com.wasteland.simulation;
+
+import com.wasteland.WastelandRandom;
+import com.wasteland.combat.CombatMath;
+
+/**
+ * Headless re-implementation of a turn-based fight (CombatManager + EnemyAI)
+ * on plain stat blocks. Uses the same formulas as live combat via CombatMath.
+ *
+ * Assumptions, matching the live defaults:
+ * - Everyone starts adjacent, so every turn is an attack (no movement turns)
+ * - Turn order is player first, then enemies (all combatants have speed 10)
+ * - The player always attacks the first living enemy (auto-selected target)
+ * - Player attacks are physical ("player" damage source): robot physical
+ *   resistance, then vanilla armor absorption
+ * - Enemy attacks only go through the player's vanilla armor (Normal difficulty)
+ */
+public final class CombatSimulator {
+
+    private CombatSimulator() {}
+
+    /**
+     * Simulate one fight against a pack of identical enemies and record the outcome
+     * @param enemyHealth Scratch array of at least packSize entries (reused between fights)
+     */
+    public static void fight(PlayerStatBlock player, MonsterStatBlock enemy, int packSize,
+                             WastelandRandom random, float[] enemyHealth, FightStats stats) {
+        float playerHealth = player.getMaxHealth();
+        for (int i = 0; i < packSize; i++) {
+            enemyHealth[i] = enemy.getMaxHealth();
+        }
+        int aliveEnemies = packSize;
+        int target = 0;
+        float damageTaken = 0;
+
+        for (int turn = 1; turn <= FightStats.MAX_TURNS; turn++) {
+            // Player turn
+            int rolled = CombatMath.playerHitDamage(player.getAttackDamage(), random.nextDouble());
+            float dealt = CombatMath.applyResistance(rolled, enemy.getPhysicalResistance());
+            dealt = CombatMath.armorAbsorb(dealt, enemy.getArmor(), 0.0f);
+            stats.recordHit(dealt);
+
+            enemyHealth[target] -= dealt;
+            if (enemyHealth[target] <= 0) {
+                aliveEnemies--;
+                if (aliveEnemies == 0) {
+                    stats.recordFight(true, false, turn, damageTaken);
+                    return;
+                }
+                target++;
+            }
+
+            // Enemy turns
+            for (int i = target; i < packSize; i++) {
+                float hit = CombatMath.enemyHitDamage(enemy.getAttackDamage(), random.nextDouble());
+                hit = CombatMath.armorAbsorb(hit, player.getArmor(), 0.0f);
+                playerHealth -= hit;
+                damageTaken += hit;
+                if (playerHealth <= 0) {
+                    stats.recordFight(false, false, turn, damageTaken);
+                    return;
+                }
+            }
+        }
+
+        stats.recordFight(false, true, FightStats.MAX_TURNS, damageTaken);
+    }
+}
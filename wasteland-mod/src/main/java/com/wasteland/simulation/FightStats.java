@@ -0,0 +1,134 @@
+package com.wasteland.simulation;
+
+/**
+ * Aggregated results of many simulated fights.
+ * Distributions are kept as fixed histograms so partial results from
+ * worker threads can be merged cheaply.
+ */
+public final class FightStats {
+    public static final int MAX_TURNS = 500;  // Fights running longer count as losses
+    private static final int MAX_DAMAGE = 255; // Histogram cap for a single hit
+
+    private long fights;
+    private long wins;
+    private long timeouts;
+    private long playerHits;
+    private long damageTakenTotal;
+    private final long[] turnsToKill = new long[MAX_TURNS + 1]; // Won fights only
+    private final long[] hitDamage = new long[MAX_DAMAGE + 1];  // Player hits after mitigation
+
+    /**
+     * Record one finished fight
+     */
+    void recordFight(boolean won, boolean timedOut, int turns, float damageTaken) {
+        fights++;
+        if (won) {
+            wins++;
+            turnsToKill[Math.min(turns, MAX_TURNS)]++;
+        }
+        if (timedOut) {
+            timeouts++;
+        }
+        damageTakenTotal += Math.round(damageTaken);
+    }
+
+    /**
+     * Record the damage of one player hit
+     */
+    void recordHit(float damage) {
+        playerHits++;
+        hitDamage[Math.min(Math.round(damage), MAX_DAMAGE)]++;
+    }
+
+    /**
+     * Add another set of results into this one
+     */
+    public FightStats merge(FightStats other) {
+        fights += other.fights;
+        wins += other.wins;
+        timeouts += other.timeouts;
+        playerHits += other.playerHits;
+        damageTakenTotal += other.damageTakenTotal;
+        for (int i = 0; i < turnsToKill.length; i++) {
+            turnsToKill[i] += other.turnsToKill[i];
+        }
+        for (int i = 0; i < hitDamage.length; i++) {
+            hitDamage[i] += other.hitDamage[i];
+        }
+        return this;
+    }
+
+    public long getFights() {
+        return fights;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public double getWinRate() {
+        return fights == 0 ? 0.0 : (double) wins / fights;
+    }
+
+    public double getMeanTurnsToKill() {
+        return mean(turnsToKill);
+    }
+
+    /**
+     * Turns-to-kill percentile over won fights (0.5 = median)
+     */
+    public int getTurnsToKillPercentile(double p) {
+        return percentile(turnsToKill, p);
+    }
+
+    public double getMeanHitDamage() {
+        return mean(hitDamage);
+    }
+
+    /**
+     * Per-hit damage percentile (0.5 = median)
+     */
+    public int getHitDamagePercentile(double p) {
+        return percentile(hitDamage, p);
+    }
+
+    /**
+     * Average damage the player took per fight
+     */
+    public double getMeanDamageTaken() {
+        return fights == 0 ? 0.0 : (double) damageTakenTotal / fights;
+    }
+
+    private static double mean(long[] histogram) {
+        long count = 0;
+        double sum = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            count += histogram[i];
+            sum += (double) i * histogram[i];
+        }
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    private static int percentile(long[] histogram, double p) {
+        long count = 0;
+        for (long c : histogram) {
+            count += c;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(p * count);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return histogram.length - 1;
+    }
+}
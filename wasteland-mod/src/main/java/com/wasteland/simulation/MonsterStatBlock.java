@@ -0,0 +1,56 @@
+package com.wasteland.simulation;
+
+import com.wasteland.entity.RobotTemplate;
+import com.wasteland.monsters.MonsterScalingSystem;
+
+/**
+ * Immutable snapshot of an enemy's combat stats at a given area level.
+ */
+public final class MonsterStatBlock {
+    private final String name;
+    private final float maxHealth;
+    private final float attackDamage;
+    private final float armor;
+    private final double physicalResistance;
+
+    public MonsterStatBlock(String name, float maxHealth, float attackDamage, float armor, double physicalResistance) {
+        this.name = name;
+        this.maxHealth = maxHealth;
+        this.attackDamage = attackDamage;
+        this.armor = armor;
+        this.physicalResistance = physicalResistance;
+    }
+
+    /**
+     * Robot stats after MonsterScalingSystem scaling for the given area level
+     */
+    public static MonsterStatBlock fromTemplate(RobotTemplate template, int level) {
+        return new MonsterStatBlock(
+            template.getDisplayName(),
+            (float) MonsterScalingSystem.getScaledHealth(template.getMaxHealth(), level),
+            (float) MonsterScalingSystem.getScaledDamage(template.getAttackDamage(), level),
+            (float) MonsterScalingSystem.getScaledArmor(template.getArmor(), level),
+            template.getArmorClass().getPhysicalResistance()
+        );
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public float getMaxHealth() {
+        return maxHealth;
+    }
+
+    public float getAttackDamage() {
+        return attackDamage;
+    }
+
+    public float getArmor() {
+        return armor;
+    }
+
+    public double getPhysicalResistance() {
+        return physicalResistance;
+    }
+}
@@ -0,0 +1,110 @@
+package com.wasteland.simulation;
+
+import com.wasteland.character.PlayerCharacter;
+import com.wasteland.character.Race;
+import com.wasteland.character.Skill;
+import com.wasteland.combat.CombatMath;
+import com.wasteland.equipment.WeaponType;
+import com.wasteland.loot.WastelandWeapon;
+
+/**
+ * Immutable snapshot of everything a player brings to a fight.
+ * Built either from a live character or synthesised for a race/weapon/depth.
+ */
+public final class PlayerStatBlock {
+    // Live combat damages the Minecraft player, whose health is 20 by default
+    public static final float DEFAULT_HEALTH = 20.0f;
+
+    private final Race race;
+    private final WeaponType weapon; // null = unarmed
+    private final int strength;
+    private final int skillLevel;    // Weapon skill, or Unarmed Combat if unarmed
+    private final int enchantment;
+    private final int slaying;
+    private final float maxHealth;
+    private final float armor;
+    private final int attackDamage;  // Pre-variance damage, precomputed
+
+    public PlayerStatBlock(Race race, WeaponType weapon, int strength, int skillLevel,
+                           int enchantment, int slaying, float maxHealth, float armor) {
+        this.race = race;
+        this.weapon = weapon;
+        this.strength = strength;
+        this.skillLevel = skillLevel;
+        this.enchantment = enchantment;
+        this.slaying = slaying;
+        this.maxHealth = maxHealth;
+        this.armor = armor;
+        this.attackDamage = weapon != null
+            ? CombatMath.weaponDamage(weapon.getBaseDamage(), enchantment, slaying, strength, skillLevel)
+            : CombatMath.unarmedDamage(strength, skillLevel);
+    }
+
+    /**
+     * Typical character of a race reaching the given dungeon depth:
+     * weapon skill equal to depth (max 27), +1 enchantment every 4 depths, base stats
+     */
+    public static PlayerStatBlock forDepth(Race race, WeaponType weapon, int depth) {
+        int strength = 8 + race.getStrengthModifier();
+        int skill = Math.min(27, Math.max(0, depth));
+        int enchantment = weapon != null ? depth / 4 : 0;
+        return new PlayerStatBlock(race, weapon, strength, skill, enchantment, 0, DEFAULT_HEALTH, 0.0f);
+    }
+
+    /**
+     * Snapshot a live character and its equipped weapon (null = unarmed)
+     */
+    public static PlayerStatBlock fromCharacter(PlayerCharacter character, WastelandWeapon weapon, float maxHealth, float armor) {
+        if (weapon == null) {
+            return new PlayerStatBlock(character.getRace(), null, character.getStrength(),
+                character.getSkillLevel(Skill.UNARMED_COMBAT), 0, 0, maxHealth, armor);
+        }
+        WeaponType type = weapon.getWeaponType();
+        return new PlayerStatBlock(character.getRace(), type, character.getStrength(),
+            character.getSkillLevel(type.getSkill()), weapon.getEnchantmentLevel(), weapon.getTotalSlaying(),
+            maxHealth, armor);
+    }
+
+    public Race getRace() {
+        return race;
+    }
+
+    public WeaponType getWeapon() {
+        return weapon;
+    }
+
+    public String getWeaponName() {
+        return weapon != null ? weapon.getDisplayName() : "Unarmed";
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getSkillLevel() {
+        return skillLevel;
+    }
+
+    public int getEnchantment() {
+        return enchantment;
+    }
+
+    public int getSlaying() {
+        return slaying;
+    }
+
+    public float getMaxHealth() {
+        return maxHealth;
+    }
+
+    public float getArmor() {
+        return armor;
+    }
+
+    /**
+     * Damage per attack before variance and target mitigation
+     */
+    public int getAttackDamage() {
+        return attackDamage;
+    }
+}
@@ -1,22 +1,28 @@
 package com.wasteland.statuseffects;
 
+import net.minecraft.nbt.CompoundTag;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
 
 /**
- * Tracks a player's active status effects with durations
+ * Tracks a player's active status effects with durations.
+ *
+ * Each effect stores the absolute game time it ends at, so nothing counts down per tick;
+ * StatusEffectManager keeps a queue of upcoming expirations and only touches effects
+ * that actually end.
  */
 public class PlayerStatusEffects {
     private static final Logger LOGGER = LogManager.getLogger();
 
     private final UUID playerId;
-    private final Map<StatusEffect, Integer> activeEffects; // Effect -> remaining ticks
+    private final Map<StatusEffect, Long> activeEffects; // Effect -> game time it expires at
+    private int version; // Bumped when the set of active effects changes, checked by cached derived stats
 
     public PlayerStatusEffects(UUID playerId) {
         this.playerId = playerId;
-        this.activeEffects = new HashMap<>();
+        this.activeEffects = new EnumMap<>(StatusEffect.class);
     }
 
     /**
@@ -33,7 +39,11 @@ public class PlayerStatusEffects {
         }
 
         // Add or refresh the effect
-        activeEffects.put(effect, durationTicks);
+        long expiresAt = StatusEffectManager.getGameTime() + durationTicks;
+        if (activeEffects.put(effect, expiresAt) == null) {
+            version++;
+        }
+        StatusEffectManager.scheduleExpiry(this, effect, expiresAt);
         LOGGER.info("Player {} gained {} for {} ticks",
                    playerId, effect.getDisplayName(), durationTicks);
         return true;
@@ -51,6 +61,7 @@ public class PlayerStatusEffects {
      */
     public void removeEffect(StatusEffect effect) {
         if (activeEffects.remove(effect) != null) {
+            version++;
             LOGGER.info("Player {} lost {}", playerId, effect.getDisplayName());
         }
     }
@@ -66,38 +77,38 @@ public class PlayerStatusEffects {
      * Get remaining duration for an effect (in ticks)
      */
     public int getRemainingDuration(StatusEffect effect) {
-        return activeEffects.getOrDefault(effect, 0);
+        Long expiresAt = activeEffects.get(effect);
+        return expiresAt != null ? remainingTicks(expiresAt) : 0;
     }
 
     /**
-     * Get all active effects
+     * Get all active effects (effect -> remaining ticks)
      */
     public Map<StatusEffect, Integer> getActiveEffects() {
-        return new HashMap<>(activeEffects);
+        Map<StatusEffect, Integer> remaining = new EnumMap<>(StatusEffect.class);
+        for (Map.Entry<StatusEffect, Long> entry : activeEffects.entrySet()) {
+            remaining.put(entry.getKey(), remainingTicks(entry.getValue()));
+        }
+        return remaining;
     }
 
     /**
-     * Update all effect durations (call every tick)
-     * Returns list of effects that expired this tick
+     * Remove an effect if it is still due to end at the given time (called by the expiry queue;
+     * false if the effect was refreshed or removed since that expiry was scheduled)
      */
-    public List<StatusEffect> tick() {
-        List<StatusEffect> expired = new ArrayList<>();
-
-        Iterator<Map.Entry<StatusEffect, Integer>> iterator = activeEffects.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<StatusEffect, Integer> entry = iterator.next();
-            int newDuration = entry.getValue() - 1;
-
-            if (newDuration <= 0) {
-                expired.add(entry.getKey());
-                iterator.remove();
-                LOGGER.debug("Player {} - {} expired", playerId, entry.getKey().getDisplayName());
-            } else {
-                entry.setValue(newDuration);
-            }
+    boolean expire(StatusEffect effect, long expiresAt) {
+        Long current = activeEffects.get(effect);
+        if (current == null || current != expiresAt) {
+            return false;
         }
+        activeEffects.remove(effect);
+        version++;
+        LOGGER.debug("Player {} - {} expired", playerId, effect.getDisplayName());
+        return true;
+    }
 
-        return expired;
+    private static int remainingTicks(long expiresAt) {
+        return (int) Math.max(0, expiresAt - StatusEffectManager.getGameTime());
     }
 
     /**
@@ -105,6 +116,7 @@ public class PlayerStatusEffects {
      */
     public void clearAllEffects() {
         activeEffects.clear();
+        version++;
         LOGGER.info("Cleared all status effects for player {}", playerId);
     }
 
@@ -121,7 +133,7 @@ public class PlayerStatusEffects {
 
         // Sort by type
         Map<EffectType, List<Map.Entry<StatusEffect, Integer>>> byType = new HashMap<>();
-        for (Map.Entry<StatusEffect, Integer> entry : activeEffects.entrySet()) {
+        for (Map.Entry<StatusEffect, Integer> entry : getActiveEffects().entrySet()) {
             EffectType type = entry.getKey().getType();
             byType.computeIfAbsent(type, k -> new ArrayList<>()).add(entry);
         }
@@ -157,7 +169,45 @@ public class PlayerStatusEffects {
             .count();
     }
 
+    /**
+     * Save active effects to NBT (effect name -> remaining ticks, so saves don't depend on the world clock)
+     */
+    public CompoundTag saveToNBT() {
+        CompoundTag nbt = new CompoundTag();
+        for (Map.Entry<StatusEffect, Long> entry : activeEffects.entrySet()) {
+            nbt.putInt(entry.getKey().name(), remainingTicks(entry.getValue()));
+        }
+        return nbt;
+    }
+
+    /**
+     * Load active effects from NBT (replaces current effects)
+     */
+    public void loadFromNBT(CompoundTag nbt) {
+        activeEffects.clear();
+        long now = StatusEffectManager.getGameTime();
+        for (String key : nbt.getAllKeys()) {
+            try {
+                StatusEffect effect = StatusEffect.valueOf(key);
+                long expiresAt = now + nbt.getInt(key);
+                activeEffects.put(effect, expiresAt);
+                StatusEffectManager.scheduleExpiry(this, effect, expiresAt);
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Unknown status effect in save data: {}", key);
+            }
+        }
+        version++;
+    }
+
     public UUID getPlayerId() {
         return playerId;
     }
+
+    /**
+     * Change counter, incremented when an effect is gained, removed or expires
+     * (refreshing an active effect's duration does not change it)
+     */
+    public int getVersion() {
+        return version;
+    }
 }
@@ -1,19 +1,75 @@
 package com.wasteland.statuseffects;
 
+import com.wasteland.WastelandMod;
+import com.wasteland.character.CharacterManager;
+import com.wasteland.character.PlayerCharacter;
+import com.wasteland.player.PlayerStateStore;
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStartingEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.common.Mod;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.List;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * Manages status effects for all players
+ * Manages status effects for all players.
+ *
+ * Effects end at an absolute game time. Every add or refresh pushes that time onto a
+ * server-wide min-heap, so a tick only pops the expirations that are due instead of
+ * walking every player's effects. Entries made stale by a refresh, removal or logout
+ * are skipped when they come up.
+ *
+ * The heap is only touched on the server thread. Effects are still in a shared store
+ * (the client GUI can add them), so expiries scheduled from the client thread are handed
+ * over through a concurrent queue and moved into the heap at the next server tick; on a
+ * remote client, with no server to expire them, they are not queued at all.
  */
+@Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class StatusEffectManager {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Map<UUID, PlayerStatusEffects> EFFECTS = new HashMap<>();
+    private static final PlayerStateStore<PlayerStatusEffects> EFFECTS = PlayerStateStore.shared("status_effects");
+
+    /**
+     * A scheduled end of one effect on one player
+     */
+    private static final class Expiry {
+        final PlayerStatusEffects effects;
+        final StatusEffect effect;
+        final long expiresAt;
+
+        Expiry(PlayerStatusEffects effects, StatusEffect effect, long expiresAt) {
+            this.effects = effects;
+            this.effect = effect;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Upcoming expirations, earliest first (server thread only)
+    private static final PriorityQueue<Expiry> EXPIRIES =
+        new PriorityQueue<>(Comparator.comparingLong((Expiry expiry) -> expiry.expiresAt));
+
+    // Expirations scheduled from the client thread, drained into EXPIRIES on the server tick
+    private static final Queue<Expiry> CLIENT_EXPIRIES = new ConcurrentLinkedQueue<>();
+
+    // Overworld game time as of the current server tick
+    private static volatile long gameTime;
+
+    // Client level game time as of the current client tick (used when no local server runs)
+    private static volatile long clientGameTime;
+
+    // Whether this JVM is running a server that ticks EXPIRIES
+    private static volatile boolean serverRunning;
 
     /**
      * Get or create player status effects
@@ -70,14 +126,6 @@ public class StatusEffectManager {
         return effects.getActiveEffects();
     }
 
-    /**
-     * Update all effects for a player (call every tick)
-     */
-    public static List<StatusEffect> tick(UUID playerId) {
-        PlayerStatusEffects effects = getEffects(playerId);
-        return effects.tick();
-    }
-
     /**
      * Clear all effects for a player
      */
@@ -91,19 +139,98 @@ public class StatusEffectManager {
      */
     public static void removeEffects(UUID playerId) {
         EFFECTS.remove(playerId);
+
+        // Cached stats hold the removed object, make them pick up a fresh one
+        PlayerCharacter character = CharacterManager.getCharacter(playerId);
+        if (character != null) {
+            character.invalidateDerivedStats();
+        }
         LOGGER.debug("Removed status effect data for player {}", playerId);
     }
 
     /**
-     * Update all player effects (call from server tick event)
+     * Game time effect expiries are measured against (the server's clock when one runs
+     * in this JVM, otherwise the client level's)
+     */
+    public static long getGameTime() {
+        return serverRunning ? gameTime : clientGameTime;
+    }
+
+    /**
+     * Queue the end of an effect (called by PlayerStatusEffects when an effect is added or loaded)
+     */
+    static void scheduleExpiry(PlayerStatusEffects effects, StatusEffect effect, long expiresAt) {
+        Expiry expiry = new Expiry(effects, effect, expiresAt);
+        if (PlayerStateStore.currentSide() == LogicalSide.SERVER) {
+            EXPIRIES.add(expiry);
+        } else if (serverRunning) {
+            CLIENT_EXPIRIES.add(expiry);
+        }
+    }
+
+    /**
+     * Expire every effect that is due (called from the server tick)
      */
     public static void tickAllPlayers() {
-        for (PlayerStatusEffects effects : EFFECTS.values()) {
-            List<StatusEffect> expired = effects.tick();
+        Expiry next;
+        while ((next = CLIENT_EXPIRIES.poll()) != null) {
+            EXPIRIES.add(next);
+        }
+
+        while ((next = EXPIRIES.peek()) != null && next.expiresAt <= gameTime) {
+            EXPIRIES.poll();
+
+            // Skip players that logged out since (their effects object was dropped)
+            UUID playerId = next.effects.getPlayerId();
+            if (EFFECTS.get(playerId) != next.effects) {
+                continue;
+            }
 
             // Handle special expiration effects
-            for (StatusEffect effect : expired) {
-                handleExpiration(effects.getPlayerId(), effect);
+            if (next.effects.expire(next.effect, next.expiresAt)) {
+                handleExpiration(playerId, next.effect);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStarting(ServerStartingEvent event) {
+        gameTime = event.getServer().overworld().getGameTime();
+        EXPIRIES.clear();
+        CLIENT_EXPIRIES.clear();
+        serverRunning = true;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.START) {
+            return;
+        }
+        gameTime = event.getServer().overworld().getGameTime();
+        tickAllPlayers();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        serverRunning = false;
+        EXPIRIES.clear();
+        CLIENT_EXPIRIES.clear();
+    }
+
+    /**
+     * Client clock, kept in its own class so the dedicated server never loads Minecraft
+     */
+    @Mod.EventBusSubscriber(modid = WastelandMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
+    public static class ClientClock {
+
+        @SubscribeEvent
+        public static void onClientTick(TickEvent.ClientTickEvent event) {
+            if (event.phase != TickEvent.Phase.START) {
+                return;
+            }
+            Minecraft mc = Minecraft.getInstance();
+            if (mc.level != null) {
+                clientGameTime = mc.level.getGameTime();
             }
         }
     }
@@ -1,5 +1,7 @@
 package com.wasteland.statuseffects;
 
+import com.wasteland.character.ModifierStack;
+import com.wasteland.character.StatId;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -230,6 +232,15 @@ public class StatusEffects {
         return bonus;
     }
 
+    /**
+     * Register the status effect stat modifiers DerivedStats reads (STR/DEX/INT, including god-granted buffs)
+     */
+    public static void contributeModifiers(UUID playerId, ModifierStack.Contribution contribution) {
+        contribution.add(StatId.STRENGTH, getStrengthModifier(playerId))
+                .add(StatId.DEXTERITY, getDexterityModifier(playerId))
+                .add(StatId.INTELLIGENCE, getIntelligenceModifier(playerId));
+    }
+
     /**
      * Get a summary of all active status effect modifiers
      */
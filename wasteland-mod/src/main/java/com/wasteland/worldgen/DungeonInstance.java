@@ -1,5 +1,6 @@
 package com.wasteland.worldgen;
 
+import com.wasteland.WastelandRandom;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import org.apache.logging.log4j.LogManager;
@@ -18,7 +19,6 @@ import java.util.*;
  */
 public class DungeonInstance {
     private static final Logger LOGGER = LogManager.getLogger();
-    private static final Random RANDOM = new Random();
 
     // Max level chances - only small % of dungeons get max levels
     private static final double MAX_LEVEL_CHANCE_COMMON = 0.10;    // 10% for common dungeons
@@ -38,6 +38,7 @@ public class DungeonInstance {
     private boolean hasMaxLevels;
     private RuneType rune;  // null if not a max-level dungeon
     private boolean runeCollected;
+    private final WastelandRandom random;  // Keyed by entrance, so the same world rolls the same dungeon
 
     /**
      * Create a new dungeon instance
@@ -46,6 +47,7 @@ public class DungeonInstance {
         this.id = UUID.randomUUID();
         this.type = type;
         this.entrancePos = entrancePos;
+        this.random = WastelandRandom.forDungeon(entrancePos.asLong());
         this.hasMaxLevels = determineIfMaxLevel();
         this.numLevels = generateNumLevels();
         this.rune = hasMaxLevels ? assignRune() : null;
@@ -73,7 +75,7 @@ public class DungeonInstance {
             chance = MAX_LEVEL_CHANCE_VERY_RARE;
         }
 
-        return RANDOM.nextDouble() < chance;
+        return random.nextDouble() < chance;
     }
 
     /**
@@ -82,12 +84,12 @@ public class DungeonInstance {
     private int generateNumLevels() {
         if (hasMaxLevels) {
             // Max-level dungeons: 10-15 levels
-            return 10 + RANDOM.nextInt(6);
+            return 10 + random.nextInt(6);
         } else {
             // Normal dungeons: 1-10 levels (weighted toward middle)
             // Use triangular distribution for more realistic variety
-            int a = RANDOM.nextInt(NORMAL_MAX_LEVELS) + 1;
-            int b = RANDOM.nextInt(NORMAL_MAX_LEVELS) + 1;
+            int a = random.nextInt(NORMAL_MAX_LEVELS) + 1;
+            int b = random.nextInt(NORMAL_MAX_LEVELS) + 1;
             return Math.min(a, b) + 1;  // Favors shorter dungeons slightly
         }
     }
@@ -100,13 +102,13 @@ public class DungeonInstance {
         // Prefer runes that match the dungeon type thematically
         List<RuneType> suitableRunes = getSuitableRunes();
 
-        if (!suitableRunes.isEmpty() && RANDOM.nextDouble() < 0.7) {
+        if (!suitableRunes.isEmpty() && random.nextDouble() < 0.7) {
             // 70% chance to use a thematically appropriate rune
-            return suitableRunes.get(RANDOM.nextInt(suitableRunes.size()));
+            return suitableRunes.get(random.nextInt(suitableRunes.size()));
         } else {
             // 30% chance for any random rune
             RuneType[] allRunes = RuneType.values();
-            return allRunes[RANDOM.nextInt(allRunes.length)];
+            return allRunes[random.nextInt(allRunes.length)];
         }
     }
 
@@ -146,12 +148,21 @@ public class DungeonInstance {
     public RuneType getRune() { return rune; }
     public boolean isRuneCollected() { return runeCollected; }
 
+    /**
+     * Random stream for one floor of this dungeon (vault choice, monsters, loot).
+     * The same floor always gets the same stream.
+     */
+    public WastelandRandom getFloorRandom(int floor) {
+        return WastelandRandom.forFloor(entrancePos.asLong(), floor);
+    }
+
     /**
      * Mark the rune as collected
      */
     public void collectRune() {
         if (hasMaxLevels && !runeCollected) {
             runeCollected = true;
+            DungeonManager.markChanged(id);
             LOGGER.info("Rune collected from {}: {}", type.getDisplayName(), rune);
         }
     }
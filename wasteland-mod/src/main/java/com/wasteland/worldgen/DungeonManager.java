@@ -20,6 +20,11 @@ public class DungeonManager {
     private static final Map<UUID, DungeonInstance> DUNGEONS = new HashMap<>();
     private static final Map<BlockPos, UUID> ENTRANCE_POSITIONS = new HashMap<>();
 
+    // Save journal: serialised tag per dungeon, re-serialised only when the dungeon changes
+    private static final Map<UUID, CompoundTag> SAVED_TAGS = new HashMap<>();
+    private static final Set<UUID> CHANGED = new HashSet<>();
+    private static CompoundTag savedSection; // Last section written, null while there are unsaved changes
+
     // Configuration
     private static final int DUNGEON_SPACING = 500;  // Min blocks between dungeons
     private static final int DUNGEONS_PER_REGION = 0;  // Average dungeons per USA region (TEMPORARILY DISABLED FOR TESTING)
@@ -31,6 +36,7 @@ public class DungeonManager {
         DungeonInstance dungeon = new DungeonInstance(type, entrancePos);
         DUNGEONS.put(dungeon.getId(), dungeon);
         ENTRANCE_POSITIONS.put(entrancePos, dungeon.getId());
+        markChanged(dungeon.getId());
 
         LOGGER.info("Registered dungeon: {} at {} ({} levels, max={})",
             type.getDisplayName(), entrancePos, dungeon.getNumLevels(), dungeon.hasMaxLevels());
@@ -149,21 +155,50 @@ public class DungeonManager {
     }
 
     /**
-     * Save all dungeons to NBT
+     * Record that a dungeon's saved state changed (registered, rune collected, ...)
      */
-    public static CompoundTag save(CompoundTag tag) {
-        ListTag dungeonsList = new ListTag();
+    static void markChanged(UUID id) {
+        CHANGED.add(id);
+        savedSection = null;
+    }
 
-        for (DungeonInstance dungeon : DUNGEONS.values()) {
-            CompoundTag dungeonTag = new CompoundTag();
-            dungeon.save(dungeonTag);
-            dungeonsList.add(dungeonTag);
+    /**
+     * Check if any dungeon changed since the last save or load
+     */
+    public static boolean hasUnsavedChanges() {
+        return savedSection == null;
+    }
+
+    /**
+     * Build the dungeons section for the world save. Only dungeons changed since the last
+     * save are re-serialised; if nothing changed the previous section is returned as is.
+     * The returned tag is shared and must not be modified.
+     */
+    public static CompoundTag save() {
+        if (savedSection != null) {
+            return savedSection;
+        }
+
+        for (UUID id : CHANGED) {
+            DungeonInstance dungeon = DUNGEONS.get(id);
+            if (dungeon != null) {
+                SAVED_TAGS.put(id, dungeon.save(new CompoundTag()));
+            } else {
+                SAVED_TAGS.remove(id);
+            }
         }
+        int reserialised = CHANGED.size();
+        CHANGED.clear();
+
+        ListTag dungeonsList = new ListTag();
+        dungeonsList.addAll(SAVED_TAGS.values());
 
+        CompoundTag tag = new CompoundTag();
         tag.put("Dungeons", dungeonsList);
         tag.putInt("DungeonCount", DUNGEONS.size());
+        savedSection = tag;
 
-        LOGGER.info("Saved {} dungeons to world data", DUNGEONS.size());
+        LOGGER.info("Saved {} dungeons to world data ({} changed)", DUNGEONS.size(), reserialised);
         return tag;
     }
 
@@ -181,10 +216,14 @@ public class DungeonManager {
                 DungeonInstance dungeon = DungeonInstance.load(dungeonTag);
                 DUNGEONS.put(dungeon.getId(), dungeon);
                 ENTRANCE_POSITIONS.put(dungeon.getEntrancePos(), dungeon.getId());
+                SAVED_TAGS.put(dungeon.getId(), dungeonTag);
             }
 
             LOGGER.info("Loaded {} dungeons from world data", DUNGEONS.size());
         }
+
+        // What was just read is what would be written
+        savedSection = tag;
     }
 
     /**
@@ -193,6 +232,9 @@ public class DungeonManager {
     public static void clearAll() {
         DUNGEONS.clear();
         ENTRANCE_POSITIONS.clear();
+        SAVED_TAGS.clear();
+        CHANGED.clear();
+        savedSection = null;
         LOGGER.info("Cleared all dungeon data");
     }
 
@@ -1,5 +1,7 @@
 package com.wasteland.worldgen;
 
+import com.wasteland.WeightedTable;
+
 /**
  * Types of DCSS dungeons that can be placed in the wasteland.
  * Each has preferred biome/region types.
@@ -80,23 +82,30 @@ public enum DungeonType {
         return false;
     }
 
+    // Suitable types per region, weighted by rarity (built on first use)
+    private static volatile java.util.Map<USARegion, WeightedTable<DungeonType>> regionTables;
+
     /**
-     * Get a random suitable dungeon type for a region
+     * Get a random suitable dungeon type for a region, weighted by rarity
      */
-    public static DungeonType getRandomForRegion(USARegion region, java.util.Random random) {
-        java.util.List<DungeonType> suitable = new java.util.ArrayList<>();
-
-        for (DungeonType type : values()) {
-            if (type.isSuitableFor(region)) {
-                suitable.add(type);
+    public static DungeonType getRandomForRegion(USARegion region, java.util.random.RandomGenerator random) {
+        java.util.Map<USARegion, WeightedTable<DungeonType>> tables = regionTables;
+        if (tables == null) {
+            tables = new java.util.EnumMap<>(USARegion.class);
+            for (USARegion r : USARegion.values()) {
+                WeightedTable.Builder<DungeonType> builder = new WeightedTable.Builder<>();
+                for (DungeonType type : values()) {
+                    if (type.isSuitableFor(r)) {
+                        builder.add(type, type.getRarityWeight());
+                    }
+                }
+                tables.put(r, builder.build());
             }
+            regionTables = tables;
         }
 
-        if (suitable.isEmpty()) {
-            return VAULTS; // Default fallback
-        }
-
-        return suitable.get(random.nextInt(suitable.size()));
+        DungeonType type = tables.get(region).sample(random);
+        return type != null ? type : VAULTS; // Default fallback
     }
 
     /**
@@ -24,6 +24,12 @@ public class StructureManager {
     private static final List<StructureInstance> ALL_STRUCTURES = new ArrayList<>();
     private static final List<BlockPos> NEIGHBORHOOD_CENTERS = new ArrayList<>();
 
+    // Save journal: both lists only grow, so saves serialise just the entries appended
+    // since the last save onto the lists already built
+    private static final ListTag SAVED_STRUCTURES = new ListTag();
+    private static final ListTag SAVED_NEIGHBORHOODS = new ListTag();
+    private static CompoundTag savedSection; // Last section written, null while there are unsaved changes
+
     // Configuration
     private static final int NEIGHBORHOOD_SPACING = 600;  // Min blocks between neighborhoods
     private static final int NEIGHBORHOOD_SIZE = 250;      // Radius of a neighborhood
@@ -90,6 +96,7 @@ public class StructureManager {
                 // Create neighborhood
                 generateNeighborhood(level, groundPos, random);
                 NEIGHBORHOOD_CENTERS.add(groundPos);
+                savedSection = null;
             }
         }
     }
@@ -218,6 +225,7 @@ public class StructureManager {
 
             // Track structure
             ALL_STRUCTURES.add(new StructureInstance(type, pos));
+            savedSection = null;
             LOGGER.debug("Placed {} at {}", type.name(), pos);
         } catch (Exception e) {
             LOGGER.error("Failed to place {} at {}: {}", type.name(), pos, e.getMessage());
@@ -329,32 +337,46 @@ public class StructureManager {
     }
 
     /**
-     * Save all structures to NBT
+     * Check if any structure or neighborhood was added since the last save or load
      */
-    public static CompoundTag save(CompoundTag tag) {
-        ListTag structuresList = new ListTag();
+    public static boolean hasUnsavedChanges() {
+        return savedSection == null;
+    }
 
-        for (StructureInstance structure : ALL_STRUCTURES) {
-            CompoundTag structureTag = new CompoundTag();
-            structure.save(structureTag);
-            structuresList.add(structureTag);
+    /**
+     * Build the structures section for the world save. Only structures and neighborhoods
+     * added since the last save are serialised; if nothing was added the previous section
+     * is returned as is. The returned tag is shared and must not be modified.
+     */
+    public static CompoundTag save() {
+        if (savedSection != null) {
+            return savedSection;
         }
 
-        tag.put("Structures", structuresList);
-        tag.putInt("StructureCount", ALL_STRUCTURES.size());
+        int appended = ALL_STRUCTURES.size() - SAVED_STRUCTURES.size();
+        for (int i = SAVED_STRUCTURES.size(); i < ALL_STRUCTURES.size(); i++) {
+            CompoundTag structureTag = new CompoundTag();
+            ALL_STRUCTURES.get(i).save(structureTag);
+            SAVED_STRUCTURES.add(structureTag);
+        }
 
         // Save neighborhood centers
-        ListTag neighborhoodsList = new ListTag();
-        for (BlockPos center : NEIGHBORHOOD_CENTERS) {
+        for (int i = SAVED_NEIGHBORHOODS.size(); i < NEIGHBORHOOD_CENTERS.size(); i++) {
+            BlockPos center = NEIGHBORHOOD_CENTERS.get(i);
             CompoundTag centerTag = new CompoundTag();
             centerTag.putInt("X", center.getX());
             centerTag.putInt("Y", center.getY());
             centerTag.putInt("Z", center.getZ());
-            neighborhoodsList.add(centerTag);
+            SAVED_NEIGHBORHOODS.add(centerTag);
         }
-        tag.put("Neighborhoods", neighborhoodsList);
 
-        LOGGER.info("Saved {} structures to world data", ALL_STRUCTURES.size());
+        CompoundTag tag = new CompoundTag();
+        tag.put("Structures", SAVED_STRUCTURES);
+        tag.putInt("StructureCount", ALL_STRUCTURES.size());
+        tag.put("Neighborhoods", SAVED_NEIGHBORHOODS);
+        savedSection = tag;
+
+        LOGGER.info("Saved {} structures to world data ({} new)", ALL_STRUCTURES.size(), appended);
         return tag;
     }
 
@@ -371,6 +393,7 @@ public class StructureManager {
                 CompoundTag structureTag = structuresList.getCompound(i);
                 StructureInstance structure = StructureInstance.load(structureTag);
                 ALL_STRUCTURES.add(structure);
+                SAVED_STRUCTURES.add(structureTag);
             }
 
             LOGGER.info("Loaded {} structures from world data", ALL_STRUCTURES.size());
@@ -387,10 +410,14 @@ public class StructureManager {
                     centerTag.getInt("Z")
                 );
                 NEIGHBORHOOD_CENTERS.add(center);
+                SAVED_NEIGHBORHOODS.add(centerTag);
             }
 
             LOGGER.info("Loaded {} neighborhoods from world data", NEIGHBORHOOD_CENTERS.size());
         }
+
+        // What was just read is what would be written
+        savedSection = tag;
     }
 
     /**
@@ -399,6 +426,9 @@ public class StructureManager {
     public static void clearAll() {
         ALL_STRUCTURES.clear();
         NEIGHBORHOOD_CENTERS.clear();
+        SAVED_STRUCTURES.clear();
+        SAVED_NEIGHBORHOODS.clear();
+        savedSection = null;
         LOGGER.info("Cleared all structure data");
     }
 
@@ -9,21 +9,30 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * Saves and loads Wasteland mod data with the world.
+ * Saves and loads world-global Wasteland mod data with the world.
  * This includes:
  * - All dungeon instances and their state
- * - Player rune collections
- * - Player dungeon progression
+ * - Surface structures
+ *
+ * Dungeon and structure sections are journalled by their managers: a save re-serialises
+ * only what changed and reuses the cached tags for the rest, and the data reports itself
+ * dirty whenever either manager has unsaved changes, so callers need not mark it.
+ *
+ * Per-player data (runes, progression, character, ...) lives in PlayerDataStore's
+ * per-player files. Older saves that still carry player runes/progression here are
+ * loaded once and migrated.
  */
 public class WastelandSavedData extends SavedData {
     private static final Logger LOGGER = LogManager.getLogger();
     private static final String DATA_NAME = "wasteland_data";
 
+    private boolean legacyPlayerData = false; // Loaded player sections that still need migrating
+
     /**
-     * Get or create the saved data for a level
+     * Get or create the saved data (always stored with the overworld, whichever level is passed)
      */
     public static WastelandSavedData get(ServerLevel level) {
-        return level.getDataStorage().computeIfAbsent(
+        return level.getServer().overworld().getDataStorage().computeIfAbsent(
             WastelandSavedData::load,
             WastelandSavedData::new,
             DATA_NAME
@@ -46,14 +55,16 @@ public class WastelandSavedData extends SavedData {
             StructureManager.load(tag.getCompound("Structures"));
         }
 
-        // Load player rune data
+        // Load legacy player rune data (migrated to per-player files)
         if (tag.contains("PlayerRunes")) {
             RuneInventory.load(tag.getCompound("PlayerRunes"));
+            data.legacyPlayerData = true;
         }
 
-        // Load player progression data
+        // Load legacy player progression data (migrated to per-player files)
         if (tag.contains("PlayerProgression")) {
             DungeonProgression.load(tag.getCompound("PlayerProgression"));
+            data.legacyPlayerData = true;
         }
 
         LOGGER.info("Loaded Wasteland saved data");
@@ -65,30 +76,37 @@ public class WastelandSavedData extends SavedData {
      */
     @Override
     public CompoundTag save(CompoundTag tag) {
-        // Save dungeon data
-        CompoundTag dungeonsTag = new CompoundTag();
-        DungeonManager.save(dungeonsTag);
-        tag.put("Dungeons", dungeonsTag);
-
-        // Save structure data
-        CompoundTag structuresTag = new CompoundTag();
-        StructureManager.save(structuresTag);
-        tag.put("Structures", structuresTag);
-
-        // Save player rune data
-        CompoundTag runesTag = new CompoundTag();
-        RuneInventory.save(runesTag);
-        tag.put("PlayerRunes", runesTag);
-
-        // Save player progression data
-        CompoundTag progressionTag = new CompoundTag();
-        DungeonProgression.save(progressionTag);
-        tag.put("PlayerProgression", progressionTag);
+        // Sections are cached by the managers and only rebuilt where something changed
+        tag.put("Dungeons", DungeonManager.save());
+        tag.put("Structures", StructureManager.save());
 
         LOGGER.info("Saved Wasteland data to world");
         return tag;
     }
 
+    /**
+     * Dirty when explicitly marked or when a manager has unsaved changes
+     */
+    @Override
+    public boolean isDirty() {
+        return super.isDirty() || DungeonManager.hasUnsavedChanges() || StructureManager.hasUnsavedChanges();
+    }
+
+    /**
+     * Check if this save still contained per-player sections when loaded
+     */
+    public boolean hasLegacyPlayerData() {
+        return legacyPlayerData;
+    }
+
+    /**
+     * Called once legacy player sections are migrated; rewrites the file without them
+     */
+    public void clearLegacyPlayerData() {
+        legacyPlayerData = false;
+        setDirty();
+    }
+
     /**
      * Mark data as dirty (needs to be saved)
      */